@@ -0,0 +1,165 @@
+package org.ideaccum.libs.commons.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.ideaccum.libs.commons.util.HexCodec;
+
+/**
+ * ユニコード表記(&#92;uXXXX)のアスキー文字列を通常の文字に変換しながら入力を行うためのストリーム入力インタフェースを提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.util.StringUtil#ascii2native(String)}と同様の変換を固定サイズのバッファで逐次的に行い、
+ * 巨大なプロパティファイルやリソースバンドルを全体を文字列に展開することなく変換するために利用します。<br>
+ * ユニコード表記以外のエスケープシーケンス(\\、\n等)は変換せずにそのまま提供します。<br>
+ * また、ストリーム末尾でユニコード表記として不完全な文字列は変換せずにそのまま提供します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class Ascii2NativeReader extends Reader {
+
+	/** ユニコード表記長(&#92;uXXXX) */
+	private static final int ESCAPE_LENGTH = 6;
+
+	/** 親入力ストリームオブジェクト */
+	private Reader parent;
+
+	/** 入力バッファ */
+	private char[] buffer;
+
+	/** 入力バッファ参照位置 */
+	private int index;
+
+	/** 入力バッファ有効長 */
+	private int limit;
+
+	/** 親入力ストリーム終端到達フラグ */
+	private boolean eof;
+
+	/** エスケープ対象外文字(\\等の2文字目)待機フラグ */
+	private boolean literal;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param parent 親入力ストリームオブジェクト
+	 * @param size ストリームバッファサイズ
+	 */
+	public Ascii2NativeReader(Reader parent, int size) {
+		super();
+		if (size < ESCAPE_LENGTH) {
+			throw new IllegalArgumentException("buffer size must be " + ESCAPE_LENGTH + " or more (" + size + ")");
+		}
+		this.parent = parent;
+		this.buffer = new char[size];
+		this.index = 0;
+		this.limit = 0;
+		this.eof = false;
+		this.literal = false;
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param parent 親入力ストリームオブジェクト
+	 */
+	public Ascii2NativeReader(Reader parent) {
+		this(parent, 4096);
+	}
+
+	/**
+	 * 入力ストリームを閉じ、そのストリームに関連するすべてのシステムリソースを解放します。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Reader#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		parent.close();
+	}
+
+	/**
+	 * 入力ストリームから配列の一部に文字を読み込みます。<br>
+	 * @param cbuf 読み込み先バッファ
+	 * @param off 読み込み先バッファ開始位置
+	 * @param len 読み込む最大文字数
+	 * @return 読み込まれた文字数、ストリーム終端に達している場合は-1
+	 * @throws IOException 入出力エラーが発生した場合や不正なユニコード表記が含まれる場合にスローされます
+	 * @see java.io.Reader#read(char[], int, int)
+	 */
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off + len > cbuf.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		int count = 0;
+		while (count < len) {
+			if (limit - index < ESCAPE_LENGTH && !eof) {
+				fill();
+			}
+			if (index >= limit) {
+				break;
+			}
+			char c = buffer[index];
+			if (literal || c != '\\') {
+				cbuf[off + count++] = c;
+				index++;
+				literal = false;
+				continue;
+			}
+			if (limit - index < 2 || buffer[index + 1] != 'u' || limit - index < ESCAPE_LENGTH) {
+				// ユニコード表記以外のエスケープ又は、終端の不完全な表記はそのまま提供
+				cbuf[off + count++] = c;
+				index++;
+				literal = limit - index > 0 && buffer[index] != 'u';
+				continue;
+			}
+			int value = 0;
+			for (int i = 2; i <= ESCAPE_LENGTH - 1; i++) {
+				int v = HexCodec.digit(buffer[index + i]);
+				if (v < 0) {
+					throw new IOException("illegal unicode escape sequence (" + new String(buffer, index, ESCAPE_LENGTH) + ")");
+				}
+				value = (value << 4) | v;
+			}
+			cbuf[off + count++] = (char) value;
+			index += ESCAPE_LENGTH;
+		}
+		return count == 0 ? -1 : count;
+	}
+
+	/**
+	 * 入力ストリームが読み込み可能な状態であるか判定します。<br>
+	 * @return 読み込み可能な場合にtrueを返却
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Reader#ready()
+	 */
+	@Override
+	public boolean ready() throws IOException {
+		return index < limit || parent.ready();
+	}
+
+	/**
+	 * 入力バッファの未参照文字を先頭に詰め、親入力ストリームから入力バッファを補充します。<br>
+	 * ユニコード表記1件分の先読みが可能となるか、親入力ストリームの終端に達するまで補充を行います。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	private void fill() throws IOException {
+		if (index > 0) {
+			System.arraycopy(buffer, index, buffer, 0, limit - index);
+			limit -= index;
+			index = 0;
+		}
+		while (limit < ESCAPE_LENGTH) {
+			int length = parent.read(buffer, limit, buffer.length - limit);
+			if (length < 0) {
+				eof = true;
+				break;
+			}
+			limit += length;
+		}
+	}
+}
@@ -0,0 +1,383 @@
+package org.ideaccum.libs.commons.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Javaプリミティブ型とバイナリバイトデータとの相互変換をバイト配列又は、{@link java.nio.ByteBuffer}上の任意の位置で行うインタフェースを提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.io.BinaryConverter}が内部バイト配列の先頭からビッグエンディアンで変換するのに対し、
+ * このクラスでは呼び出し元が指定したバイト配列又は、バッファの任意の位置に対して、明示的に指定されたバイトオーダーで変換を行います。<br>
+ * 変換はプリミティブ型のまま行われ、変換過程においてオブジェクト生成(ボクシングを含む)は行いません。<br>
+ * バッファを対象とするメソッドはバッファの現在位置及び、バイトオーダー設定を変更しません。<br>
+ * 連続したバイナリ構造を順次解析又は、出力する場合は{@link org.ideaccum.libs.commons.io.BinaryCursor}を利用して下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class BinaryCodec {
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private BinaryCodec() {
+		super();
+	}
+
+	/**
+	 * バイト配列の指定位置から指定バイト数を整数値として読み込みます。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param size バイト数(1～8)
+	 * @param order バイトオーダー
+	 * @return 整数値(符号拡張は行われません)
+	 */
+	private static long get(byte[] data, int offset, int size, ByteOrder order) {
+		long value = 0;
+		if (order == ByteOrder.LITTLE_ENDIAN) {
+			for (int i = size - 1; i >= 0; i--) {
+				value = (value << 8) | (data[offset + i] & 0xFF);
+			}
+		} else {
+			for (int i = 0; i <= size - 1; i++) {
+				value = (value << 8) | (data[offset + i] & 0xFF);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * バイト配列の指定位置に整数値の下位から指定バイト数を書き込みます。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param size バイト数(1～8)
+	 * @param value 整数値
+	 * @param order バイトオーダー
+	 */
+	private static void put(byte[] data, int offset, int size, long value, ByteOrder order) {
+		if (order == ByteOrder.LITTLE_ENDIAN) {
+			for (int i = 0; i <= size - 1; i++) {
+				data[offset + i] = (byte) (value >> (8 * i));
+			}
+		} else {
+			for (int i = 0; i <= size - 1; i++) {
+				data[offset + i] = (byte) (value >> (8 * (size - 1 - i)));
+			}
+		}
+	}
+
+	/**
+	 * バイト配列の指定位置からshort値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return short値
+	 */
+	public static short getShort(byte[] data, int offset, ByteOrder order) {
+		return (short) get(data, offset, 2, order);
+	}
+
+	/**
+	 * バイト配列の指定位置から符号なし16ビット値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return 符号なし16ビット値(0～65535)
+	 */
+	public static int getUnsignedShort(byte[] data, int offset, ByteOrder order) {
+		return (int) get(data, offset, 2, order);
+	}
+
+	/**
+	 * バイト配列の指定位置からchar値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return char値
+	 */
+	public static char getChar(byte[] data, int offset, ByteOrder order) {
+		return (char) get(data, offset, 2, order);
+	}
+
+	/**
+	 * バイト配列の指定位置からint値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return int値
+	 */
+	public static int getInt(byte[] data, int offset, ByteOrder order) {
+		return (int) get(data, offset, 4, order);
+	}
+
+	/**
+	 * バイト配列の指定位置から符号なし32ビット値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return 符号なし32ビット値(0～4294967295)
+	 */
+	public static long getUnsignedInt(byte[] data, int offset, ByteOrder order) {
+		return get(data, offset, 4, order);
+	}
+
+	/**
+	 * バイト配列の指定位置からlong値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return long値
+	 */
+	public static long getLong(byte[] data, int offset, ByteOrder order) {
+		return get(data, offset, 8, order);
+	}
+
+	/**
+	 * バイト配列の指定位置からfloat値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return float値
+	 */
+	public static float getFloat(byte[] data, int offset, ByteOrder order) {
+		return Float.intBitsToFloat(getInt(data, offset, order));
+	}
+
+	/**
+	 * バイト配列の指定位置からdouble値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param order バイトオーダー
+	 * @return double値
+	 */
+	public static double getDouble(byte[] data, int offset, ByteOrder order) {
+		return Double.longBitsToDouble(getLong(data, offset, order));
+	}
+
+	/**
+	 * バイト配列の指定位置にshort値を設定します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param value short値
+	 * @param order バイトオーダー
+	 */
+	public static void putShort(byte[] data, int offset, short value, ByteOrder order) {
+		put(data, offset, 2, value, order);
+	}
+
+	/**
+	 * バイト配列の指定位置にchar値を設定します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param value char値
+	 * @param order バイトオーダー
+	 */
+	public static void putChar(byte[] data, int offset, char value, ByteOrder order) {
+		put(data, offset, 2, value, order);
+	}
+
+	/**
+	 * バイト配列の指定位置にint値を設定します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param value int値
+	 * @param order バイトオーダー
+	 */
+	public static void putInt(byte[] data, int offset, int value, ByteOrder order) {
+		put(data, offset, 4, value, order);
+	}
+
+	/**
+	 * バイト配列の指定位置にlong値を設定します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param value long値
+	 * @param order バイトオーダー
+	 */
+	public static void putLong(byte[] data, int offset, long value, ByteOrder order) {
+		put(data, offset, 8, value, order);
+	}
+
+	/**
+	 * バイト配列の指定位置にfloat値を設定します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param value float値
+	 * @param order バイトオーダー
+	 */
+	public static void putFloat(byte[] data, int offset, float value, ByteOrder order) {
+		putInt(data, offset, Float.floatToRawIntBits(value), order);
+	}
+
+	/**
+	 * バイト配列の指定位置にdouble値を設定します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param value double値
+	 * @param order バイトオーダー
+	 */
+	public static void putDouble(byte[] data, int offset, double value, ByteOrder order) {
+		putLong(data, offset, Double.doubleToRawLongBits(value), order);
+	}
+
+	/**
+	 * バッファの指定位置からshort値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return short値
+	 */
+	public static short getShort(ByteBuffer buffer, int index, ByteOrder order) {
+		short value = buffer.getShort(index);
+		return buffer.order() == order ? value : Short.reverseBytes(value);
+	}
+
+	/**
+	 * バッファの指定位置から符号なし16ビット値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return 符号なし16ビット値(0～65535)
+	 */
+	public static int getUnsignedShort(ByteBuffer buffer, int index, ByteOrder order) {
+		return getShort(buffer, index, order) & 0xFFFF;
+	}
+
+	/**
+	 * バッファの指定位置からchar値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return char値
+	 */
+	public static char getChar(ByteBuffer buffer, int index, ByteOrder order) {
+		char value = buffer.getChar(index);
+		return buffer.order() == order ? value : Character.reverseBytes(value);
+	}
+
+	/**
+	 * バッファの指定位置からint値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return int値
+	 */
+	public static int getInt(ByteBuffer buffer, int index, ByteOrder order) {
+		int value = buffer.getInt(index);
+		return buffer.order() == order ? value : Integer.reverseBytes(value);
+	}
+
+	/**
+	 * バッファの指定位置から符号なし32ビット値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return 符号なし32ビット値(0～4294967295)
+	 */
+	public static long getUnsignedInt(ByteBuffer buffer, int index, ByteOrder order) {
+		return getInt(buffer, index, order) & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * バッファの指定位置からlong値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return long値
+	 */
+	public static long getLong(ByteBuffer buffer, int index, ByteOrder order) {
+		long value = buffer.getLong(index);
+		return buffer.order() == order ? value : Long.reverseBytes(value);
+	}
+
+	/**
+	 * バッファの指定位置からfloat値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return float値
+	 */
+	public static float getFloat(ByteBuffer buffer, int index, ByteOrder order) {
+		return Float.intBitsToFloat(getInt(buffer, index, order));
+	}
+
+	/**
+	 * バッファの指定位置からdouble値を取得します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param order バイトオーダー
+	 * @return double値
+	 */
+	public static double getDouble(ByteBuffer buffer, int index, ByteOrder order) {
+		return Double.longBitsToDouble(getLong(buffer, index, order));
+	}
+
+	/**
+	 * バッファの指定位置にshort値を設定します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param value short値
+	 * @param order バイトオーダー
+	 */
+	public static void putShort(ByteBuffer buffer, int index, short value, ByteOrder order) {
+		buffer.putShort(index, buffer.order() == order ? value : Short.reverseBytes(value));
+	}
+
+	/**
+	 * バッファの指定位置にchar値を設定します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param value char値
+	 * @param order バイトオーダー
+	 */
+	public static void putChar(ByteBuffer buffer, int index, char value, ByteOrder order) {
+		buffer.putChar(index, buffer.order() == order ? value : Character.reverseBytes(value));
+	}
+
+	/**
+	 * バッファの指定位置にint値を設定します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param value int値
+	 * @param order バイトオーダー
+	 */
+	public static void putInt(ByteBuffer buffer, int index, int value, ByteOrder order) {
+		buffer.putInt(index, buffer.order() == order ? value : Integer.reverseBytes(value));
+	}
+
+	/**
+	 * バッファの指定位置にlong値を設定します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param value long値
+	 * @param order バイトオーダー
+	 */
+	public static void putLong(ByteBuffer buffer, int index, long value, ByteOrder order) {
+		buffer.putLong(index, buffer.order() == order ? value : Long.reverseBytes(value));
+	}
+
+	/**
+	 * バッファの指定位置にfloat値を設定します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param value float値
+	 * @param order バイトオーダー
+	 */
+	public static void putFloat(ByteBuffer buffer, int index, float value, ByteOrder order) {
+		putInt(buffer, index, Float.floatToRawIntBits(value), order);
+	}
+
+	/**
+	 * バッファの指定位置にdouble値を設定します。<br>
+	 * @param buffer バッファ
+	 * @param index 位置(バッファ先頭からの絶対位置)
+	 * @param value double値
+	 * @param order バイトオーダー
+	 */
+	public static void putDouble(ByteBuffer buffer, int index, double value, ByteOrder order) {
+		putLong(buffer, index, Double.doubleToRawLongBits(value), order);
+	}
+}
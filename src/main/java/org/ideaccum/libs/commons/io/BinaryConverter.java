@@ -1,6 +1,10 @@
 package org.ideaccum.libs.commons.io;
 
 import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Javaプリミティブ型とバイナリバイトデータとの相互変換インタフェースを提供します。<br>
@@ -8,11 +12,22 @@ import java.io.UnsupportedEncodingException;
  * バイナリリソースを扱う際のバイトデータとバイナリデータの単純な相互変換を行うための操作インタフェースが提供されます。<br>
  * このクラスでは単純に単一の項目情報(文字列や数値といった項目扱う際の単位)の相互変換を行います。<br>
  * </p>
+ * <p>
+ * また、ホスト連携データで利用されるパック10進数(COMP-3)及び、ゾーン10進数については、呼び出し元が指定したバイト配列又は、{@link java.nio.ByteBuffer}の範囲を直接変換するクラスメソッドを提供します。<br>
+ * これらのクラスメソッドは18桁以内の値であれば変換過程においてオブジェクト生成を行わず、固定桁長レコードの列単位で数値配列へ一括変換するメソッドも提供します。<br>
+ * 符号はパック10進数では最終バイト下位ニブル、ゾーン10進数では最終バイト上位ニブルで表され、C、F、A、Eを正、D、Bを負として扱い、出力時は正をC(ゾーン10進数はF)、負をDとします。<br>
+ * </p>
+ * <p>
+ * 尚、このクラスの数値変換は内部バイト配列の先頭からビッグエンディアンで行われます。<br>
+ * 任意の位置やバイトオーダーで変換を行う場合は{@link org.ideaccum.libs.commons.io.BinaryCodec}、{@link org.ideaccum.libs.commons.io.BinaryCursor}を利用して下さい。<br>
+ * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2014/02/14  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         パック10進数、ゾーン10進数の変換処理を追加
+ * 2026/10/18  Kitagawa         数値変換処理をBinaryCodecに委譲
  *-->
  */
 public class BinaryConverter {
@@ -57,9 +72,11 @@ public class BinaryConverter {
 		int size = Short.SIZE / Byte.SIZE;
 		data = new byte[size];
 
-		for (int i = 0; i <= size - 1; i++) {
-			data[i] = Integer.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
-		}
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	data[i] = Integer.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
+		//}
+		BinaryCodec.putShort(data, 0, value, ByteOrder.BIG_ENDIAN);
 	}
 
 	/**
@@ -75,9 +92,11 @@ public class BinaryConverter {
 		int size = Character.SIZE / Byte.SIZE;
 		data = new byte[size];
 
-		for (int i = 0; i <= size - 1; i++) {
-			data[i] = Integer.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
-		}
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	data[i] = Integer.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
+		//}
+		BinaryCodec.putChar(data, 0, value, ByteOrder.BIG_ENDIAN);
 	}
 
 	/**
@@ -93,9 +112,11 @@ public class BinaryConverter {
 		int size = Integer.SIZE / Byte.SIZE;
 		data = new byte[size];
 
-		for (int i = 0; i <= size - 1; i++) {
-			data[i] = Integer.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
-		}
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	data[i] = Integer.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
+		//}
+		BinaryCodec.putInt(data, 0, value, ByteOrder.BIG_ENDIAN);
 	}
 
 	/**
@@ -111,9 +132,11 @@ public class BinaryConverter {
 		int size = Long.SIZE / Byte.SIZE;
 		data = new byte[size];
 
-		for (int i = 0; i <= size - 1; i++) {
-			data[i] = Long.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
-		}
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	data[i] = Long.valueOf(value >> (Byte.SIZE * (size - 1 - i))).byteValue();
+		//}
+		BinaryCodec.putLong(data, 0, value, ByteOrder.BIG_ENDIAN);
 	}
 
 	/**
@@ -188,9 +211,18 @@ public class BinaryConverter {
 		short result = 0;
 		int size = Short.SIZE / Byte.SIZE;
 
-		for (int i = 0; i <= size - 1; i++) {
-			byte b = i <= data.length - 1 ? data[i] : 0x00;
-			result |= Integer.valueOf(b & 0xff).shortValue() << (Byte.SIZE * (size - 1 - i));
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	byte b = i <= data.length - 1 ? data[i] : 0x00;
+		//	result |= Integer.valueOf(b & 0xff).shortValue() << (Byte.SIZE * (size - 1 - i));
+		//}
+		if (data.length >= size) {
+			result = BinaryCodec.getShort(data, 0, ByteOrder.BIG_ENDIAN);
+		} else {
+			// バイト長が不足する場合は不足分を0x00として変換
+			for (int i = 0; i <= data.length - 1; i++) {
+				result |= (data[i] & 0xff) << (Byte.SIZE * (size - 1 - i));
+			}
 		}
 
 		return result;
@@ -208,9 +240,18 @@ public class BinaryConverter {
 		char result = 0;
 		int size = Character.SIZE / Byte.SIZE;
 
-		for (int i = 0; i <= size - 1; i++) {
-			byte b = i <= data.length - 1 ? data[i] : 0x00;
-			result |= Integer.valueOf(b & 0xff).shortValue() << (Byte.SIZE * (size - 1 - i));
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	byte b = i <= data.length - 1 ? data[i] : 0x00;
+		//	result |= Integer.valueOf(b & 0xff).shortValue() << (Byte.SIZE * (size - 1 - i));
+		//}
+		if (data.length >= size) {
+			result = BinaryCodec.getChar(data, 0, ByteOrder.BIG_ENDIAN);
+		} else {
+			// バイト長が不足する場合は不足分を0x00として変換
+			for (int i = 0; i <= data.length - 1; i++) {
+				result |= (data[i] & 0xff) << (Byte.SIZE * (size - 1 - i));
+			}
 		}
 
 		return result;
@@ -228,9 +269,18 @@ public class BinaryConverter {
 		int result = 0;
 		int size = Integer.SIZE / Byte.SIZE;
 
-		for (int i = 0; i <= size - 1; i++) {
-			byte b = i <= data.length - 1 ? data[i] : 0x00;
-			result |= Integer.valueOf(b & 0xff).intValue() << (Byte.SIZE * (size - 1 - i));
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	byte b = i <= data.length - 1 ? data[i] : 0x00;
+		//	result |= Integer.valueOf(b & 0xff).intValue() << (Byte.SIZE * (size - 1 - i));
+		//}
+		if (data.length >= size) {
+			result = BinaryCodec.getInt(data, 0, ByteOrder.BIG_ENDIAN);
+		} else {
+			// バイト長が不足する場合は不足分を0x00として変換
+			for (int i = 0; i <= data.length - 1; i++) {
+				result |= (data[i] & 0xff) << (Byte.SIZE * (size - 1 - i));
+			}
 		}
 
 		return result;
@@ -248,9 +298,18 @@ public class BinaryConverter {
 		long result = 0;
 		int size = Long.SIZE / Byte.SIZE;
 
-		for (int i = 0; i <= size - 1; i++) {
-			byte b = i <= data.length - 1 ? data[i] : 0x00;
-			result |= Integer.valueOf(b & 0xff).longValue() << (Byte.SIZE * (size - 1 - i));
+		// ↓パフォーマンスチューニング(ボクシングを伴うバイト単位の変換からBinaryCodecによる変換に変更)
+		//for (int i = 0; i <= size - 1; i++) {
+		//	byte b = i <= data.length - 1 ? data[i] : 0x00;
+		//	result |= Integer.valueOf(b & 0xff).longValue() << (Byte.SIZE * (size - 1 - i));
+		//}
+		if (data.length >= size) {
+			result = BinaryCodec.getLong(data, 0, ByteOrder.BIG_ENDIAN);
+		} else {
+			// バイト長が不足する場合は不足分を0x00として変換
+			for (int i = 0; i <= data.length - 1; i++) {
+				result |= (long) (data[i] & 0xff) << (Byte.SIZE * (size - 1 - i));
+			}
 		}
 
 		return result;
@@ -324,4 +383,588 @@ public class BinaryConverter {
 	public String getString() {
 		return getString(null);
 	}
+
+	/**
+	 * パック10進数値を設定します。<br>
+	 * @param value 10進数値
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 */
+	public void setPacked(BigDecimal value, int length, int scale) {
+		data = null;
+		if (value == null) {
+			return;
+		}
+
+		data = new byte[length];
+		encodePacked(value, scale, data, 0, length);
+	}
+
+	/**
+	 * ゾーン10進数値を設定します。<br>
+	 * @param value 10進数値
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 */
+	public void setZoned(BigDecimal value, int length, int scale) {
+		data = null;
+		if (value == null) {
+			return;
+		}
+
+		data = new byte[length];
+		encodeZoned(value, scale, data, 0, length);
+	}
+
+	/**
+	 * パック10進数値を取得します。<br>
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 */
+	public BigDecimal getPacked(int scale) {
+		if (data == null) {
+			return null;
+		}
+
+		return decodePackedDecimal(data, 0, data.length, scale);
+	}
+
+	/**
+	 * ゾーン10進数値を取得します。<br>
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 */
+	public BigDecimal getZoned(int scale) {
+		if (data == null) {
+			return null;
+		}
+
+		return decodeZonedDecimal(data, 0, data.length, scale);
+	}
+
+	/**
+	 * パック10進数のバイト配列範囲を整数値に変換します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @return 整数値(小数点位置は考慮されません)
+	 * @throws IllegalArgumentException パック10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static long decodePacked(byte[] data, int offset, int length) {
+		return decodeLong(data, null, offset, length, true);
+	}
+
+	/**
+	 * パック10進数のバッファ範囲を整数値に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @return 整数値(小数点位置は考慮されません)
+	 * @throws IllegalArgumentException パック10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static long decodePacked(ByteBuffer buffer, int index, int length) {
+		return buffer.hasArray() ? decodePacked(buffer.array(), buffer.arrayOffset() + index, length) : decodeLong(null, buffer, index, length, true);
+	}
+
+	/**
+	 * パック10進数のバイト配列範囲を10進数値に変換します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 * @throws IllegalArgumentException パック10進数として不正な場合にスローされます
+	 */
+	public static BigDecimal decodePackedDecimal(byte[] data, int offset, int length, int scale) {
+		return decodeDecimal(data, null, offset, length, scale, true);
+	}
+
+	/**
+	 * パック10進数のバッファ範囲を10進数値に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 * @throws IllegalArgumentException パック10進数として不正な場合にスローされます
+	 */
+	public static BigDecimal decodePackedDecimal(ByteBuffer buffer, int index, int length, int scale) {
+		return buffer.hasArray() ? decodePackedDecimal(buffer.array(), buffer.arrayOffset() + index, length, scale) : decodeDecimal(null, buffer, index, length, scale, true);
+	}
+
+	/**
+	 * ゾーン10進数のバイト配列範囲を整数値に変換します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @return 整数値(小数点位置は考慮されません)
+	 * @throws IllegalArgumentException ゾーン10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static long decodeZoned(byte[] data, int offset, int length) {
+		return decodeLong(data, null, offset, length, false);
+	}
+
+	/**
+	 * ゾーン10進数のバッファ範囲を整数値に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @return 整数値(小数点位置は考慮されません)
+	 * @throws IllegalArgumentException ゾーン10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static long decodeZoned(ByteBuffer buffer, int index, int length) {
+		return buffer.hasArray() ? decodeZoned(buffer.array(), buffer.arrayOffset() + index, length) : decodeLong(null, buffer, index, length, false);
+	}
+
+	/**
+	 * ゾーン10進数のバイト配列範囲を10進数値に変換します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 * @throws IllegalArgumentException ゾーン10進数として不正な場合にスローされます
+	 */
+	public static BigDecimal decodeZonedDecimal(byte[] data, int offset, int length, int scale) {
+		return decodeDecimal(data, null, offset, length, scale, false);
+	}
+
+	/**
+	 * ゾーン10進数のバッファ範囲を10進数値に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 * @throws IllegalArgumentException ゾーン10進数として不正な場合にスローされます
+	 */
+	public static BigDecimal decodeZonedDecimal(ByteBuffer buffer, int index, int length, int scale) {
+		return buffer.hasArray() ? decodeZonedDecimal(buffer.array(), buffer.arrayOffset() + index, length, scale) : decodeDecimal(null, buffer, index, length, scale, false);
+	}
+
+	/**
+	 * 固定桁長レコードが連続するバイト配列から、パック10進数の列を整数値配列に一括変換します。<br>
+	 * @param data バイト配列
+	 * @param offset 先頭レコードにおける列の開始位置
+	 * @param stride レコード長(改行コード等を含む、次レコードの列開始位置までのバイト数)
+	 * @param length 列のバイト長
+	 * @param values 変換先整数値配列
+	 * @param index 変換先開始位置
+	 * @param count 変換レコード数
+	 * @throws IllegalArgumentException パック10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static void decodePacked(byte[] data, int offset, int stride, int length, long[] values, int index, int count) {
+		for (int i = 0; i <= count - 1; i++) {
+			values[index + i] = decodeLong(data, null, offset + stride * i, length, true);
+		}
+	}
+
+	/**
+	 * 固定桁長レコードが連続するバイト配列から、ゾーン10進数の列を整数値配列に一括変換します。<br>
+	 * @param data バイト配列
+	 * @param offset 先頭レコードにおける列の開始位置
+	 * @param stride レコード長(改行コード等を含む、次レコードの列開始位置までのバイト数)
+	 * @param length 列のバイト長
+	 * @param values 変換先整数値配列
+	 * @param index 変換先開始位置
+	 * @param count 変換レコード数
+	 * @throws IllegalArgumentException ゾーン10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static void decodeZoned(byte[] data, int offset, int stride, int length, long[] values, int index, int count) {
+		for (int i = 0; i <= count - 1; i++) {
+			values[index + i] = decodeLong(data, null, offset + stride * i, length, false);
+		}
+	}
+
+	/**
+	 * 固定桁長レコードが連続するバイト配列から、パック10進数の列を小数点以下桁数を考慮した浮動小数点値配列に一括変換します。<br>
+	 * 15桁を超える値は浮動小数点値の精度で丸められることに注意して下さい。<br>
+	 * @param data バイト配列
+	 * @param offset 先頭レコードにおける列の開始位置
+	 * @param stride レコード長(改行コード等を含む、次レコードの列開始位置までのバイト数)
+	 * @param length 列のバイト長
+	 * @param scale 小数点以下桁数
+	 * @param values 変換先浮動小数点値配列
+	 * @param index 変換先開始位置
+	 * @param count 変換レコード数
+	 * @throws IllegalArgumentException パック10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static void decodePacked(byte[] data, int offset, int stride, int length, int scale, double[] values, int index, int count) {
+		double divisor = Math.pow(10, scale);
+		for (int i = 0; i <= count - 1; i++) {
+			values[index + i] = decodeLong(data, null, offset + stride * i, length, true) / divisor;
+		}
+	}
+
+	/**
+	 * 固定桁長レコードが連続するバイト配列から、ゾーン10進数の列を小数点以下桁数を考慮した浮動小数点値配列に一括変換します。<br>
+	 * 15桁を超える値は浮動小数点値の精度で丸められることに注意して下さい。<br>
+	 * @param data バイト配列
+	 * @param offset 先頭レコードにおける列の開始位置
+	 * @param stride レコード長(改行コード等を含む、次レコードの列開始位置までのバイト数)
+	 * @param length 列のバイト長
+	 * @param scale 小数点以下桁数
+	 * @param values 変換先浮動小数点値配列
+	 * @param index 変換先開始位置
+	 * @param count 変換レコード数
+	 * @throws IllegalArgumentException ゾーン10進数として不正な場合やlong値の範囲を超える場合にスローされます
+	 */
+	public static void decodeZoned(byte[] data, int offset, int stride, int length, int scale, double[] values, int index, int count) {
+		double divisor = Math.pow(10, scale);
+		for (int i = 0; i <= count - 1; i++) {
+			values[index + i] = decodeLong(data, null, offset + stride * i, length, false) / divisor;
+		}
+	}
+
+	/**
+	 * 整数値をパック10進数としてバイト配列範囲に変換します。<br>
+	 * @param value 整数値
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @throws IllegalArgumentException バイト長に収まらない場合にスローされます
+	 */
+	public static void encodePacked(long value, byte[] data, int offset, int length) {
+		encodeLong(value, data, null, offset, length, true);
+	}
+
+	/**
+	 * 整数値をパック10進数としてバッファ範囲に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param value 整数値
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @throws IllegalArgumentException バイト長に収まらない場合にスローされます
+	 */
+	public static void encodePacked(long value, ByteBuffer buffer, int index, int length) {
+		encodeLong(value, null, buffer, index, length, true);
+	}
+
+	/**
+	 * 10進数値をパック10進数としてバイト配列範囲に変換します。<br>
+	 * @param value 10進数値
+	 * @param scale 小数点以下桁数
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @throws IllegalArgumentException 小数点以下桁数で丸めが必要な場合やバイト長に収まらない場合にスローされます
+	 */
+	public static void encodePacked(BigDecimal value, int scale, byte[] data, int offset, int length) {
+		encodeDecimal(value, scale, data, null, offset, length, true);
+	}
+
+	/**
+	 * 10進数値をパック10進数としてバッファ範囲に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param value 10進数値
+	 * @param scale 小数点以下桁数
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @throws IllegalArgumentException 小数点以下桁数で丸めが必要な場合やバイト長に収まらない場合にスローされます
+	 */
+	public static void encodePacked(BigDecimal value, int scale, ByteBuffer buffer, int index, int length) {
+		encodeDecimal(value, scale, null, buffer, index, length, true);
+	}
+
+	/**
+	 * 整数値をゾーン10進数としてバイト配列範囲に変換します。<br>
+	 * @param value 整数値
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @throws IllegalArgumentException バイト長に収まらない場合にスローされます
+	 */
+	public static void encodeZoned(long value, byte[] data, int offset, int length) {
+		encodeLong(value, data, null, offset, length, false);
+	}
+
+	/**
+	 * 整数値をゾーン10進数としてバッファ範囲に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param value 整数値
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @throws IllegalArgumentException バイト長に収まらない場合にスローされます
+	 */
+	public static void encodeZoned(long value, ByteBuffer buffer, int index, int length) {
+		encodeLong(value, null, buffer, index, length, false);
+	}
+
+	/**
+	 * 10進数値をゾーン10進数としてバイト配列範囲に変換します。<br>
+	 * @param value 10進数値
+	 * @param scale 小数点以下桁数
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @throws IllegalArgumentException 小数点以下桁数で丸めが必要な場合やバイト長に収まらない場合にスローされます
+	 */
+	public static void encodeZoned(BigDecimal value, int scale, byte[] data, int offset, int length) {
+		encodeDecimal(value, scale, data, null, offset, length, false);
+	}
+
+	/**
+	 * 10進数値をゾーン10進数としてバッファ範囲に変換します。<br>
+	 * バッファの現在位置は変更されません。<br>
+	 * @param value 10進数値
+	 * @param scale 小数点以下桁数
+	 * @param buffer バッファ
+	 * @param index 開始位置(バッファ先頭からの絶対位置)
+	 * @param length バイト長
+	 * @throws IllegalArgumentException 小数点以下桁数で丸めが必要な場合やバイト長に収まらない場合にスローされます
+	 */
+	public static void encodeZoned(BigDecimal value, int scale, ByteBuffer buffer, int index, int length) {
+		encodeDecimal(value, scale, null, buffer, index, length, false);
+	}
+
+	/**
+	 * バイト配列又は、バッファの指定位置のバイト値を取得します。<br>
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param index 位置
+	 * @return バイト値(0x00～0xFF)
+	 */
+	private static int get(byte[] data, ByteBuffer buffer, int index) {
+		return (data != null ? data[index] : buffer.get(index)) & 0xFF;
+	}
+
+	/**
+	 * バイト配列又は、バッファの指定位置にバイト値を設定します。<br>
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param index 位置
+	 * @param b バイト値
+	 */
+	private static void put(byte[] data, ByteBuffer buffer, int index, int b) {
+		if (data != null) {
+			data[index] = (byte) b;
+		} else {
+			buffer.put(index, (byte) b);
+		}
+	}
+
+	/**
+	 * 10進数の桁数を取得します。<br>
+	 * @param length バイト長
+	 * @param packed パック10進数の場合にtrueを指定
+	 * @return 桁数
+	 */
+	private static int digits(int length, boolean packed) {
+		return packed ? length * 2 - 1 : length;
+	}
+
+	/**
+	 * 10進数の指定桁の数字を取得します。<br>
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param i 桁インデックス(上位桁から0開始)
+	 * @param packed パック10進数の場合にtrueを指定
+	 * @return 数字
+	 * @throws IllegalArgumentException 数字ではない場合にスローされます
+	 */
+	private static int digit(byte[] data, ByteBuffer buffer, int offset, int length, int i, boolean packed) {
+		int digit = packed ? (get(data, buffer, offset + (i >> 1)) >> ((i & 1) == 0 ? 4 : 0)) & 0x0F : get(data, buffer, offset + i) & 0x0F;
+		if (digit > 9) {
+			throw new IllegalArgumentException((packed ? "illegal packed decimal" : "illegal zoned decimal") + " (" + toHex(data, buffer, offset, length) + ")");
+		}
+		return digit;
+	}
+
+	/**
+	 * 10進数の符号が負数であるか判定します。<br>
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param packed パック10進数の場合にtrueを指定
+	 * @return 負数の場合にtrueを返却
+	 * @throws IllegalArgumentException 符号として不正な場合にスローされます
+	 */
+	private static boolean negative(byte[] data, ByteBuffer buffer, int offset, int length, boolean packed) {
+		int last = get(data, buffer, offset + length - 1);
+		int sign = packed ? last & 0x0F : last >> 4;
+		switch (sign) {
+			case 0xB:
+			case 0xD:
+				return true;
+			case 0xA:
+			case 0xC:
+			case 0xE:
+			case 0xF:
+				return false;
+			default:
+				throw new IllegalArgumentException("illegal decimal sign (" + toHex(data, buffer, offset, length) + ")");
+		}
+	}
+
+	/**
+	 * 例外メッセージ用にバイト範囲を16進表記文字列に変換します。<br>
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @return 16進表記文字列
+	 */
+	private static String toHex(byte[] data, ByteBuffer buffer, int offset, int length) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i <= length - 1; i++) {
+			int b = get(data, buffer, offset + i);
+			builder.append(Character.forDigit(b >> 4, 16)).append(Character.forDigit(b & 0x0F, 16));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 10進数のバイト範囲を整数値に変換します。<br>
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param packed パック10進数の場合にtrueを指定
+	 * @return 整数値
+	 */
+	private static long decodeLong(byte[] data, ByteBuffer buffer, int offset, int length, boolean packed) {
+		if (length <= 0) {
+			throw new IllegalArgumentException("length <= 0 (" + length + ")");
+		}
+		int count = digits(length, packed);
+		boolean negative = negative(data, buffer, offset, length, packed);
+		long value = 0;
+		for (int i = 0; i <= count - 1; i++) {
+			int digit = digit(data, buffer, offset, length, i, packed);
+			// 負数側で累積することでLong.MIN_VALUEまでを扱う
+			if (value < (Long.MIN_VALUE + digit) / 10) {
+				throw new IllegalArgumentException("decimal overflow (" + toHex(data, buffer, offset, length) + ")");
+			}
+			value = value * 10 - digit;
+		}
+		if (!negative) {
+			if (value == Long.MIN_VALUE) {
+				throw new IllegalArgumentException("decimal overflow (" + toHex(data, buffer, offset, length) + ")");
+			}
+			value = -value;
+		}
+		return value;
+	}
+
+	/**
+	 * 10進数のバイト範囲を10進数値に変換します。<br>
+	 * 18桁以内の場合は整数値として変換したうえで10進数値を生成します。<br>
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 * @param packed パック10進数の場合にtrueを指定
+	 * @return 10進数値
+	 */
+	private static BigDecimal decodeDecimal(byte[] data, ByteBuffer buffer, int offset, int length, int scale, boolean packed) {
+		int count = digits(length, packed);
+		if (count <= 18) {
+			return BigDecimal.valueOf(decodeLong(data, buffer, offset, length, packed), scale);
+		}
+		boolean negative = negative(data, buffer, offset, length, packed);
+		char[] chars = new char[count + 1];
+		chars[0] = negative ? '-' : '+';
+		for (int i = 0; i <= count - 1; i++) {
+			chars[i + 1] = (char) ('0' + digit(data, buffer, offset, length, i, packed));
+		}
+		return new BigDecimal(new BigInteger(new String(chars)), scale);
+	}
+
+	/**
+	 * 整数値を10進数のバイト範囲に変換します。<br>
+	 * @param value 整数値
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param packed パック10進数の場合にtrueを指定
+	 */
+	private static void encodeLong(long value, byte[] data, ByteBuffer buffer, int offset, int length, boolean packed) {
+		if (length <= 0) {
+			throw new IllegalArgumentException("length <= 0 (" + length + ")");
+		}
+		boolean negative = value < 0;
+		// 負数側で桁を取り出すことでLong.MIN_VALUEまでを扱う
+		long rest = negative ? value : -value;
+		int count = digits(length, packed);
+		if (packed) {
+			int b = negative ? 0x0D : 0x0C;
+			int position = offset + length - 1;
+			for (int i = 0; i <= count - 1; i++) {
+				int digit = (int) -(rest % 10);
+				rest /= 10;
+				if ((i & 1) == 0) {
+					put(data, buffer, position--, (digit << 4) | b);
+					b = 0;
+				} else {
+					b = digit;
+				}
+			}
+		} else {
+			for (int i = 0; i <= count - 1; i++) {
+				int digit = (int) -(rest % 10);
+				rest /= 10;
+				put(data, buffer, offset + length - 1 - i, (i == 0 && negative ? 0xD0 : 0xF0) | digit);
+			}
+		}
+		if (rest != 0) {
+			throw new IllegalArgumentException("decimal overflow (" + value + ")");
+		}
+	}
+
+	/**
+	 * 10進数値を10進数のバイト範囲に変換します。<br>
+	 * @param value 10進数値
+	 * @param scale 小数点以下桁数
+	 * @param data バイト配列(バッファを対象とする場合はnull)
+	 * @param buffer バッファ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param packed パック10進数の場合にtrueを指定
+	 */
+	private static void encodeDecimal(BigDecimal value, int scale, byte[] data, ByteBuffer buffer, int offset, int length, boolean packed) {
+		BigInteger unscaled;
+		try {
+			unscaled = value.setScale(scale).unscaledValue();
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("decimal scale overflow (" + value.toPlainString() + ")", e);
+		}
+		if (unscaled.bitLength() <= 63) {
+			encodeLong(unscaled.longValue(), data, buffer, offset, length, packed);
+			return;
+		}
+		String string = unscaled.abs().toString();
+		int count = digits(length, packed);
+		if (string.length() > count) {
+			throw new IllegalArgumentException("decimal overflow (" + value.toPlainString() + ")");
+		}
+		encodeLong(0, data, buffer, offset, length, packed);
+		for (int i = 0; i <= string.length() - 1; i++) {
+			int digit = string.charAt(string.length() - 1 - i) - '0';
+			int position = count - 1 - i;
+			if (packed) {
+				int index = offset + (position >> 1);
+				int b = get(data, buffer, index);
+				put(data, buffer, index, (position & 1) == 0 ? (b & 0x0F) | (digit << 4) : (b & 0xF0) | digit);
+			} else {
+				put(data, buffer, offset + position, 0xF0 | digit);
+			}
+		}
+		if (unscaled.signum() < 0) {
+			int index = offset + length - 1;
+			int b = get(data, buffer, index);
+			put(data, buffer, index, packed ? (b & 0xF0) | 0x0D : (b & 0x0F) | 0xD0);
+		}
+	}
 }
@@ -0,0 +1,465 @@
+package org.ideaccum.libs.commons.io;
+
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * バイト配列又は、{@link java.nio.ByteBuffer}上のバイナリ構造を先頭から順次読み込み、書き込みするためのカーソルインタフェースを提供します。<br>
+ * <p>
+ * カーソルは対象範囲の先頭を位置0とする独自の現在位置及び、バイトオーダーを保持し、読み込み、書き込みの都度、処理したバイト数分だけ現在位置を進めます。<br>
+ * 対象バイト配列又は、バッファの内容は複製されず、カーソルを通じた書き込みは対象に直接反映されます(元のバッファの現在位置及び、バイトオーダー設定は変更されません)。<br>
+ * 数値の読み込み、書き込みはプリミティブ型のまま行われ、変換過程においてオブジェクト生成は行いません。<br>
+ * 下記はリトルエンディアンのヘッダーに続くレコード構造を解析する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * BinaryCursor cursor = new BinaryCursor(data, ByteOrder.LITTLE_ENDIAN);<br>
+ * int magic = cursor.readInt();<br>
+ * int count = cursor.readUnsignedShort();<br>
+ * for (int i = 0; i &lt;= count - 1; i++) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;long id = cursor.readLong();<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;double value = cursor.readDouble();<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;long amount = cursor.readPacked(6);<br>
+ * }<br>
+ * </code>
+ * <p>
+ * 範囲外の読み込みは{@link java.nio.BufferUnderflowException}、範囲外の書き込みは{@link java.nio.BufferOverflowException}がスローされます。<br>
+ * 尚、このクラスのインスタンスは現在位置を保持する為、スレッドセーフではありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class BinaryCursor {
+
+	/** 対象バッファ(カーソル専用ビュー) */
+	private ByteBuffer buffer;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param buffer 対象バッファ(現在位置から制限位置までを対象とします)
+	 * @param order バイトオーダー
+	 */
+	public BinaryCursor(ByteBuffer buffer, ByteOrder order) {
+		super();
+		if (buffer == null) {
+			throw new NullPointerException("buffer");
+		}
+		this.buffer = buffer.slice();
+		setOrder(order);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * バイトオーダーはビッグエンディアンとなります。<br>
+	 * @param buffer 対象バッファ(現在位置から制限位置までを対象とします)
+	 */
+	public BinaryCursor(ByteBuffer buffer) {
+		this(buffer, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param data 対象バイト配列
+	 * @param offset 対象開始位置
+	 * @param length 対象バイト長
+	 * @param order バイトオーダー
+	 */
+	public BinaryCursor(byte[] data, int offset, int length, ByteOrder order) {
+		this(ByteBuffer.wrap(data, offset, length), order);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param data 対象バイト配列
+	 * @param order バイトオーダー
+	 */
+	public BinaryCursor(byte[] data, ByteOrder order) {
+		this(ByteBuffer.wrap(data), order);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * バイトオーダーはビッグエンディアンとなります。<br>
+	 * @param data 対象バイト配列
+	 */
+	public BinaryCursor(byte[] data) {
+		this(ByteBuffer.wrap(data), ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * バイトオーダーを取得します。<br>
+	 * @return バイトオーダー
+	 */
+	public ByteOrder getOrder() {
+		return buffer.order();
+	}
+
+	/**
+	 * バイトオーダーを設定します。<br>
+	 * 構造の途中でバイトオーダーが切り替わる場合にも利用できます。<br>
+	 * @param order バイトオーダー
+	 */
+	public void setOrder(ByteOrder order) {
+		if (order == null) {
+			throw new NullPointerException("order");
+		}
+		buffer.order(order);
+	}
+
+	/**
+	 * 現在位置を取得します。<br>
+	 * @return 対象範囲先頭からの現在位置
+	 */
+	public int getPosition() {
+		return buffer.position();
+	}
+
+	/**
+	 * 現在位置を設定します。<br>
+	 * @param position 対象範囲先頭からの位置
+	 */
+	public void setPosition(int position) {
+		if (position < 0 || position > buffer.limit()) {
+			throw new IllegalArgumentException("position out of range (" + position + ")");
+		}
+		buffer.position(position);
+	}
+
+	/**
+	 * 対象範囲のバイト長を取得します。<br>
+	 * @return 対象範囲のバイト長
+	 */
+	public int getLength() {
+		return buffer.limit();
+	}
+
+	/**
+	 * 現在位置から対象範囲終端までのバイト数を取得します。<br>
+	 * @return 残りバイト数
+	 */
+	public int getRemaining() {
+		return buffer.remaining();
+	}
+
+	/**
+	 * 現在位置から対象範囲終端までにバイトが残っているか判定します。<br>
+	 * @return 残りバイトが存在する場合にtrueを返却
+	 */
+	public boolean hasRemaining() {
+		return buffer.hasRemaining();
+	}
+
+	/**
+	 * 現在位置を指定バイト数分進めます。<br>
+	 * @param length バイト数
+	 */
+	public void skip(int length) {
+		setPosition(buffer.position() + length);
+	}
+
+	/**
+	 * 現在位置から指定バイト数分の読み込み位置を確保します。<br>
+	 * @param length バイト数
+	 * @return 確保した範囲の開始位置
+	 */
+	private int claimRead(int length) {
+		int position = buffer.position();
+		if (buffer.limit() - position < length) {
+			throw new BufferUnderflowException();
+		}
+		buffer.position(position + length);
+		return position;
+	}
+
+	/**
+	 * 現在位置から指定バイト数分の書き込み位置を確保します。<br>
+	 * @param length バイト数
+	 * @return 確保した範囲の開始位置
+	 */
+	private int claimWrite(int length) {
+		int position = buffer.position();
+		if (buffer.limit() - position < length) {
+			throw new BufferOverflowException();
+		}
+		buffer.position(position + length);
+		return position;
+	}
+
+	/**
+	 * byte値を読み込みます。<br>
+	 * @return byte値
+	 */
+	public byte readByte() {
+		return buffer.get();
+	}
+
+	/**
+	 * 符号なし8ビット値を読み込みます。<br>
+	 * @return 符号なし8ビット値(0～255)
+	 */
+	public int readUnsignedByte() {
+		return buffer.get() & 0xFF;
+	}
+
+	/**
+	 * short値を読み込みます。<br>
+	 * @return short値
+	 */
+	public short readShort() {
+		return buffer.getShort();
+	}
+
+	/**
+	 * 符号なし16ビット値を読み込みます。<br>
+	 * @return 符号なし16ビット値(0～65535)
+	 */
+	public int readUnsignedShort() {
+		return buffer.getShort() & 0xFFFF;
+	}
+
+	/**
+	 * char値を読み込みます。<br>
+	 * @return char値
+	 */
+	public char readChar() {
+		return buffer.getChar();
+	}
+
+	/**
+	 * int値を読み込みます。<br>
+	 * @return int値
+	 */
+	public int readInt() {
+		return buffer.getInt();
+	}
+
+	/**
+	 * 符号なし32ビット値を読み込みます。<br>
+	 * @return 符号なし32ビット値(0～4294967295)
+	 */
+	public long readUnsignedInt() {
+		return buffer.getInt() & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * long値を読み込みます。<br>
+	 * @return long値
+	 */
+	public long readLong() {
+		return buffer.getLong();
+	}
+
+	/**
+	 * float値を読み込みます。<br>
+	 * @return float値
+	 */
+	public float readFloat() {
+		return buffer.getFloat();
+	}
+
+	/**
+	 * double値を読み込みます。<br>
+	 * @return double値
+	 */
+	public double readDouble() {
+		return buffer.getDouble();
+	}
+
+	/**
+	 * 指定バイト数分のバイトデータを読み込みます。<br>
+	 * @param dst 読み込み先バイト配列
+	 * @param off 読み込み先開始位置
+	 * @param len バイト数
+	 */
+	public void readBytes(byte[] dst, int off, int len) {
+		buffer.get(dst, off, len);
+	}
+
+	/**
+	 * 指定バイト数分のバイトデータを文字列として読み込みます。<br>
+	 * @param length バイト数
+	 * @param charset キャラクタセット
+	 * @return 文字列
+	 */
+	public String readString(int length, Charset charset) {
+		int position = claimRead(length);
+		if (buffer.hasArray()) {
+			return new String(buffer.array(), buffer.arrayOffset() + position, length, charset);
+		} else {
+			byte[] bytes = new byte[length];
+			for (int i = 0; i <= length - 1; i++) {
+				bytes[i] = buffer.get(position + i);
+			}
+			return new String(bytes, charset);
+		}
+	}
+
+	/**
+	 * パック10進数値を読み込みます。<br>
+	 * @param length バイト長
+	 * @return 整数値
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#decodePacked(ByteBuffer, int, int)
+	 */
+	public long readPacked(int length) {
+		return BinaryConverter.decodePacked(buffer, claimRead(length), length);
+	}
+
+	/**
+	 * パック10進数値を小数点位置を指定して読み込みます。<br>
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#decodePackedDecimal(ByteBuffer, int, int, int)
+	 */
+	public BigDecimal readPacked(int length, int scale) {
+		return BinaryConverter.decodePackedDecimal(buffer, claimRead(length), length, scale);
+	}
+
+	/**
+	 * ゾーン10進数値を読み込みます。<br>
+	 * @param length バイト長
+	 * @return 整数値
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#decodeZoned(ByteBuffer, int, int)
+	 */
+	public long readZoned(int length) {
+		return BinaryConverter.decodeZoned(buffer, claimRead(length), length);
+	}
+
+	/**
+	 * ゾーン10進数値を小数点位置を指定して読み込みます。<br>
+	 * @param length バイト長
+	 * @param scale 小数点以下桁数
+	 * @return 10進数値
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#decodeZonedDecimal(ByteBuffer, int, int, int)
+	 */
+	public BigDecimal readZoned(int length, int scale) {
+		return BinaryConverter.decodeZonedDecimal(buffer, claimRead(length), length, scale);
+	}
+
+	/**
+	 * byte値を書き込みます。<br>
+	 * @param value byte値(下位8ビットが書き込まれます)
+	 */
+	public void writeByte(int value) {
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * short値を書き込みます。<br>
+	 * @param value short値(下位16ビットが書き込まれます)
+	 */
+	public void writeShort(int value) {
+		buffer.putShort((short) value);
+	}
+
+	/**
+	 * char値を書き込みます。<br>
+	 * @param value char値
+	 */
+	public void writeChar(char value) {
+		buffer.putChar(value);
+	}
+
+	/**
+	 * int値を書き込みます。<br>
+	 * @param value int値
+	 */
+	public void writeInt(int value) {
+		buffer.putInt(value);
+	}
+
+	/**
+	 * long値を書き込みます。<br>
+	 * @param value long値
+	 */
+	public void writeLong(long value) {
+		buffer.putLong(value);
+	}
+
+	/**
+	 * float値を書き込みます。<br>
+	 * @param value float値
+	 */
+	public void writeFloat(float value) {
+		buffer.putFloat(value);
+	}
+
+	/**
+	 * double値を書き込みます。<br>
+	 * @param value double値
+	 */
+	public void writeDouble(double value) {
+		buffer.putDouble(value);
+	}
+
+	/**
+	 * バイトデータを書き込みます。<br>
+	 * @param src 書き込み元バイト配列
+	 * @param off 書き込み元開始位置
+	 * @param len バイト数
+	 */
+	public void writeBytes(byte[] src, int off, int len) {
+		buffer.put(src, off, len);
+	}
+
+	/**
+	 * 指定バイト値を指定バイト数分書き込みます。<br>
+	 * 固定桁長項目の補完等で利用します。<br>
+	 * @param value バイト値
+	 * @param length バイト数
+	 */
+	public void fill(byte value, int length) {
+		int position = claimWrite(length);
+		for (int i = 0; i <= length - 1; i++) {
+			buffer.put(position + i, value);
+		}
+	}
+
+	/**
+	 * パック10進数値を書き込みます。<br>
+	 * @param value 整数値
+	 * @param length バイト長
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#encodePacked(long, ByteBuffer, int, int)
+	 */
+	public void writePacked(long value, int length) {
+		BinaryConverter.encodePacked(value, buffer, claimWrite(length), length);
+	}
+
+	/**
+	 * パック10進数値を小数点位置を指定して書き込みます。<br>
+	 * @param value 10進数値
+	 * @param scale 小数点以下桁数
+	 * @param length バイト長
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#encodePacked(BigDecimal, int, ByteBuffer, int, int)
+	 */
+	public void writePacked(BigDecimal value, int scale, int length) {
+		BinaryConverter.encodePacked(value, scale, buffer, claimWrite(length), length);
+	}
+
+	/**
+	 * ゾーン10進数値を書き込みます。<br>
+	 * @param value 整数値
+	 * @param length バイト長
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#encodeZoned(long, ByteBuffer, int, int)
+	 */
+	public void writeZoned(long value, int length) {
+		BinaryConverter.encodeZoned(value, buffer, claimWrite(length), length);
+	}
+
+	/**
+	 * ゾーン10進数値を小数点位置を指定して書き込みます。<br>
+	 * @param value 10進数値
+	 * @param scale 小数点以下桁数
+	 * @param length バイト長
+	 * @see org.ideaccum.libs.commons.io.BinaryConverter#encodeZoned(BigDecimal, int, ByteBuffer, int, int)
+	 */
+	public void writeZoned(BigDecimal value, int scale, int length) {
+		BinaryConverter.encodeZoned(value, scale, buffer, claimWrite(length), length);
+	}
+}
@@ -4,6 +4,8 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.ideaccum.libs.commons.util.ByteBufferPool;
+import org.ideaccum.libs.commons.util.HexCodec;
 import org.ideaccum.libs.commons.util.StringUtil;
 
 /**
@@ -17,6 +19,9 @@ import org.ideaccum.libs.commons.util.StringUtil;
  * 更新日      更新者           更新内容
  * 2017/06/09  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         {@link org.ideaccum.libs.commons.util.HexCodec}による変換に変更、一括読み込み処理を追加
+ * 2026/10/18  Kitagawa         入力位置を64ビット化、計測情報を追加
+ * 2026/10/18  Kitagawa         16進文字バッファをByteBufferPoolから借りるように変更
  *-->
  */
 public class HexInputStream extends InputStream {
@@ -25,10 +30,16 @@ public class HexInputStream extends InputStream {
 	private InputStream parent;
 
 	/** 入力位置 */
-	private int position;
+	private long position;
 
 	/** マーク位置 */
-	private int positionOfMark;
+	private long positionOfMark;
+
+	/** 一括読み込み用16進文字バッファ */
+	private byte[] buffer;
+
+	/** 計測情報 */
+	private StreamMetrics metrics;
 
 	/**
 	 * コンストラクタ<br>
@@ -40,6 +51,7 @@ public class HexInputStream extends InputStream {
 		this.parent = new BufferedInputStream(parent, size);
 		this.position = 0;
 		this.positionOfMark = -1;
+		this.metrics = new StreamMetrics();
 	}
 
 	/**
@@ -57,7 +69,7 @@ public class HexInputStream extends InputStream {
 	 */
 	@Override
 	public String toString() {
-		String hex = Integer.toHexString(position);
+		String hex = Long.toHexString(position);
 		while (hex.length() < 8) {
 			hex = "0" + hex;
 		}
@@ -65,6 +77,22 @@ public class HexInputStream extends InputStream {
 		return hex + "(" + position + ")";
 	}
 
+	/**
+	 * ストリーム先頭からの現在の入力(変換後バイトデータ)位置を取得します。<br>
+	 * @return 入力(変換後バイトデータ)位置
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * ストリームの計測情報を取得します。<br>
+	 * @return 計測情報
+	 */
+	public StreamMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * 入力ストリームからデータの次のバイトを読み込みます。<br>
 	 * 値のバイトは、0 ～ 255 の範囲の int として返されます。<br>
@@ -91,20 +119,77 @@ public class HexInputStream extends InputStream {
 			throw new IOException("Stream is odd number length");
 		}
 
-		char c1 = (char) i1;
-		char c2 = (char) i2;
-		String hex = "" + c1 + c2;
-		//byte data = (byte) Integer.parseInt(hex, 16);
-		int data = 0;
-		if (!StringUtil.isBlank(hex)) {
-			data = Integer.parseInt(hex, 16);
-		}
+		// ↓パフォーマンスチューニング(16進文字以外を含む場合のみ従来の文字列パースで変換)
+		//char c1 = (char) i1;
+		//char c2 = (char) i2;
+		//String hex = "" + c1 + c2;
+		////byte data = (byte) Integer.parseInt(hex, 16);
+		//int data = 0;
+		//if (!StringUtil.isBlank(hex)) {
+		//	data = Integer.parseInt(hex, 16);
+		//}
+		int data = decode(i1, i2);
 
 		position++;
+		metrics.addBytes(1);
 
 		return data;
 	}
 
+	/**
+	 * 入力ストリームから最大lenバイトをバイト配列に読み込みます。<br>
+	 * 基底ストリームからはlenバイトの2倍の16進文字を一括で読み込み、バイトデータに変換して提供します。<br>
+	 * 尚、奇数バイト長のファイルデータでは{@link #read()}と同様に例外がスローされます。<br>
+	 * @param b 読み込み先バイト配列
+	 * @param off 読み込み先開始位置
+	 * @param len 読み込む最大バイト数
+	 * @return 読み込まれたバイト数、ストリームの終わりに達した場合は -1
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off + len > b.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		int size = len * 2;
+		if (buffer == null || buffer.length < size) {
+			ByteBufferPool.getShared().releaseArray(buffer);
+			buffer = ByteBufferPool.getShared().borrowArray(Math.max(size, 64));
+		}
+		int count = 0;
+		while (count < size) {
+			int length = parent.read(buffer, count, size - count);
+			if (length < 0) {
+				break;
+			}
+			count += length;
+			if (count % 2 == 0 && parent.available() <= 0) {
+				break;
+			}
+		}
+		if (count <= 0) {
+			return -1;
+		}
+		int result = count / 2;
+		try {
+			HexCodec.decode(buffer, 0, result * 2, b, off);
+		} catch (IllegalArgumentException e) {
+			for (int i = 0; i <= result - 1; i++) {
+				b[off + i] = (byte) decode(buffer[i * 2] & 0xFF, buffer[i * 2 + 1] & 0xFF);
+			}
+		}
+		if (count % 2 != 0) {
+			throw new IOException("Stream is odd number length");
+		}
+		position += result;
+		metrics.addBytes(result);
+		return result;
+	}
+
 	/**
 	 * この入力ストリームの現在位置にマークを設定します。<br>
 	 * @param readlimit マーク位置が無効になる前に読み込み可能なバイトの最大リミット
@@ -138,6 +223,30 @@ public class HexInputStream extends InputStream {
 	 */
 	@Override
 	public void close() throws IOException {
+		metrics.finish();
 		parent.close();
+		ByteBufferPool.getShared().releaseArray(buffer);
+		buffer = null;
+	}
+
+	/**
+	 * 16進文字2文字をバイト値に変換します。<br>
+	 * 16進文字以外を含む場合は空白のみで構成される場合に0、それ以外は数値としてパースした値とします。<br>
+	 * @param i1 上位桁文字
+	 * @param i2 下位桁文字
+	 * @return バイト値
+	 */
+	private static int decode(int i1, int i2) {
+		int h = HexCodec.digit(i1);
+		int l = HexCodec.digit(i2);
+		if ((h | l) >= 0) {
+			return (h << 4) | l;
+		}
+		String hex = "" + (char) i1 + (char) i2;
+		int data = 0;
+		if (!StringUtil.isBlank(hex)) {
+			data = Integer.parseInt(hex, 16);
+		}
+		return data;
 	}
 }
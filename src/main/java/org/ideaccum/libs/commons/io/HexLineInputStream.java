@@ -15,6 +15,7 @@ import java.io.InputStream;
  * 更新日      更新者           更新内容
  * 2017/06/09  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         一括読み込み処理を追加
  *-->
  */
 public class HexLineInputStream extends InputStream {
@@ -72,6 +73,20 @@ public class HexLineInputStream extends InputStream {
 		return parent.read();
 	}
 
+	/**
+	 * 入力ストリームから最大lenバイトをバイト配列に読み込みます。<br>
+	 * @param b 読み込み先バイト配列
+	 * @param off 読み込み先開始位置
+	 * @param len 読み込む最大バイト数
+	 * @return 読み込まれたバイト数、ストリームの終わりに達した場合は -1
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		return parent.read(b, off, len);
+	}
+
 	/**
 	 * この入力ストリームの現在位置にマークを設定します。<br>
 	 * @param readlimit マーク位置が無効になる前に読み込み可能なバイトの最大リミット
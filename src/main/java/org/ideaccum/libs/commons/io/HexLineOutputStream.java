@@ -1,9 +1,11 @@
 package org.ideaccum.libs.commons.io;
 
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import org.ideaccum.libs.commons.util.ByteBufferPool;
+import org.ideaccum.libs.commons.util.HexCodec;
+
 /**
  * バイトデータを出力する際に16進表記のアスキー文字列として固定桁長の行編成データとしてストリーム出力するインタフェースを提供します。<br>
  * <p>
@@ -11,11 +13,16 @@ import java.io.OutputStream;
  * 外部から入力されたストリームを16進表記行編成データとして入力し、このクラスをラップしたストリームでは通常のバイトデータとして扱うインタフェースを提供します。<br>
  * 尚、行編成として扱う際のレコード長はあくまでも固定長データのレコード長であり、16進表記データ時の行長ではないことに注意して下さい。<br>
  * </p>
+ * <p>
+ * 16進文字及び、改行コードは内部バッファに蓄積され、親出力ストリームへの書き込みはバッファが満たされた時点、又は{@link #flush()}、{@link #close()}の呼び出し時にのみ行われます。<br>
+ * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2017/06/09  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         内部バッファへの蓄積による出力に変更(レコード毎のフラッシュを排除)、一括書き込み処理、計測情報を追加
+ * 2026/10/18  Kitagawa         16進文字バッファをByteBufferPoolから借りるように変更
  *-->
  */
 public class HexLineOutputStream extends OutputStream {
@@ -23,15 +30,34 @@ public class HexLineOutputStream extends OutputStream {
 	/** 親出力ストリームオブジェクト */
 	private OutputStream parent;
 
-	/** 16進数出力ストリームオブジェクト */
-	private HexOutputStream hexStream;
+	// ↓パフォーマンスチューニング(16進文字と改行コードを単一の内部バッファに蓄積する為、HexOutputStreamによる変換を排除)
+	///** 16進数出力ストリームオブジェクト */
+	//private HexOutputStream hexStream;
 
 	/** レコード改行情報 */
 	private LineRecordLength linefeed;
 
+	/** 改行コード */
+	private byte[] linefeedBytes;
+
 	/** レコード単位入力位置(改行レコード構成の場合のみ) */
 	private int positionOfRecord;
 
+	/** 出力位置 */
+	private long position;
+
+	/** 16進文字バッファ */
+	private byte[] buffer;
+
+	/** 16進文字バッファ蓄積バイト数 */
+	private int count;
+
+	/** 1バイト変換用バッファ */
+	private byte[] single;
+
+	/** 計測情報 */
+	private StreamMetrics metrics;
+
 	/**
 	 * コンストラクタ<br>
 	 * @param parent 親出力ストリームオブジェクト
@@ -41,8 +67,15 @@ public class HexLineOutputStream extends OutputStream {
 	public HexLineOutputStream(OutputStream parent, LineRecordLength linefeed, int size) {
 		super();
 		this.parent = parent;
-		this.hexStream = new HexOutputStream(new BufferedOutputStream(parent, size));
+		//this.hexStream = new HexOutputStream(new BufferedOutputStream(parent, size));
 		this.linefeed = linefeed;
+		this.linefeedBytes = linefeed == null || linefeed.getLinefeedLength() == 0 ? new byte[0] : linefeed.getLinefeed();
+		this.positionOfRecord = 0;
+		this.position = 0;
+		this.buffer = ByteBufferPool.getShared().borrowArray(Math.max(Math.max(size, 64), linefeedBytes.length));
+		this.count = 0;
+		this.single = new byte[1];
+		this.metrics = new StreamMetrics();
 	}
 
 	/**
@@ -61,7 +94,29 @@ public class HexLineOutputStream extends OutputStream {
 	 */
 	@Override
 	public String toString() {
-		return hexStream.toString();
+		//return hexStream.toString();
+		String hex = Long.toHexString(position);
+		while (hex.length() < 8) {
+			hex = "0" + hex;
+		}
+		hex = "0x" + hex.toUpperCase();
+		return hex + "(" + position + ")";
+	}
+
+	/**
+	 * ストリーム先頭からの現在の出力(変換前バイトデータ)位置を取得します。<br>
+	 * @return 出力(変換前バイトデータ)位置
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * ストリームの計測情報を取得します。<br>
+	 * @return 計測情報
+	 */
+	public StreamMetrics getMetrics() {
+		return metrics;
 	}
 
 	/**
@@ -74,8 +129,13 @@ public class HexLineOutputStream extends OutputStream {
 	@Override
 	public void close() throws IOException {
 		flush();
-		hexStream.close();
+		//hexStream.close();
+		metrics.finish();
 		parent.close();
+		if (buffer != null) {
+			ByteBufferPool.getShared().releaseArray(buffer);
+			buffer = null;
+		}
 	}
 
 	/**
@@ -86,10 +146,46 @@ public class HexLineOutputStream extends OutputStream {
 	 */
 	@Override
 	public void flush() throws IOException {
-		hexStream.flush();
+		//hexStream.flush();
+		flushBuffer();
 		parent.flush();
 	}
 
+	/**
+	 * ストリームがクローズされていないことをチェックします。<br>
+	 * @throws IOException ストリームがクローズされている場合にスローされます
+	 */
+	private void ensureOpen() throws IOException {
+		if (buffer == null) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+	/**
+	 * 16進文字バッファに蓄積された内容を親出力ストリームに書き込みます。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			parent.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+
+	/**
+	 * 16進文字バッファに改行コードを蓄積します。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	private void appendLinefeed() throws IOException {
+		if (count + linefeedBytes.length > buffer.length) {
+			flushBuffer();
+		}
+		System.arraycopy(linefeedBytes, 0, buffer, count, linefeedBytes.length);
+		count += linefeedBytes.length;
+		positionOfRecord = 0;
+		metrics.addRecords(1);
+	}
+
 	/**
 	 * 指定されたバイト数をバッファリングされた出力ストリームに書き込みます。<br>
 	 * @param b 書き込むバイト
@@ -98,15 +194,65 @@ public class HexLineOutputStream extends OutputStream {
 	 */
 	@Override
 	public void write(int b) throws IOException {
-		hexStream.write(b);
+		ensureOpen();
+		//hexStream.write(b);
+		if (count + 2 > buffer.length) {
+			flushBuffer();
+		}
+		single[0] = (byte) b;
+		count += HexCodec.encode(single, 0, 1, buffer, count, true);
+		position++;
 		positionOfRecord++;
+		metrics.addBytes(1);
 		if (linefeed != null) {
 			if (positionOfRecord > 0 && positionOfRecord == linefeed.getRecordLength()) {
-				hexStream.flush();
-				parent.write(linefeed.getLinefeed());
-				parent.flush();
-				positionOfRecord = 0;
+				// ↓パフォーマンスチューニング(改行コードを16進文字バッファに蓄積し、レコード毎のフラッシュを排除)
+				//hexStream.flush();
+				//parent.write(linefeed.getLinefeed());
+				//parent.flush();
+				//positionOfRecord = 0;
+				appendLinefeed();
+			}
+		}
+	}
+
+	/**
+	 * 指定されたバイト配列のoffから始まるlenバイトを16進表記としてバッファリングされた出力ストリームに書き込みます。<br>
+	 * データはレコード終端までの範囲単位で16進文字バッファに一括変換され、レコード終端に達した時点で改行コードが続けて蓄積されます。<br>
+	 * @param b データ
+	 * @param off データの開始オフセット
+	 * @param len 書き込むバイト数
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.OutputStream#write(byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		if (b == null) {
+			throw new NullPointerException();
+		} else if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		int record = linefeed == null ? 0 : linefeed.getRecordLength();
+		int p = off;
+		while (p < off + len) {
+			int length = off + len - p;
+			if (record > 0) {
+				length = Math.min(length, record - positionOfRecord);
+			}
+			length = Math.min(length, (buffer.length - count) / 2);
+			if (length <= 0) {
+				flushBuffer();
+				continue;
+			}
+			count += HexCodec.encode(b, p, length, buffer, count, true);
+			p += length;
+			position += length;
+			positionOfRecord += length;
+			if (record > 0 && positionOfRecord == record) {
+				appendLinefeed();
 			}
 		}
+		metrics.addBytes(len);
 	}
 }
@@ -1,9 +1,10 @@
 package org.ideaccum.libs.commons.io;
 
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.PrintWriter;
+
+import org.ideaccum.libs.commons.util.ByteBufferPool;
+import org.ideaccum.libs.commons.util.HexCodec;
 
 /**
  * バイトデータを出力する際に16進表記のアスキー文字列としてストリーム出力するインタフェースを提供します。<br>
@@ -16,6 +17,10 @@ import java.io.PrintWriter;
  * 更新日      更新者           更新内容
  * 2017/06/09  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         {@link org.ideaccum.libs.commons.util.HexCodec}による変換に変更、一括書き込み処理を追加
+ * 2026/10/18  Kitagawa         出力位置を64ビット化、計測情報を追加
+ * 2026/10/18  Kitagawa         内部バッファへの蓄積による出力に変更(BufferedOutputStreamによる二重バッファリングを排除)
+ * 2026/10/18  Kitagawa         16進文字バッファをByteBufferPoolから借りるように変更
  *-->
  */
 public class HexOutputStream extends OutputStream {
@@ -23,11 +28,20 @@ public class HexOutputStream extends OutputStream {
 	/** 親出力ストリームオブジェクト */
 	private OutputStream parent;
 
-	/** 親出力ストリームライターオブジェクト */
-	private PrintWriter writer;
+	/** 一括書き込み用16進文字バッファ */
+	private byte[] buffer;
+
+	/** 16進文字バッファ蓄積バイト数 */
+	private int count;
+
+	/** 1バイト変換用バッファ */
+	private byte[] single;
 
 	/** 入力位置 */
-	private int position;
+	private long position;
+
+	/** 計測情報 */
+	private StreamMetrics metrics;
 
 	/**
 	 * コンストラクタ<br>
@@ -36,9 +50,14 @@ public class HexOutputStream extends OutputStream {
 	 */
 	public HexOutputStream(OutputStream parent, int size) {
 		super();
-		this.parent = new BufferedOutputStream(parent, size);
-		this.writer = new PrintWriter(parent);
+		// ↓パフォーマンスチューニング(16進文字バッファへ直接蓄積する為、BufferedOutputStreamによるラップを排除)
+		//this.parent = new BufferedOutputStream(parent, size);
+		this.parent = parent;
+		this.buffer = ByteBufferPool.getShared().borrowArray(Math.max(size, 64));
+		this.count = 0;
+		this.single = new byte[1];
 		this.position = 0;
+		this.metrics = new StreamMetrics();
 	}
 
 	/**
@@ -56,7 +75,7 @@ public class HexOutputStream extends OutputStream {
 	 */
 	@Override
 	public String toString() {
-		String hex = Integer.toHexString(position);
+		String hex = Long.toHexString(position);
 		while (hex.length() < 8) {
 			hex = "0" + hex;
 		}
@@ -64,6 +83,22 @@ public class HexOutputStream extends OutputStream {
 		return hex + "(" + position + ")";
 	}
 
+	/**
+	 * ストリーム先頭からの現在の出力(変換前バイトデータ)位置を取得します。<br>
+	 * @return 出力(変換前バイトデータ)位置
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * ストリームの計測情報を取得します。<br>
+	 * @return 計測情報
+	 */
+	public StreamMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * 出力ストリームを閉じ、このストリームに関連するすべてのシステムリソースを解放します。<br>
 	 * close の汎用規約では、出力ストリームを閉じます。閉じられたストリームは入出力処理を実行できません。<br>
@@ -74,8 +109,12 @@ public class HexOutputStream extends OutputStream {
 	@Override
 	public void close() throws IOException {
 		flush();
-		writer.close();
-		//parent.close();
+		metrics.finish();
+		parent.close();
+		if (buffer != null) {
+			ByteBufferPool.getShared().releaseArray(buffer);
+			buffer = null;
+		}
 	}
 
 	/**
@@ -86,10 +125,31 @@ public class HexOutputStream extends OutputStream {
 	 */
 	@Override
 	public void flush() throws IOException {
-		writer.flush();
+		flushBuffer();
 		parent.flush();
 	}
 
+	/**
+	 * ストリームがクローズされていないことをチェックします。<br>
+	 * @throws IOException ストリームがクローズされている場合にスローされます
+	 */
+	private void ensureOpen() throws IOException {
+		if (buffer == null) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+	/**
+	 * 16進文字バッファに蓄積された内容を親出力ストリームに書き込みます。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			parent.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+
 	/**
 	 * 指定されたバイト数をバッファリングされた出力ストリームに書き込みます。<br>
 	 * @param b 書き込むバイト
@@ -98,10 +158,46 @@ public class HexOutputStream extends OutputStream {
 	 */
 	@Override
 	public void write(int b) throws IOException {
+		ensureOpen();
 		//String hex = Integer.toHexString(b).toUpperCase();
 		//String hex = Integer.toHexString((byte) b & 0xFF).toUpperCase();
-		String hex = String.format("%02x", (byte) b).toUpperCase();
-		writer.print(hex);
+		// ↓パフォーマンスチューニング(書式文字列処理を排除し、16進文字テーブルから16進文字バッファに蓄積してバッファが満たされた時点でのみ書き込み)
+		//String hex = String.format("%02x", (byte) b).toUpperCase();
+		//writer.print(hex);
+		if (count + 2 > buffer.length) {
+			flushBuffer();
+		}
+		single[0] = (byte) b;
+		count += HexCodec.encode(single, 0, 1, buffer, count, true);
 		position++;
+		metrics.addBytes(1);
+	}
+
+	/**
+	 * 指定されたバイト配列の範囲を16進表記としてバッファリングされた出力ストリームに書き込みます。<br>
+	 * @param b 書き込むバイト配列
+	 * @param off 書き込み開始位置
+	 * @param len 書き込むバイト数
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.OutputStream#write(byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		if (off < 0 || len < 0 || off + len > b.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		int p = off;
+		while (p < off + len) {
+			int length = Math.min(off + len - p, (buffer.length - count) / 2);
+			if (length <= 0) {
+				flushBuffer();
+				continue;
+			}
+			count += HexCodec.encode(b, p, length, buffer, count, true);
+			p += length;
+		}
+		position += len;
+		metrics.addBytes(len);
 	}
 }
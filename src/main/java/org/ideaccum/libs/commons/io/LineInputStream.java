@@ -16,6 +16,8 @@ import java.io.InputStream;
  * 更新日      更新者           更新内容
  * 2017/06/09  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         複数バイト単位の読み込み処理を追加
+ * 2026/10/18  Kitagawa         入力位置を64ビット化、計測情報を追加
  *-->
  */
 public class LineInputStream extends InputStream {
@@ -27,13 +29,19 @@ public class LineInputStream extends InputStream {
 	private LineRecordLength linefeed;
 
 	/** 入力位置 */
-	private int position;
+	private long position;
 
 	/** レコード単位入力位置(改行レコード構成の場合のみ) */
 	private int positionOfRecord;
 
 	/** マーク位置 */
-	private int positionOfMark;
+	private long positionOfMark;
+
+	/** マーク位置のレコード単位入力位置 */
+	private int positionOfRecordMark;
+
+	/** 計測情報 */
+	private StreamMetrics metrics;
 
 	/**
 	 * コンストラクタ<br>
@@ -48,6 +56,8 @@ public class LineInputStream extends InputStream {
 		this.position = 0;
 		this.positionOfRecord = 0;
 		this.positionOfMark = -1;
+		this.positionOfRecordMark = 0;
+		this.metrics = new StreamMetrics();
 	}
 
 	/**
@@ -66,7 +76,7 @@ public class LineInputStream extends InputStream {
 	 */
 	@Override
 	public String toString() {
-		String hex = Integer.toHexString(position);
+		String hex = Long.toHexString(position);
 		while (hex.length() < 8) {
 			hex = "0" + hex;
 		}
@@ -74,6 +84,22 @@ public class LineInputStream extends InputStream {
 		return hex + "(" + position + ")";
 	}
 
+	/**
+	 * ストリーム先頭からの現在の入力位置(改行コードを含まない)を取得します。<br>
+	 * @return 入力位置
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * ストリームの計測情報を取得します。<br>
+	 * @return 計測情報
+	 */
+	public StreamMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * 入力ストリームからデータの次のバイトを読み込みます。<br>
 	 * 値のバイトは、0 ～ 255 の範囲の int として返されます。<br>
@@ -97,17 +123,84 @@ public class LineInputStream extends InputStream {
 		}
 		position++;
 		positionOfRecord++;
+		metrics.addBytes(1);
 		if (linefeed != null) {
 			if (positionOfRecord > 0 && positionOfRecord == linefeed.getRecordLength()) {
-				for (int i = 0; i <= linefeed.getLinefeedLength() - 1; i++) {
-					parent.read();
-				}
+				// ↓パフォーマンスチューニング(改行コードの読み飛ばしを一括で行うように変更)
+				//for (int i = 0; i <= linefeed.getLinefeedLength() - 1; i++) {
+				//	parent.read();
+				//}
+				skipLinefeed();
 				positionOfRecord = 0;
+				metrics.addRecords(1);
 			}
 		}
 		return data;
 	}
 
+	/**
+	 * 入力ストリームから最大lenバイトまでのデータをバイト配列に読み込みます。<br>
+	 * 改行コードを除いたデータ部はレコード終端までの範囲単位で基底ストリームから一括で読み込まれ、レコード終端に達した時点で改行コード分のバイトを一括で読み飛ばします。<br>
+	 * 指定バイト数を読み込むか、ストリームの終わりに達するまで、このメソッドはブロックされます。<br>
+	 * @param b データの読み込み先のバッファ
+	 * @param off データが書き込まれる配列bの開始オフセット
+	 * @param len 読み込む最大バイト数
+	 * @return バッファに読み込まれたバイトの合計数。ストリームの終わりに達してデータがない場合は -1
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.InputStream#read(byte[], int, int)
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (b == null) {
+			throw new NullPointerException();
+		} else if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		} else if (len == 0) {
+			return 0;
+		}
+		int record = linefeed == null ? 0 : linefeed.getRecordLength();
+		int total = 0;
+		while (total < len) {
+			int size = len - total;
+			if (record > 0) {
+				size = Math.min(size, record - positionOfRecord);
+			}
+			int read = parent.read(b, off + total, size);
+			if (read < 0) {
+				break;
+			}
+			total += read;
+			position += read;
+			positionOfRecord += read;
+			metrics.addBytes(read);
+			if (record > 0 && positionOfRecord == record) {
+				skipLinefeed();
+				positionOfRecord = 0;
+				metrics.addRecords(1);
+			}
+		}
+		return total == 0 ? -1 : total;
+	}
+
+	/**
+	 * 基底ストリームから改行コード分のバイトを読み飛ばします。<br>
+	 * ストリームの終わりに達した場合はその時点で終了します。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	private void skipLinefeed() throws IOException {
+		long remain = linefeed.getLinefeedLength();
+		while (remain > 0) {
+			long skipped = parent.skip(remain);
+			if (skipped <= 0) {
+				if (parent.read() < 0) {
+					break;
+				}
+				skipped = 1;
+			}
+			remain -= skipped;
+		}
+	}
+
 	/**
 	 * この入力ストリームの現在位置にマークを設定します。<br>
 	 * @param readlimit マーク位置が無効になる前に読み込み可能なバイトの最大リミット
@@ -117,6 +210,7 @@ public class LineInputStream extends InputStream {
 	public synchronized void mark(int readlimit) {
 		parent.mark(readlimit);
 		positionOfMark = position;
+		positionOfRecordMark = positionOfRecord;
 	}
 
 	/**
@@ -128,7 +222,9 @@ public class LineInputStream extends InputStream {
 		parent.reset();
 		if (positionOfMark >= 0) {
 			position = positionOfMark;
-			positionOfRecord = positionOfMark;
+			// ↓マーク位置がレコード途中の場合に改行コードの読み飛ばし位置がずれる為、レコード単位入力位置もマーク時点の値に戻すように変更
+			//positionOfRecord = positionOfMark;
+			positionOfRecord = positionOfRecordMark;
 			positionOfMark = -1;
 		}
 	}
@@ -142,6 +238,7 @@ public class LineInputStream extends InputStream {
 	 */
 	@Override
 	public void close() throws IOException {
+		metrics.finish();
 		parent.close();
 	}
 }
@@ -16,6 +16,8 @@ import java.io.OutputStream;
  * 更新日      更新者           更新内容
  * 2017/06/09  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         複数バイト単位の書き込み処理を追加
+ * 2026/10/18  Kitagawa         出力位置を64ビット化、計測情報を追加
  *-->
  */
 public class LineOutputStream extends OutputStream {
@@ -27,11 +29,17 @@ public class LineOutputStream extends OutputStream {
 	private LineRecordLength linefeed;
 
 	/** 入力位置 */
-	private int position;
+	private long position;
 
 	/** レコード単位入力位置(改行レコード構成の場合のみ) */
 	private int positionOfRecord;
 
+	/** 改行コード */
+	private byte[] linefeedBytes;
+
+	/** 計測情報 */
+	private StreamMetrics metrics;
+
 	/**
 	 * コンストラクタ<br>
 	 * @param parent 親出力ストリームオブジェクト
@@ -44,6 +52,8 @@ public class LineOutputStream extends OutputStream {
 		this.linefeed = linefeed;
 		this.position = 0;
 		this.positionOfRecord = 0;
+		this.linefeedBytes = linefeed == null || linefeed.getLinefeedLength() == 0 ? new byte[0] : linefeed.getLinefeed();
+		this.metrics = new StreamMetrics();
 	}
 
 	/**
@@ -62,7 +72,7 @@ public class LineOutputStream extends OutputStream {
 	 */
 	@Override
 	public String toString() {
-		String hex = Integer.toHexString(position);
+		String hex = Long.toHexString(position);
 		while (hex.length() < 8) {
 			hex = "0" + hex;
 		}
@@ -70,6 +80,22 @@ public class LineOutputStream extends OutputStream {
 		return hex + "(" + position + ")";
 	}
 
+	/**
+	 * ストリーム先頭からの現在の出力(改行コードを含まない)位置を取得します。<br>
+	 * @return 出力(改行コードを含まない)位置
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * ストリームの計測情報を取得します。<br>
+	 * @return 計測情報
+	 */
+	public StreamMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * 出力ストリームを閉じ、このストリームに関連するすべてのシステムリソースを解放します。<br>
 	 * close の汎用規約では、出力ストリームを閉じます。閉じられたストリームは入出力処理を実行できません。<br>
@@ -80,6 +106,7 @@ public class LineOutputStream extends OutputStream {
 	@Override
 	public void close() throws IOException {
 		flush();
+		metrics.finish();
 		parent.close();
 	}
 
@@ -105,10 +132,54 @@ public class LineOutputStream extends OutputStream {
 		parent.write(b);
 		position++;
 		positionOfRecord++;
+		metrics.addBytes(1);
 		if (linefeed != null) {
 			if (positionOfRecord > 0 && positionOfRecord == linefeed.getRecordLength()) {
-				parent.write(linefeed.getLinefeed());
+				// ↓パフォーマンスチューニング(改行コードの複製を出力毎に行わないように変更)
+				//parent.write(linefeed.getLinefeed());
+				parent.write(linefeedBytes);
+				positionOfRecord = 0;
+				metrics.addRecords(1);
+			}
+		}
+	}
+
+	/**
+	 * 指定されたバイト配列のoffから始まるlenバイトをバッファリングされた出力ストリームに書き込みます。<br>
+	 * データはレコード終端までの範囲単位で基底ストリームに一括で書き込まれ、レコード終端に達した時点で改行コードを書き込みます。<br>
+	 * @param b データ
+	 * @param off データの開始オフセット
+	 * @param len 書き込むバイト数
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.OutputStream#write(byte[], int, int)
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (b == null) {
+			throw new NullPointerException();
+		} else if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		int record = linefeed == null ? 0 : linefeed.getRecordLength();
+		if (record <= 0) {
+			parent.write(b, off, len);
+			position += len;
+			positionOfRecord += len;
+			metrics.addBytes(len);
+			return;
+		}
+		int p = 0;
+		while (p < len) {
+			int size = Math.min(len - p, record - positionOfRecord);
+			parent.write(b, off + p, size);
+			p += size;
+			position += size;
+			positionOfRecord += size;
+			metrics.addBytes(size);
+			if (positionOfRecord == record) {
+				parent.write(linefeedBytes);
 				positionOfRecord = 0;
+				metrics.addRecords(1);
 			}
 		}
 	}
@@ -0,0 +1,161 @@
+package org.ideaccum.libs.commons.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * アスキー範囲外(0x7Fより大きい)の文字をユニコード表記(&#92;uXXXX)のアスキー文字列に変換しながら出力を行うためのストリーム出力インタフェースを提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.util.StringUtil#native2ascii(String)}と同様の変換を固定サイズのバッファで逐次的に行い、
+ * 巨大なプロパティファイルやリソースバンドルを全体を文字列に展開することなく変換するために利用します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class Native2AsciiWriter extends Writer {
+
+	/** ユニコード表記長(&#92;uXXXX) */
+	private static final int ESCAPE_LENGTH = 6;
+
+	/** 16進文字テーブル */
+	private static final char[] HEX_CHARS = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+
+	/** 親出力ストリームオブジェクト */
+	private Writer parent;
+
+	/** 出力バッファ */
+	private char[] buffer;
+
+	/** 出力バッファ有効長 */
+	private int count;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param parent 親出力ストリームオブジェクト
+	 * @param size ストリームバッファサイズ
+	 */
+	public Native2AsciiWriter(Writer parent, int size) {
+		super();
+		if (size < ESCAPE_LENGTH) {
+			throw new IllegalArgumentException("buffer size must be " + ESCAPE_LENGTH + " or more (" + size + ")");
+		}
+		this.parent = parent;
+		this.buffer = new char[size];
+		this.count = 0;
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param parent 親出力ストリームオブジェクト
+	 */
+	public Native2AsciiWriter(Writer parent) {
+		this(parent, 4096);
+	}
+
+	/**
+	 * 出力ストリームを閉じ、このストリームに関連するすべてのシステムリソースを解放します。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Writer#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		parent.close();
+	}
+
+	/**
+	 * バッファリングされた出力ストリームをフラッシュします。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Writer#flush()
+	 */
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		parent.flush();
+	}
+
+	/**
+	 * 単一文字を出力します。<br>
+	 * @param c 出力文字
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Writer#write(int)
+	 */
+	@Override
+	public void write(int c) throws IOException {
+		append0((char) c);
+	}
+
+	/**
+	 * 文字配列の一部を出力します。<br>
+	 * @param cbuf 出力文字配列
+	 * @param off 出力開始位置
+	 * @param len 出力文字数
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Writer#write(char[], int, int)
+	 */
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off + len > cbuf.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		for (int i = off; i <= off + len - 1; i++) {
+			append0(cbuf[i]);
+		}
+	}
+
+	/**
+	 * 文字列の一部を出力します。<br>
+	 * @param str 出力文字列
+	 * @param off 出力開始位置
+	 * @param len 出力文字数
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Writer#write(java.lang.String, int, int)
+	 */
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || off + len > str.length()) {
+			throw new IndexOutOfBoundsException();
+		}
+		for (int i = off; i <= off + len - 1; i++) {
+			append0(str.charAt(i));
+		}
+	}
+
+	/**
+	 * 文字を変換して出力バッファに追加します。<br>
+	 * @param c 出力文字
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	private void append0(char c) throws IOException {
+		if (c > '\177') {
+			if (count + ESCAPE_LENGTH > buffer.length) {
+				flushBuffer();
+			}
+			buffer[count++] = '\\';
+			buffer[count++] = 'u';
+			buffer[count++] = HEX_CHARS[(c >> 12) & 0xF];
+			buffer[count++] = HEX_CHARS[(c >> 8) & 0xF];
+			buffer[count++] = HEX_CHARS[(c >> 4) & 0xF];
+			buffer[count++] = HEX_CHARS[c & 0xF];
+		} else {
+			if (count >= buffer.length) {
+				flushBuffer();
+			}
+			buffer[count++] = c;
+		}
+	}
+
+	/**
+	 * 出力バッファの内容を親出力ストリームに出力します。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			parent.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+}
@@ -0,0 +1,412 @@
+package org.ideaccum.libs.commons.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 固定桁長の行編成ファイルに対してレコード番号によるランダムアクセスを行うためのインタフェースを提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.io.LineInputStream}が先頭からの順次入力のみを提供するのに対し、このクラスでは{@link java.nio.channels.FileChannel}を通じて、
+ * {@link org.ideaccum.libs.commons.io.LineRecordLength}が提供するレコード長及び、改行コード長からレコード位置を算出し、任意のレコードを位置指定で読み込みます。<br>
+ * また、ファイルをメモリマップした領域上でレコードを走査することで、バイトデータを複製することなく{@link java.nio.ByteBuffer}としてレコードを参照することが出来ます。<br>
+ * 並列処理を行う場合は{@link #split(int)}によってレコード境界で分割した範囲毎に処理を行って下さい。<br>
+ * 下記はファイルを分割した範囲毎にレコードを走査する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * RecordFile file = new RecordFile(new File("data.dat"), new LineRecordLength(120));<br>
+ * for (RecordFile.Range range : file.split(4)) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;// 範囲毎に個別のスレッドで実行<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;file.scan(range.getFrom(), range.getTo(), new RecordFile.RecordVisitor() {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;public void visit(long index, ByteBuffer record) throws Exception {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;...<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;});<br>
+ * }<br>
+ * </code>
+ * <p>
+ * ファイル終端のレコードが改行コードを持たない場合や、レコード長に満たない場合も1レコードとして扱い、存在するバイト範囲のみを提供します。<br>
+ * 位置指定読み込み及び、メモリマップはファイルチャネルの位置を変更しない為、このクラスのインスタンスは複数のスレッドから同時に利用することが出来ます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class RecordFile implements Closeable {
+
+	/** メモリマップ単位バイト数上限 */
+	private static final int MAP_SIZE = 1024 * 1024 * 64;
+
+	/** ファイルチャネル */
+	private FileChannel channel;
+
+	/** レコード改行情報 */
+	private LineRecordLength linefeed;
+
+	/** 改行コードを含むレコード長 */
+	private int stride;
+
+	/** ファイルサイズ */
+	private long size;
+
+	/**
+	 * コンストラクタ<br>
+	 * ファイルチャネルはこのクラスのインスタンスのクローズ時にクローズされます。<br>
+	 * ファイルサイズはインスタンス生成時点のサイズとなります。<br>
+	 * @param channel ファイルチャネル
+	 * @param linefeed レコード改行情報
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public RecordFile(FileChannel channel, LineRecordLength linefeed) throws IOException {
+		super();
+		if (channel == null) {
+			throw new NullPointerException("channel");
+		}
+		if (linefeed == null) {
+			throw new NullPointerException("linefeed");
+		}
+		if (linefeed.getRecordLength() <= 0) {
+			throw new IllegalArgumentException("record length <= 0 (" + linefeed.getRecordLength() + ")");
+		}
+		this.channel = channel;
+		this.linefeed = linefeed;
+		this.stride = linefeed.getRecordLength() + linefeed.getLinefeedLength();
+		this.size = channel.size();
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * ファイルは読み込み専用でオープンされます。<br>
+	 * @param file 対象ファイル
+	 * @param linefeed レコード改行情報
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public RecordFile(File file, LineRecordLength linefeed) throws IOException {
+		this(FileChannel.open(file.toPath(), StandardOpenOption.READ), linefeed);
+	}
+
+	/**
+	 * ファイルチャネルを閉じて、それに関連するすべてのシステム・リソースを解放します。<br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "RecordFile(length=" + linefeed.getRecordLength() + ", linefeed=" + linefeed.getLinefeedLength() + ", records=" + getRecordCount() + ")";
+	}
+
+	/**
+	 * レコード長(改行コードを含まない)を取得します。<br>
+	 * @return レコード長
+	 */
+	public int getRecordLength() {
+		return linefeed.getRecordLength();
+	}
+
+	/**
+	 * 改行コードを含むレコード長を取得します。<br>
+	 * @return 改行コードを含むレコード長
+	 */
+	public int getStride() {
+		return stride;
+	}
+
+	/**
+	 * ファイルサイズを取得します。<br>
+	 * @return ファイルサイズ
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * レコード数を取得します。<br>
+	 * @return レコード数
+	 */
+	public long getRecordCount() {
+		return size / stride + (size % stride > 0 ? 1 : 0);
+	}
+
+	/**
+	 * レコードのファイル先頭からの位置を取得します。<br>
+	 * @param index レコードインデックス(0から開始)
+	 * @return ファイル先頭からの位置
+	 */
+	public long getPosition(long index) {
+		return index * stride;
+	}
+
+	/**
+	 * レコードの有効バイト長(改行コードを含まない)を取得します。<br>
+	 * @param index レコードインデックス(0から開始)
+	 * @return 有効バイト長
+	 */
+	private int getLength(long index) {
+		return (int) Math.min(linefeed.getRecordLength(), size - index * stride);
+	}
+
+	/**
+	 * レコードインデックスの範囲をチェックします。<br>
+	 * @param index レコードインデックス
+	 */
+	private void checkIndex(long index) {
+		if (index < 0 || index >= getRecordCount()) {
+			throw new IllegalArgumentException("record index out of range (" + index + ")");
+		}
+	}
+
+	/**
+	 * レコード範囲をチェックします。<br>
+	 * @param from 開始レコードインデックス
+	 * @param to 終了レコードインデックス(このインデックスは含まない)
+	 */
+	private void checkRange(long from, long to) {
+		if (from < 0 || to > getRecordCount() || from > to) {
+			throw new IllegalArgumentException("record range out of range (" + from + " - " + to + ")");
+		}
+	}
+
+	/**
+	 * 指定レコードのデータ部(改行コードを含まない)を位置指定でバッファに読み込みます。<br>
+	 * バッファの現在位置から読み込まれ、読み込んだバイト数分バッファの現在位置が進められます。<br>
+	 * バッファの残りバイト数がレコード長に満たない場合は、残りバイト数分のみ読み込みます。<br>
+	 * @param index レコードインデックス(0から開始)
+	 * @param buffer 読み込み先バッファ
+	 * @return 読み込んだバイト数
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public int read(long index, ByteBuffer buffer) throws IOException {
+		checkIndex(index);
+		int length = Math.min(getLength(index), buffer.remaining());
+		int limit = buffer.limit();
+		buffer.limit(buffer.position() + length);
+		try {
+			long position = index * stride;
+			int total = 0;
+			while (buffer.hasRemaining()) {
+				int read = channel.read(buffer, position + total);
+				if (read < 0) {
+					break;
+				}
+				total += read;
+			}
+			return total;
+		} finally {
+			buffer.limit(limit);
+		}
+	}
+
+	/**
+	 * 指定レコードのデータ部(改行コードを含まない)を位置指定でバイト配列に読み込みます。<br>
+	 * @param index レコードインデックス(0から開始)
+	 * @param dst 読み込み先バイト配列
+	 * @param off 読み込み先開始位置
+	 * @return 読み込んだバイト数
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public int read(long index, byte[] dst, int off) throws IOException {
+		return read(index, ByteBuffer.wrap(dst, off, dst.length - off));
+	}
+
+	/**
+	 * 指定レコードのデータ部(改行コードを含まない)をバイト配列として読み込みます。<br>
+	 * @param index レコードインデックス(0から開始)
+	 * @return レコードデータ
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public byte[] read(long index) throws IOException {
+		checkIndex(index);
+		byte[] data = new byte[getLength(index)];
+		read(index, data, 0);
+		return data;
+	}
+
+	/**
+	 * 指定レコード範囲のファイル領域を読み込み専用でメモリマップします。<br>
+	 * マップされたバッファは改行コードを含むファイル上のバイト配置のまま提供され、レコードiは位置(i - from) * {@link #getStride()}から開始されます。<br>
+	 * @param from 開始レコードインデックス
+	 * @param to 終了レコードインデックス(このインデックスは含まない)
+	 * @return マップされたバッファ
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public MappedByteBuffer map(long from, long to) throws IOException {
+		checkRange(from, to);
+		long position = from * stride;
+		long length = Math.min(to * stride, size) - position;
+		if (length > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("mapping size too large (" + length + ")");
+		}
+		return channel.map(MapMode.READ_ONLY, position, length);
+	}
+
+	/**
+	 * 指定レコード範囲のレコードをメモリマップした領域上で順次走査します。<br>
+	 * レコードビジターには、現在位置及び、制限位置がレコードのデータ部(改行コードを含まない)の範囲に設定されたバッファが渡されます。<br>
+	 * バッファはバイトデータを複製しないマップ領域のビューであり、走査中は同一のインスタンスが再利用される為、呼び出し後もデータを保持する場合は複製して下さい。<br>
+	 * @param from 開始レコードインデックス
+	 * @param to 終了レコードインデックス(このインデックスは含まない)
+	 * @param visitor レコードビジター
+	 * @return 走査レコード数
+	 * @throws IOException 入出力エラーが発生した場合やレコードビジターで例外が発生した場合にスローされます
+	 */
+	public long scan(long from, long to, RecordVisitor visitor) throws IOException {
+		checkRange(from, to);
+		long window = Math.max(1, MAP_SIZE / stride);
+		long index = from;
+		try {
+			while (index < to) {
+				long end = Math.min(to, index + window);
+				MappedByteBuffer mapped = map(index, end);
+				ByteBuffer view = mapped.duplicate();
+				for (long i = index; i <= end - 1; i++) {
+					int position = (int) ((i - index) * stride);
+					view.limit(position + getLength(i));
+					view.position(position);
+					visitor.visit(i, view);
+				}
+				index = end;
+			}
+		} catch (IOException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IOException(e);
+		}
+		return to - from;
+	}
+
+	/**
+	 * 全てのレコードをメモリマップした領域上で順次走査します。<br>
+	 * @param visitor レコードビジター
+	 * @return 走査レコード数
+	 * @throws IOException 入出力エラーが発生した場合やレコードビジターで例外が発生した場合にスローされます
+	 * @see #scan(long, long, RecordVisitor)
+	 */
+	public long scan(RecordVisitor visitor) throws IOException {
+		return scan(0, getRecordCount(), visitor);
+	}
+
+	/**
+	 * ファイルをレコード境界で指定数の範囲に分割します。<br>
+	 * 各範囲のレコード数は均等(差は最大1レコード)となり、レコード数が分割数に満たない場合は空の範囲を含まないようにレコード数分の範囲のみを提供します。<br>
+	 * @param count 分割数
+	 * @return レコード範囲配列
+	 */
+	public Range[] split(int count) {
+		if (count <= 0) {
+			throw new IllegalArgumentException("count <= 0 (" + count + ")");
+		}
+		long records = getRecordCount();
+		int ranges = (int) Math.min(count, records);
+		Range[] result = new Range[ranges];
+		for (int i = 0; i <= ranges - 1; i++) {
+			result[i] = new Range(records * i / ranges, records * (i + 1) / ranges);
+		}
+		return result;
+	}
+
+	/**
+	 * レコード境界で分割されたレコード範囲を提供します。<br>
+	 * <p>
+	 * このクラスは{@link RecordFile#split(int)}で利用されます。<br>
+	 * </p>
+	 *
+	 *<!--
+	 * 更新日      更新者           更新内容
+	 * 2026/10/18  Kitagawa         新規作成
+	 *-->
+	 */
+	public static final class Range {
+
+		/** 開始レコードインデックス */
+		private long from;
+
+		/** 終了レコードインデックス(このインデックスは含まない) */
+		private long to;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param from 開始レコードインデックス
+		 * @param to 終了レコードインデックス(このインデックスは含まない)
+		 */
+		public Range(long from, long to) {
+			super();
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * クラス情報文字列を提供します。<br>
+		 * @return クラス情報文字列
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "[" + from + " - " + to + ")";
+		}
+
+		/**
+		 * 開始レコードインデックスを取得します。<br>
+		 * @return 開始レコードインデックス
+		 */
+		public long getFrom() {
+			return from;
+		}
+
+		/**
+		 * 終了レコードインデックス(このインデックスは含まない)を取得します。<br>
+		 * @return 終了レコードインデックス
+		 */
+		public long getTo() {
+			return to;
+		}
+
+		/**
+		 * 範囲のレコード数を取得します。<br>
+		 * @return レコード数
+		 */
+		public long getCount() {
+			return to - from;
+		}
+	}
+
+	/**
+	 * レコード走査時にレコード毎のバイトデータを受け取るためのビジターインタフェースを提供します。<br>
+	 * <p>
+	 * このインタフェースクラスは{@link RecordFile#scan(long, long, RecordVisitor)}で利用されます。<br>
+	 * </p>
+	 *
+	 *<!--
+	 * 更新日      更新者           更新内容
+	 * 2026/10/18  Kitagawa         新規作成
+	 *-->
+	 */
+	public static interface RecordVisitor {
+
+		/**
+		 * レコードのバイトデータを処理します。<br>
+		 * @param index ファイル先頭からのレコードインデックス(0から開始)
+		 * @param record 現在位置及び、制限位置がレコードのデータ部範囲に設定されたバッファ(走査中は再利用されます)
+		 * @throws Exception 処理中に例外が発生した場合にスローされます
+		 */
+		public void visit(long index, ByteBuffer record) throws Exception;
+	}
+}
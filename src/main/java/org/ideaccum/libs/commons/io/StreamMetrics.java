@@ -0,0 +1,146 @@
+package org.ideaccum.libs.commons.io;
+
+/**
+ * ストリームの入出力量及び、処理時間の計測情報を提供します。<br>
+ * <p>
+ * このクラスは{@link org.ideaccum.libs.commons.io.LineInputStream}、{@link org.ideaccum.libs.commons.io.LineOutputStream}、
+ * {@link org.ideaccum.libs.commons.io.HexInputStream}、{@link org.ideaccum.libs.commons.io.HexOutputStream}、{@link org.ideaccum.libs.commons.io.HexLineOutputStream}の各ストリームが保持し、各ストリームの getMetrics() から取得します。<br>
+ * 計測値はストリームの入出力処理中に別スレッドから参照することができ、長時間の転送処理の進捗監視に利用することが出来ます。<br>
+ * 下記は入力処理の進捗を別スレッドから参照する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * final LineInputStream stream = new LineInputStream(in, new LineRecordLength(120));<br>
+ * final StreamMetrics metrics = stream.getMetrics();<br>
+ * // 監視スレッド<br>
+ * System.out.println(metrics.getRecords() + " records, " + metrics.getThroughput() / 1024 / 1024 + " MB/s");<br>
+ * </code>
+ * <p>
+ * 計測値の更新は入出力を行う単一のスレッドからのみ行われることを前提としており、参照は任意のスレッドから行うことが出来ます。<br>
+ * 経過時間はストリーム生成時点から計測され、ストリームのクローズ時点で確定します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class StreamMetrics {
+
+	/** 計測開始時刻(ナノ秒) */
+	private final long started;
+
+	/** 計測終了時の経過時間(ナノ秒、計測終了フラグの設定前に設定) */
+	private volatile long elapsed;
+
+	/** 計測終了フラグ */
+	private volatile boolean finished;
+
+	/** 入出力バイト数 */
+	private volatile long bytes;
+
+	/** 入出力レコード数 */
+	private volatile long records;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	StreamMetrics() {
+		super();
+		this.started = System.nanoTime();
+		this.elapsed = 0;
+		this.finished = false;
+		this.bytes = 0;
+		this.records = 0;
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "bytes=" + getBytes() + ", records=" + getRecords() + ", elapsed=" + getElapsedMillis() + "ms, throughput=" + (long) getThroughput() + "bytes/s";
+	}
+
+	/**
+	 * 入出力バイト数を加算します。<br>
+	 * @param count 加算バイト数
+	 */
+	void addBytes(long count) {
+		bytes += count;
+	}
+
+	/**
+	 * 入出力レコード数を加算します。<br>
+	 * @param count 加算レコード数
+	 */
+	void addRecords(long count) {
+		records += count;
+	}
+
+	/**
+	 * 計測を終了します。<br>
+	 * 既に終了している場合は何も行いません。<br>
+	 */
+	void finish() {
+		if (!finished) {
+			elapsed = System.nanoTime() - started;
+			finished = true;
+		}
+	}
+
+	/**
+	 * 入出力バイト数を取得します。<br>
+	 * マーク位置への再設定後に再度入出力されたバイトも加算されたバイト数となります。<br>
+	 * @return 入出力バイト数
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * 入出力が完了したレコード数を取得します。<br>
+	 * レコード長に満たない終端レコードは含まれません。またレコード単位の入出力を行わないストリームでは常に0となります。<br>
+	 * @return 入出力レコード数
+	 */
+	public long getRecords() {
+		return records;
+	}
+
+	/**
+	 * 計測開始からの経過時間をミリ秒単位で取得します。<br>
+	 * @return 経過時間(ミリ秒)
+	 */
+	public long getElapsedMillis() {
+		return getElapsedNanos() / 1000000L;
+	}
+
+	/**
+	 * 計測開始からの経過時間をナノ秒単位で取得します。<br>
+	 * @return 経過時間(ナノ秒)
+	 */
+	private long getElapsedNanos() {
+		return finished ? elapsed : System.nanoTime() - started;
+	}
+
+	/**
+	 * 1秒あたりの入出力バイト数を取得します。<br>
+	 * @return スループット(バイト/秒)
+	 */
+	public double getThroughput() {
+		long elapsed = getElapsedNanos();
+		if (elapsed <= 0) {
+			return 0;
+		}
+		return getBytes() * 1000000000D / elapsed;
+	}
+
+	/**
+	 * 計測が終了しているか判定します。<br>
+	 * @return ストリームがクローズされ計測が終了している場合にtrueを返却
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+}
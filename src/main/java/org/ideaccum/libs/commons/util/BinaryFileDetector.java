@@ -0,0 +1,379 @@
+package org.ideaccum.libs.commons.util;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ファイルがバイナリファイルであるかを先頭部分の標本から判定するためのインタフェースを提供します。<br>
+ * <p>
+ * ファイル先頭から標本サイズまでのバイトを単一のバッファに一括で読み込み、下記の順序で判定します。ファイル全体の走査は行いません。<br>
+ * <ul>
+ * <li>\0を含む場合はバイナリファイル</li>
+ * <li>タブ、改行、改ページ、エスケープ等のテキストで利用される文字を除く制御文字の割合が閾値を超える場合はバイナリファイル</li>
+ * <li>全てのバイトがASCII範囲内の場合はテキストファイル</li>
+ * <li>UTF-8又は、Windows-31Jのバイト列として妥当な場合はテキストファイル、いずれにも該当しない場合はバイナリファイル</li>
+ * </ul>
+ * 標本の終端で途切れたマルチバイト文字は妥当なバイト列として扱われます。<br>
+ * ディレクトリ配下のファイルを一括で判定する場合は{@link #detect(File, FileFilter, int)}で並列数を指定することで、複数のファイルを並列に判定することが出来ます。<br>
+ * </p>
+ * <p>
+ * このクラスのインスタンスは生成後に状態を変更しない為、複数のスレッドから同時に利用することが出来ます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class BinaryFileDetector {
+
+	/** デフォルト標本サイズ */
+	public static final int DEFAULT_SAMPLE_SIZE = 1024 * 8;
+
+	/** デフォルト制御文字割合閾値 */
+	public static final double DEFAULT_CONTROL_RATIO = 0.3;
+
+	/** 並列判定時の分割単位ファイル数 */
+	private static final int SPLIT_THRESHOLD = 16;
+
+	/** 標本サイズ */
+	private int sampleSize;
+
+	/** 制御文字割合閾値 */
+	private double controlRatio;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param sampleSize 標本サイズ(バイト)
+	 * @param controlRatio 制御文字割合閾値(0.0～1.0)
+	 */
+	public BinaryFileDetector(int sampleSize, double controlRatio) {
+		super();
+		if (sampleSize <= 0) {
+			throw new IllegalArgumentException("sampleSize <= 0 (" + sampleSize + ")");
+		}
+		if (controlRatio < 0 || controlRatio > 1) {
+			throw new IllegalArgumentException("controlRatio out of range (" + controlRatio + ")");
+		}
+		this.sampleSize = sampleSize;
+		this.controlRatio = controlRatio;
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * @param sampleSize 標本サイズ(バイト)
+	 */
+	public BinaryFileDetector(int sampleSize) {
+		this(sampleSize, DEFAULT_CONTROL_RATIO);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public BinaryFileDetector() {
+		this(DEFAULT_SAMPLE_SIZE, DEFAULT_CONTROL_RATIO);
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "sampleSize=" + sampleSize + ", controlRatio=" + controlRatio;
+	}
+
+	/**
+	 * 標本サイズを取得します。<br>
+	 * @return 標本サイズ(バイト)
+	 */
+	public int getSampleSize() {
+		return sampleSize;
+	}
+
+	/**
+	 * 制御文字割合閾値を取得します。<br>
+	 * @return 制御文字割合閾値
+	 */
+	public double getControlRatio() {
+		return controlRatio;
+	}
+
+	/**
+	 * ファイルがバイナリファイルであるか判定します。<br>
+	 * ファイルが読み込めない場合はバイナリファイルとして扱います。<br>
+	 * @param file 判定対象ファイル
+	 * @return バイナリファイルである場合にtrueを返却
+	 */
+	public boolean isBinary(File file) {
+		if (file == null) {
+			return false;
+		}
+		byte[] buffer = ByteBufferPool.getShared().borrowArray(sampleSize);
+		try (InputStream is = new FileInputStream(file)) {
+			int length = 0;
+			int read;
+			while (length < sampleSize && (read = is.read(buffer, length, sampleSize - length)) >= 0) {
+				length += read;
+			}
+			return isBinary(buffer, 0, length, length == sampleSize);
+		} catch (IOException e) {
+			return true;
+		} finally {
+			ByteBufferPool.getShared().releaseArray(buffer);
+		}
+	}
+
+	/**
+	 * バイトデータがバイナリデータであるか判定します。<br>
+	 * バイトデータは完結したデータとして扱い、終端で途切れたマルチバイト文字は不正なバイト列として判定されます。<br>
+	 * @param data 判定対象バイトデータ
+	 * @param offset 判定開始オフセット
+	 * @param length 判定バイト長
+	 * @return バイナリデータである場合にtrueを返却
+	 */
+	public boolean isBinary(byte[] data, int offset, int length) {
+		if (data == null) {
+			return false;
+		}
+		if (offset < 0 || length < 0 || offset + length > data.length) {
+			throw new IllegalArgumentException("range out of bounds (" + offset + ", " + length + ")");
+		}
+		return isBinary(data, offset, length, false);
+	}
+
+	/**
+	 * バイトデータがバイナリデータであるか判定します。<br>
+	 * @param data 判定対象バイトデータ
+	 * @return バイナリデータである場合にtrueを返却
+	 */
+	public boolean isBinary(byte[] data) {
+		if (data == null) {
+			return false;
+		}
+		return isBinary(data, 0, data.length, false);
+	}
+
+	/**
+	 * 基底パス配下のファイルを判定します。<br>
+	 * 並列数が2以上の場合はファイルの走査及び、判定を並列に実行します。<br>
+	 * @param base 基底パス
+	 * @param filter 判定対象ファイルフィルタ(nullの場合は全てのファイルが対象)
+	 * @param parallelism 並列数
+	 * @return ファイルをキーとし、バイナリファイルである場合にtrueを値とするマップ(走査順)
+	 */
+	public Map<File, Boolean> detect(File base, FileFilter filter, int parallelism) {
+		File[] files = new FileWalker(base).setFileFilter(filter).setParallelism(parallelism).toArray();
+		boolean[] result = new boolean[files.length];
+		if (parallelism <= 1 || files.length <= SPLIT_THRESHOLD) {
+			for (int i = 0; i <= files.length - 1; i++) {
+				result[i] = isBinary(files[i]);
+			}
+		} else {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				pool.invoke(new DetectTask(files, result, 0, files.length));
+			} finally {
+				pool.shutdown();
+			}
+		}
+		Map<File, Boolean> map = new LinkedHashMap<>();
+		for (int i = 0; i <= files.length - 1; i++) {
+			map.put(files[i], result[i]);
+		}
+		return map;
+	}
+
+	/**
+	 * バイトデータがバイナリデータであるか判定します。<br>
+	 * @param data 判定対象バイトデータ
+	 * @param offset 判定開始オフセット
+	 * @param length 判定バイト長
+	 * @param truncated バイトデータが標本として途中で切り取られている場合にtrue
+	 * @return バイナリデータである場合にtrueを返却
+	 */
+	private boolean isBinary(byte[] data, int offset, int length, boolean truncated) {
+		if (length == 0) {
+			return false;
+		}
+		int end = offset + length;
+		int controls = 0;
+		boolean ascii = true;
+		for (int i = offset; i <= end - 1; i++) {
+			int b = data[i] & 0xff;
+			if (b == 0) {
+				return true;
+			}
+			if (b >= 0x80) {
+				ascii = false;
+			} else if (b < 0x20 || b == 0x7f) {
+				if (b != '\t' && b != '\n' && b != '\r' && b != '\f' && b != '\b' && b != 0x1b) {
+					controls++;
+				}
+			}
+		}
+		if (controls > length * controlRatio) {
+			return true;
+		}
+		if (ascii) {
+			return false;
+		}
+		return !isValidUTF8(data, offset, end, truncated) && !isValidWindows31J(data, offset, end, truncated);
+	}
+
+	/**
+	 * バイトデータがUTF-8のバイト列として妥当であるか判定します。<br>
+	 * @param data 判定対象バイトデータ
+	 * @param offset 判定開始オフセット
+	 * @param end 判定終了位置(この位置を含まない)
+	 * @param truncated 終端で途切れたマルチバイト文字を妥当とする場合にtrue
+	 * @return 妥当である場合にtrueを返却
+	 */
+	private static boolean isValidUTF8(byte[] data, int offset, int end, boolean truncated) {
+		int i = offset;
+		while (i < end) {
+			int b = data[i] & 0xff;
+			if (b < 0x80) {
+				i++;
+				continue;
+			}
+			int count;
+			int min;
+			if (b >= 0xc2 && b <= 0xdf) {
+				count = 1;
+				min = 0x80;
+			} else if (b >= 0xe0 && b <= 0xef) {
+				count = 2;
+				min = 0x800;
+			} else if (b >= 0xf0 && b <= 0xf4) {
+				count = 3;
+				min = 0x10000;
+			} else {
+				return false;
+			}
+			if (i + count > end - 1) {
+				return truncated && isContinuation(data, i + 1, end);
+			}
+			int code = b & (0x3f >> count);
+			for (int j = 1; j <= count; j++) {
+				int c = data[i + j] & 0xff;
+				if ((c & 0xc0) != 0x80) {
+					return false;
+				}
+				code = (code << 6) | (c & 0x3f);
+			}
+			if (code < min || code > 0x10ffff || (code >= 0xd800 && code <= 0xdfff)) {
+				return false;
+			}
+			i += count + 1;
+		}
+		return true;
+	}
+
+	/**
+	 * 指定範囲のバイトが全てUTF-8の後続バイトであるか判定します。<br>
+	 * @param data 判定対象バイトデータ
+	 * @param offset 判定開始オフセット
+	 * @param end 判定終了位置(この位置を含まない)
+	 * @return 全て後続バイトである場合にtrueを返却
+	 */
+	private static boolean isContinuation(byte[] data, int offset, int end) {
+		for (int i = offset; i <= end - 1; i++) {
+			if ((data[i] & 0xc0) != 0x80) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * バイトデータがWindows-31Jのバイト列として妥当であるか判定します。<br>
+	 * @param data 判定対象バイトデータ
+	 * @param offset 判定開始オフセット
+	 * @param end 判定終了位置(この位置を含まない)
+	 * @param truncated 終端で途切れた2バイト文字を妥当とする場合にtrue
+	 * @return 妥当である場合にtrueを返却
+	 */
+	private static boolean isValidWindows31J(byte[] data, int offset, int end, boolean truncated) {
+		int i = offset;
+		while (i < end) {
+			int b = data[i] & 0xff;
+			if (b < 0x80 || (b >= 0xa1 && b <= 0xdf)) {
+				i++;
+				continue;
+			}
+			if (!((b >= 0x81 && b <= 0x9f) || (b >= 0xe0 && b <= 0xfc))) {
+				return false;
+			}
+			if (i + 1 >= end) {
+				return truncated;
+			}
+			int c = data[i + 1] & 0xff;
+			if (c < 0x40 || c == 0x7f || c > 0xfc) {
+				return false;
+			}
+			i += 2;
+		}
+		return true;
+	}
+
+	/**
+	 * ファイル配列の範囲単位の並列判定タスククラスです。<br>
+	 */
+	private final class DetectTask extends RecursiveAction {
+
+		/** シリアルバージョンUID */
+		private static final long serialVersionUID = 1L;
+
+		/** 判定対象ファイル */
+		private File[] files;
+
+		/** 判定結果格納先 */
+		private boolean[] result;
+
+		/** 判定開始位置 */
+		private int from;
+
+		/** 判定終了位置(この位置を含まない) */
+		private int to;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param files 判定対象ファイル
+		 * @param result 判定結果格納先
+		 * @param from 判定開始位置
+		 * @param to 判定終了位置(この位置を含まない)
+		 */
+		private DetectTask(File[] files, boolean[] result, int from, int to) {
+			super();
+			this.files = files;
+			this.result = result;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * 範囲内のファイルを判定します。<br>
+		 * @see java.util.concurrent.RecursiveAction#compute()
+		 */
+		@Override
+		protected void compute() {
+			if (to - from <= SPLIT_THRESHOLD) {
+				for (int i = from; i <= to - 1; i++) {
+					result[i] = isBinary(files[i]);
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new DetectTask(files, result, from, middle), new DetectTask(files, result, middle, to));
+		}
+	}
+}
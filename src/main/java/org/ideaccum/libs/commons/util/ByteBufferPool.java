@@ -0,0 +1,476 @@
+package org.ideaccum.libs.commons.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 入出力処理で一時的に利用するバイト配列及び、{@link java.nio.ByteBuffer}を再利用するためのプールを提供します。<br>
+ * <p>
+ * バッファは2のべき乗のサイズクラス単位で管理され、要求サイズ以上の最小のサイズクラスのバッファが貸し出されます。<br>
+ * 返却されたバッファはまずスレッド毎のキャッシュに保持され、キャッシュが満たされている場合は全スレッドで共有されるフリーリストに保持されます。<br>
+ * フリーリストはサイズクラス毎の固定長スロットに対するCAS操作で管理される為、貸し出し、返却時にロックやオブジェクト生成は発生しません。<br>
+ * 最大サイズクラスを超えるサイズの要求はプールを経由せずに都度生成され、返却時には破棄されます。<br>
+ * 下記はプールからバッファを借りて利用する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * ByteBufferPool pool = ByteBufferPool.getShared();<br>
+ * byte[] buffer = pool.borrowArray(1024 * 64);<br>
+ * try {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;for (int length; (length = in.read(buffer)) != -1;) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;out.write(buffer, 0, length);<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ * } finally {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;pool.releaseArray(buffer);<br>
+ * }<br>
+ * </code>
+ * <p>
+ * 貸し出されるバッファの内容は初期化されず、以前の利用者が書き込んだ内容が残っている場合があります。<br>
+ * また、返却したバッファを継続して利用したり、同一のバッファを複数回返却した場合は他の利用者とバッファが共有される為、返却後のバッファは参照しないで下さい。<br>
+ * 貸し出し及び、返却は任意のスレッドから行うことができ、貸し出したスレッドと異なるスレッドから返却することも出来ます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class ByteBufferPool {
+
+	/** 共有プール(1KB～4MB、スレッドキャッシュ256KB/クラス、フリーリスト8MB/クラス) */
+	private static final ByteBufferPool SHARED = new ByteBufferPool(1024, 1024 * 1024 * 4, 1024 * 256, 1024 * 1024 * 8);
+
+	/** スレッドキャッシュの1サイズクラスあたりの最大保持数 */
+	private static final int LOCAL_SLOTS_LIMIT = 4;
+
+	/** フリーリストの1サイズクラスあたりの最大保持数 */
+	private static final int GLOBAL_SLOTS_LIMIT = 32;
+
+	/** 最小サイズクラスのシフト数 */
+	private final int minShift;
+
+	/** サイズクラス数 */
+	private final int classes;
+
+	/** スレッドキャッシュのサイズクラス毎保持数 */
+	private final int[] localSlots;
+
+	/** フリーリストのサイズクラス毎保持数 */
+	private final int[] globalSlots;
+
+	/** フリーリストのサイズクラス毎開始スロット位置 */
+	private final int[] globalOffsets;
+
+	/** バイト配列フリーリスト */
+	private final AtomicReferenceArray<byte[]> arrays;
+
+	/** ダイレクトバッファフリーリスト */
+	private final AtomicReferenceArray<ByteBuffer> directs;
+
+	/** スレッドキャッシュ */
+	private final ThreadLocal<LocalCache> local;
+
+	/** 貸し出し回数 */
+	private final LongAdder borrows;
+
+	/** スレッドキャッシュからの貸し出し回数 */
+	private final LongAdder localHits;
+
+	/** フリーリストからの貸し出し回数 */
+	private final LongAdder globalHits;
+
+	/** 新規生成回数 */
+	private final LongAdder allocations;
+
+	/** 返却回数 */
+	private final LongAdder releases;
+
+	/** 返却時破棄回数 */
+	private final LongAdder discards;
+
+	/**
+	 * コンストラクタ<br>
+	 * 最小サイズクラス及び、最大サイズクラスは2のべき乗に切り上げられます。<br>
+	 * @param minSize 最小サイズクラス(バイト)
+	 * @param maxSize 最大サイズクラス(バイト)
+	 * @param localLimit スレッドキャッシュの1サイズクラスあたりの保持容量(バイト、保持数は最大4)
+	 * @param globalLimit フリーリストの1サイズクラスあたりの保持容量(バイト、保持数は1～32)
+	 */
+	public ByteBufferPool(int minSize, int maxSize, int localLimit, int globalLimit) {
+		super();
+		if (minSize <= 0) {
+			throw new IllegalArgumentException("minSize <= 0 (" + minSize + ")");
+		}
+		if (maxSize < minSize || maxSize > 1 << 30) {
+			throw new IllegalArgumentException("maxSize out of range (" + maxSize + ")");
+		}
+		this.minShift = shift(minSize);
+		this.classes = shift(maxSize) - minShift + 1;
+		this.localSlots = new int[classes];
+		this.globalSlots = new int[classes];
+		this.globalOffsets = new int[classes];
+		int total = 0;
+		for (int i = 0; i <= classes - 1; i++) {
+			int size = 1 << (minShift + i);
+			localSlots[i] = Math.min(LOCAL_SLOTS_LIMIT, Math.max(localLimit, 0) / size);
+			globalSlots[i] = Math.max(1, Math.min(GLOBAL_SLOTS_LIMIT, Math.max(globalLimit, 0) / size));
+			globalOffsets[i] = total;
+			total += globalSlots[i];
+		}
+		this.arrays = new AtomicReferenceArray<>(total);
+		this.directs = new AtomicReferenceArray<>(total);
+		this.local = new ThreadLocal<LocalCache>() {
+
+			@Override
+			protected LocalCache initialValue() {
+				return new LocalCache(localSlots);
+			}
+		};
+		this.borrows = new LongAdder();
+		this.localHits = new LongAdder();
+		this.globalHits = new LongAdder();
+		this.allocations = new LongAdder();
+		this.releases = new LongAdder();
+		this.discards = new LongAdder();
+	}
+
+	/**
+	 * 全ての処理で共有されるプールを取得します。<br>
+	 * @return 共有プール
+	 */
+	public static ByteBufferPool getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "borrows=" + getBorrowCount() + ", hits=" + getHitCount() + "(local=" + localHits.sum() + ", global=" + globalHits.sum() + "), allocations=" + getAllocationCount() + ", releases=" + getReleaseCount() + ", discards=" + getDiscardCount();
+	}
+
+	/**
+	 * サイズを格納可能な最小の2のべき乗のシフト数を取得します。<br>
+	 * @param size サイズ
+	 * @return シフト数
+	 */
+	private static int shift(int size) {
+		return size <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+	}
+
+	/**
+	 * 要求サイズに対するサイズクラスを取得します。<br>
+	 * @param size 要求サイズ
+	 * @return サイズクラス、最大サイズクラスを超える場合は-1
+	 */
+	private int classOf(int size) {
+		int index = Math.max(shift(size) - minShift, 0);
+		return index < classes ? index : -1;
+	}
+
+	/**
+	 * 返却されたバッファ容量に対するサイズクラスを取得します。<br>
+	 * @param capacity バッファ容量
+	 * @return サイズクラス、容量がサイズクラスと一致しない場合は-1
+	 */
+	private int classOfCapacity(int capacity) {
+		int index = classOf(capacity);
+		return index >= 0 && 1 << (minShift + index) == capacity ? index : -1;
+	}
+
+	/**
+	 * フリーリストの探索開始位置をスレッド毎に分散させるためのオフセットを取得します。<br>
+	 * @param slots サイズクラスのスロット数
+	 * @return 探索開始オフセット
+	 */
+	private static int probe(int slots) {
+		return (int) (Thread.currentThread().getId() % slots);
+	}
+
+	/**
+	 * 要求サイズ以上の長さのバイト配列を借ります。<br>
+	 * @param size 要求サイズ
+	 * @return バイト配列(長さは要求サイズ以上のサイズクラスとなり、内容は初期化されません)
+	 */
+	public byte[] borrowArray(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size < 0 (" + size + ")");
+		}
+		borrows.increment();
+		int index = classOf(size);
+		if (index < 0) {
+			allocations.increment();
+			return new byte[size];
+		}
+		LocalCache cache = local.get();
+		int count = cache.arrayCounts[index];
+		if (count > 0) {
+			byte[] array = cache.arrays[index][--count];
+			cache.arrays[index][count] = null;
+			cache.arrayCounts[index] = count;
+			localHits.increment();
+			return array;
+		}
+		int slots = globalSlots[index];
+		int start = probe(slots);
+		for (int i = 0; i <= slots - 1; i++) {
+			int slot = globalOffsets[index] + (start + i) % slots;
+			byte[] array = arrays.get(slot);
+			if (array != null && arrays.compareAndSet(slot, array, null)) {
+				globalHits.increment();
+				return array;
+			}
+		}
+		allocations.increment();
+		return new byte[1 << (minShift + index)];
+	}
+
+	/**
+	 * 借りたバイト配列を返却します。<br>
+	 * サイズクラスと長さが一致しないバイト配列及び、保持容量を超えるバイト配列は破棄されます。<br>
+	 * @param array バイト配列(nullの場合は何も行いません)
+	 */
+	public void releaseArray(byte[] array) {
+		if (array == null) {
+			return;
+		}
+		releases.increment();
+		int index = classOfCapacity(array.length);
+		if (index < 0) {
+			discards.increment();
+			return;
+		}
+		LocalCache cache = local.get();
+		int count = cache.arrayCounts[index];
+		if (count < localSlots[index]) {
+			cache.arrays[index][count] = array;
+			cache.arrayCounts[index] = count + 1;
+			return;
+		}
+		int slots = globalSlots[index];
+		int start = probe(slots);
+		for (int i = 0; i <= slots - 1; i++) {
+			int slot = globalOffsets[index] + (start + i) % slots;
+			if (arrays.get(slot) == null && arrays.compareAndSet(slot, null, array)) {
+				return;
+			}
+		}
+		discards.increment();
+	}
+
+	/**
+	 * 要求サイズ以上の容量のヒープバッファを借ります。<br>
+	 * バッファはプールされたバイト配列をラップしたものとなり、現在位置は0、制限位置は要求サイズに設定されます。<br>
+	 * @param size 要求サイズ
+	 * @return ヒープバッファ
+	 */
+	public ByteBuffer borrowBuffer(int size) {
+		ByteBuffer buffer = ByteBuffer.wrap(borrowArray(size));
+		buffer.limit(size);
+		return buffer;
+	}
+
+	/**
+	 * 要求サイズ以上の容量のダイレクトバッファを借ります。<br>
+	 * バッファの現在位置は0、制限位置は要求サイズ、バイトオーダーはビッグエンディアンに設定されます。<br>
+	 * @param size 要求サイズ
+	 * @return ダイレクトバッファ
+	 */
+	public ByteBuffer borrowDirect(int size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size < 0 (" + size + ")");
+		}
+		borrows.increment();
+		int index = classOf(size);
+		if (index < 0) {
+			allocations.increment();
+			return ByteBuffer.allocateDirect(size);
+		}
+		ByteBuffer buffer = null;
+		LocalCache cache = local.get();
+		int count = cache.directCounts[index];
+		if (count > 0) {
+			buffer = cache.directs[index][--count];
+			cache.directs[index][count] = null;
+			cache.directCounts[index] = count;
+			localHits.increment();
+		} else {
+			int slots = globalSlots[index];
+			int start = probe(slots);
+			for (int i = 0; i <= slots - 1; i++) {
+				int slot = globalOffsets[index] + (start + i) % slots;
+				ByteBuffer candidate = directs.get(slot);
+				if (candidate != null && directs.compareAndSet(slot, candidate, null)) {
+					buffer = candidate;
+					globalHits.increment();
+					break;
+				}
+			}
+		}
+		if (buffer == null) {
+			allocations.increment();
+			buffer = ByteBuffer.allocateDirect(1 << (minShift + index));
+		}
+		buffer.clear();
+		buffer.limit(size);
+		buffer.order(ByteOrder.BIG_ENDIAN);
+		return buffer;
+	}
+
+	/**
+	 * 借りたバッファを返却します。<br>
+	 * ヒープバッファの場合はラップしているバイト配列が返却されます。<br>
+	 * スライス等によって容量又は、開始位置がサイズクラスと一致しないバッファ及び、保持容量を超えるバッファは破棄されます。<br>
+	 * @param buffer バッファ(nullの場合は何も行いません)
+	 */
+	public void releaseBuffer(ByteBuffer buffer) {
+		if (buffer == null) {
+			return;
+		}
+		if (!buffer.isDirect()) {
+			if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.capacity() == buffer.array().length) {
+				releaseArray(buffer.array());
+			} else {
+				releases.increment();
+				discards.increment();
+			}
+			return;
+		}
+		releases.increment();
+		int index = classOfCapacity(buffer.capacity());
+		if (index < 0 || buffer.isReadOnly()) {
+			discards.increment();
+			return;
+		}
+		LocalCache cache = local.get();
+		int count = cache.directCounts[index];
+		if (count < localSlots[index]) {
+			cache.directs[index][count] = buffer;
+			cache.directCounts[index] = count + 1;
+			return;
+		}
+		int slots = globalSlots[index];
+		int start = probe(slots);
+		for (int i = 0; i <= slots - 1; i++) {
+			int slot = globalOffsets[index] + (start + i) % slots;
+			if (directs.get(slot) == null && directs.compareAndSet(slot, null, buffer)) {
+				return;
+			}
+		}
+		discards.increment();
+	}
+
+	/**
+	 * 全スレッドで共有されるフリーリストに保持されているバッファを破棄します。<br>
+	 * スレッド毎のキャッシュは各スレッドの終了時に破棄されます。<br>
+	 */
+	public void clear() {
+		for (int i = 0; i <= arrays.length() - 1; i++) {
+			arrays.set(i, null);
+			directs.set(i, null);
+		}
+	}
+
+	/**
+	 * 貸し出し回数を取得します。<br>
+	 * @return 貸し出し回数
+	 */
+	public long getBorrowCount() {
+		return borrows.sum();
+	}
+
+	/**
+	 * プールに保持されていたバッファを貸し出した回数(スレッドキャッシュ及び、フリーリストからの貸し出し回数)を取得します。<br>
+	 * この回数はプールによって回避されたバッファ生成回数となります。<br>
+	 * @return プールヒット回数
+	 */
+	public long getHitCount() {
+		return localHits.sum() + globalHits.sum();
+	}
+
+	/**
+	 * スレッドキャッシュから貸し出した回数を取得します。<br>
+	 * @return スレッドキャッシュヒット回数
+	 */
+	public long getLocalHitCount() {
+		return localHits.sum();
+	}
+
+	/**
+	 * フリーリストから貸し出した回数を取得します。<br>
+	 * @return フリーリストヒット回数
+	 */
+	public long getGlobalHitCount() {
+		return globalHits.sum();
+	}
+
+	/**
+	 * 貸し出し時にバッファを新規生成した回数を取得します。<br>
+	 * @return 新規生成回数
+	 */
+	public long getAllocationCount() {
+		return allocations.sum();
+	}
+
+	/**
+	 * 返却回数を取得します。<br>
+	 * @return 返却回数
+	 */
+	public long getReleaseCount() {
+		return releases.sum();
+	}
+
+	/**
+	 * 返却時に保持容量超過又は、サイズ不一致によって破棄した回数を取得します。<br>
+	 * @return 破棄回数
+	 */
+	public long getDiscardCount() {
+		return discards.sum();
+	}
+
+	/**
+	 * スレッド毎のバッファキャッシュを提供します。<br>
+	 * <p>
+	 * このクラスは{@link ByteBufferPool}の内部でのみ利用されます。<br>
+	 * </p>
+	 *
+	 *<!--
+	 * 更新日      更新者           更新内容
+	 * 2026/10/18  Kitagawa         新規作成
+	 *-->
+	 */
+	private static final class LocalCache {
+
+		/** バイト配列(サイズクラス毎のスタック) */
+		private final byte[][][] arrays;
+
+		/** バイト配列保持数 */
+		private final int[] arrayCounts;
+
+		/** ダイレクトバッファ(サイズクラス毎のスタック) */
+		private final ByteBuffer[][] directs;
+
+		/** ダイレクトバッファ保持数 */
+		private final int[] directCounts;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param slots サイズクラス毎保持数
+		 */
+		private LocalCache(int[] slots) {
+			super();
+			this.arrays = new byte[slots.length][][];
+			this.arrayCounts = new int[slots.length];
+			this.directs = new ByteBuffer[slots.length][];
+			this.directCounts = new int[slots.length];
+			for (int i = 0; i <= slots.length - 1; i++) {
+				arrays[i] = new byte[slots[i]][];
+				directs[i] = new ByteBuffer[slots[i]];
+			}
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package org.ideaccum.libs.commons.util;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * キャラクタセット毎の文字単位バイト長テーブルを提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.util.StringUtil#substrb(String, int, int, String)}等のバイト位置ベースの文字列操作において、
+ * 文字列の部分毎に都度エンコード処理を行わずに1回の走査でバイト位置を特定するために設置されました。<br>
+ * 文字毎のバイト長は初回参照時にエンコードして算出し、以降はテーブル参照のみで提供します。<br>
+ * 尚、ISO-2022-JPやUTF-16のような文字単位のバイト長の合計が文字列全体のバイト長と一致しないキャラクタセットはテーブル対象外として扱います。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+final class ByteWidthTable {
+
+	/** テーブル適用可否判定用文字列 */
+	private static final String PROBE = "aあいa";
+
+	/** インスタンスキャッシュ */
+	private static Map<Charset, ByteWidthTable> cache = new HashMap<>();
+
+	/** キャラクタセット */
+	private Charset charset;
+
+	/** 文字単位バイト長テーブル(0は未算出) */
+	private byte[] widths;
+
+	/** テーブル適用可否 */
+	private boolean available;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param charset キャラクタセット
+	 */
+	private ByteWidthTable(Charset charset) {
+		super();
+		this.charset = charset;
+		this.widths = new byte[Character.MAX_VALUE + 1];
+		this.available = true;
+		int total = 0;
+		for (int i = 0; i <= PROBE.length() - 1; i++) {
+			total += width(PROBE.charAt(i));
+		}
+		this.available = total == PROBE.getBytes(charset).length && width(' ') == 1;
+	}
+
+	/**
+	 * キャラクタセット名からバイト長テーブルを提供します。<br>
+	 * キャラクタセット名が未指定の場合はシステムディフォルトのキャラクタセットのテーブルを提供します。<br>
+	 * @param charset キャラクタセット名
+	 * @return バイト長テーブル
+	 */
+	static ByteWidthTable valueOf(String charset) {
+		Charset key;
+		try {
+			key = StringUtil.isEmpty(charset) ? Charset.defaultCharset() : Charset.forName(charset);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("unsupported charset (" + charset + ")");
+		}
+		synchronized (cache) {
+			ByteWidthTable instance = cache.get(key);
+			if (instance == null) {
+				instance = new ByteWidthTable(key);
+				cache.put(key, instance);
+			}
+			return instance;
+		}
+	}
+
+	/**
+	 * テーブルによるバイト長算出が可能なキャラクタセットであるか判定します。<br>
+	 * @return テーブルによるバイト長算出が可能な場合にtrueを返却
+	 */
+	boolean isAvailable() {
+		return available;
+	}
+
+	/**
+	 * 文字のバイト長を取得します。<br>
+	 * サロゲート文字が指定された場合は単独ではバイト長が確定しない為、-1を返却します。<br>
+	 * @param c 対象文字
+	 * @return 文字バイト長
+	 */
+	int width(char c) {
+		if (Character.isSurrogate(c)) {
+			return -1;
+		}
+		int width = widths[c];
+		if (width == 0) {
+			width = String.valueOf(c).getBytes(charset).length;
+			widths[c] = (byte) width;
+		}
+		return width;
+	}
+
+	/**
+	 * 文字列を構成する各文字のバイト長を配列で提供します。<br>
+	 * テーブル対象外のキャラクタセットである場合やサロゲート文字を含む場合はnullを返却します。<br>
+	 * @param string 対象文字列
+	 * @return 各文字のバイト長配列
+	 */
+	int[] widths(String string) {
+		if (!available) {
+			return null;
+		}
+		int[] result = new int[string.length()];
+		for (int i = 0; i <= result.length - 1; i++) {
+			int width = width(string.charAt(i));
+			if (width < 0) {
+				return null;
+			}
+			result[i] = width;
+		}
+		return result;
+	}
+}
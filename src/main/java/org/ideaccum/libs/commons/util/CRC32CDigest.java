@@ -0,0 +1,156 @@
+package org.ideaccum.libs.commons.util;
+
+/**
+ * CRC32C(Castagnoli)によるチェックサムの計算処理を提供します。<br>
+ * <p>
+ * iSCSIやext4、各種ストレージ形式で利用されているCRC32Cを、8バイト単位のテーブル参照(Slicing-by-8)により計算します。<br>
+ * このクラスは{@link java.security.MessageDigest}として実装されており、{@link org.ideaccum.libs.commons.util.HashUtil}ではアルゴリズム名{@link org.ideaccum.libs.commons.util.HashUtil#CRC32C}で利用することが出来ます。<br>
+ * ダイジェストはチェックサム値をビッグエンディアンで表現した4バイトのバイト配列となります。<br>
+ * </p>
+ * <p>
+ * このクラスのインスタンスはスレッドセーフではありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class CRC32CDigest extends FastDigest {
+
+	/** 生成多項式(ビット反転表現) */
+	private static final int POLYNOMIAL = 0x82F63B78;
+
+	/** 参照テーブル(256要素×8テーブル) */
+	private static final int[] TABLE = createTable();
+
+	/** チェックサム計算値 */
+	private int crc;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public CRC32CDigest() {
+		super(HashUtil.CRC32C);
+		engineReset();
+	}
+
+	/**
+	 * 参照テーブルを生成します。<br>
+	 * @return 参照テーブル
+	 */
+	private static int[] createTable() {
+		int[] table = new int[256 * 8];
+		for (int i = 0; i <= 255; i++) {
+			int c = i;
+			for (int j = 0; j <= 7; j++) {
+				c = (c & 1) != 0 ? (c >>> 1) ^ POLYNOMIAL : c >>> 1;
+			}
+			table[i] = c;
+		}
+		for (int t = 1; t <= 7; t++) {
+			for (int i = 0; i <= 255; i++) {
+				int c = table[(t - 1) * 256 + i];
+				table[t * 256 + i] = (c >>> 8) ^ table[c & 0xFF];
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * バイト配列の指定範囲のチェックサムを計算します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @return チェックサム値(0～0xFFFFFFFF)
+	 */
+	public static long checksum(byte[] data, int offset, int length) {
+		checkRange(data, offset, length);
+		return (update(0xFFFFFFFF, data, offset, length) ^ 0xFFFFFFFF) & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * チェックサム計算値にバイト配列の指定範囲を反映します。<br>
+	 * @param crc チェックサム計算値
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @return チェックサム計算値
+	 */
+	private static int update(int crc, byte[] data, int offset, int length) {
+		int[] t = TABLE;
+		int end = offset + length;
+		int limit = end - 8;
+		while (offset <= limit) {
+			int one = getIntLE(data, offset) ^ crc;
+			int two = getIntLE(data, offset + 4);
+			crc = t[7 * 256 + (one & 0xFF)] //
+					^ t[6 * 256 + ((one >>> 8) & 0xFF)] //
+					^ t[5 * 256 + ((one >>> 16) & 0xFF)] //
+					^ t[4 * 256 + (one >>> 24)] //
+					^ t[3 * 256 + (two & 0xFF)] //
+					^ t[2 * 256 + ((two >>> 8) & 0xFF)] //
+					^ t[1 * 256 + ((two >>> 16) & 0xFF)] //
+					^ t[two >>> 24];
+			offset += 8;
+		}
+		while (offset < end) {
+			crc = (crc >>> 8) ^ t[(crc ^ data[offset]) & 0xFF];
+			offset++;
+		}
+		return crc;
+	}
+
+	/**
+	 * バイト配列の指定範囲でダイジェストを更新します。<br>
+	 * @param input バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @see java.security.MessageDigestSpi#engineUpdate(byte[], int, int)
+	 */
+	@Override
+	protected void engineUpdate(byte[] input, int offset, int length) {
+		crc = update(crc, input, offset, length);
+	}
+
+	/**
+	 * ダイジェストを確定して取得します。<br>
+	 * 取得後は初期状態に戻ります。<br>
+	 * @return チェックサム値をビッグエンディアンで表現した4バイトのバイト配列
+	 * @see java.security.MessageDigestSpi#engineDigest()
+	 */
+	@Override
+	protected byte[] engineDigest() {
+		long value = getValue();
+		engineReset();
+		return toBytesBE(value, 4);
+	}
+
+	/**
+	 * ダイジェストの長さを取得します。<br>
+	 * @return ダイジェストのバイト長
+	 * @see java.security.MessageDigestSpi#engineGetDigestLength()
+	 */
+	@Override
+	protected int engineGetDigestLength() {
+		return 4;
+	}
+
+	/**
+	 * ダイジェストを初期状態に戻します。<br>
+	 * @see java.security.MessageDigestSpi#engineReset()
+	 */
+	@Override
+	protected void engineReset() {
+		crc = 0xFFFFFFFF;
+	}
+
+	/**
+	 * 現在までの入力に対するチェックサム値を取得します。<br>
+	 * このメソッドは状態を変更しない為、入力を継続することが出来ます。<br>
+	 * @return チェックサム値(0～0xFFFFFFFF)
+	 */
+	public long getValue() {
+		return (crc ^ 0xFFFFFFFF) & 0xFFFFFFFFL;
+	}
+}
@@ -0,0 +1,188 @@
+package org.ideaccum.libs.commons.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 文字列の構成文字判定を行う際の許容文字集合を提供します。<br>
+ * <p>
+ * 許容文字集合は基本多言語面(0x0000～0xFFFF)の文字毎のビット集合として生成時に一度だけ構築され、文字の判定は1回のテーブル参照で行われます。<br>
+ * {@link org.ideaccum.libs.commons.util.StringUtil#isExpectChars(String, CharClass)}等の判定メソッドに対して同一の許容文字集合を繰返し利用する場合、
+ * 許容文字群を都度走査する処理を回避するために利用します。<br>
+ * 尚、このクラスのインスタンスは不変オブジェクトであり、複数スレッドから同時に利用することが可能です。<br>
+ * </p>
+ * <code>
+ * CharClass allows = CharClass.DIGITS.union('-', '.');<br>
+ * boolean valid = StringUtil.isExpectChars(value, allows);<br>
+ * </code>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class CharClass implements Serializable {
+
+	/** 空の文字集合 */
+	public static final CharClass EMPTY = new CharClass(new long[(Character.MAX_VALUE + 1) / Long.SIZE]);
+
+	/** 数字(0～9) */
+	public static final CharClass DIGITS = range('0', '9');
+
+	/** 大文字英字(A～Z) */
+	public static final CharClass ALPHABET_UPPER = range('A', 'Z');
+
+	/** 小文字英字(a～z) */
+	public static final CharClass ALPHABET_LOWER = range('a', 'z');
+
+	/** 英字(A～Z、a～z) */
+	public static final CharClass ALPHABET = ALPHABET_UPPER.union(ALPHABET_LOWER);
+
+	/** 大文字英数字(A～Z、0～9) */
+	public static final CharClass ALPHA_DIGITS_UPPER = ALPHABET_UPPER.union(DIGITS);
+
+	/** 小文字英数字(a～z、0～9) */
+	public static final CharClass ALPHA_DIGITS_LOWER = ALPHABET_LOWER.union(DIGITS);
+
+	/** 英数字(A～Z、a～z、0～9) */
+	public static final CharClass ALPHA_DIGITS = ALPHABET.union(DIGITS);
+
+	/** 文字ビット集合 */
+	private long[] bits;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param bits 文字ビット集合
+	 */
+	private CharClass(long[] bits) {
+		super();
+		this.bits = bits;
+	}
+
+	/**
+	 * 文字群から文字集合を生成します。<br>
+	 * @param chars 文字群
+	 * @return 文字集合
+	 */
+	public static CharClass of(char... chars) {
+		return EMPTY.union(chars);
+	}
+
+	/**
+	 * 文字列を構成する文字群から文字集合を生成します。<br>
+	 * @param chars 文字群文字列(正規表現ではなく文字集合を指定します)
+	 * @return 文字集合
+	 */
+	public static CharClass of(String chars) {
+		long[] bits = EMPTY.bits.clone();
+		if (chars != null) {
+			for (int i = 0; i <= chars.length() - 1; i++) {
+				char c = chars.charAt(i);
+				bits[c >>> 6] |= 1L << c;
+			}
+		}
+		return new CharClass(bits);
+	}
+
+	/**
+	 * 文字範囲から文字集合を生成します。<br>
+	 * @param from 範囲開始文字(この文字を範囲に含む)
+	 * @param to 範囲終了文字(この文字を範囲に含む)
+	 * @return 文字集合
+	 */
+	public static CharClass range(char from, char to) {
+		long[] bits = EMPTY.bits.clone();
+		for (int c = from; c <= to; c++) {
+			bits[c >>> 6] |= 1L << c;
+		}
+		return new CharClass(bits);
+	}
+
+	/**
+	 * オブジェクトハッシュコードを取得します。<br>
+	 * @return オブジェクトハッシュコード
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(bits);
+	}
+
+	/**
+	 * オブジェクトの等価比較を行います。<br>
+	 * @param object 比較対象オブジェクト
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (object == null) {
+			return false;
+		}
+		if (getClass() != object.getClass()) {
+			return false;
+		}
+		return Arrays.equals(bits, ((CharClass) object).bits);
+	}
+
+	/**
+	 * 自身の文字集合と指定された文字集合を合わせた文字集合を生成します。<br>
+	 * @param other 文字集合
+	 * @return 合わせた文字集合
+	 */
+	public CharClass union(CharClass other) {
+		if (other == null) {
+			return this;
+		}
+		long[] bits = this.bits.clone();
+		for (int i = 0; i <= bits.length - 1; i++) {
+			bits[i] |= other.bits[i];
+		}
+		return new CharClass(bits);
+	}
+
+	/**
+	 * 自身の文字集合に指定された文字群を加えた文字集合を生成します。<br>
+	 * @param chars 文字群
+	 * @return 加えた文字集合
+	 */
+	public CharClass union(char... chars) {
+		long[] bits = this.bits.clone();
+		if (chars != null) {
+			for (char c : chars) {
+				bits[c >>> 6] |= 1L << c;
+			}
+		}
+		return new CharClass(bits);
+	}
+
+	/**
+	 * 文字が文字集合に含まれるか判定します。<br>
+	 * @param c 対象文字
+	 * @return 文字集合に含まれる場合にtrueを返却
+	 */
+	public boolean contains(char c) {
+		return (bits[c >>> 6] & (1L << c)) != 0;
+	}
+
+	/**
+	 * 文字列が全て文字集合に含まれる文字で構成されているか判定します。<br>
+	 * null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @return 全て文字集合に含まれる文字で構成されている場合にtrueを返却
+	 */
+	public boolean containsAll(CharSequence string) {
+		if (string == null) {
+			return true;
+		}
+		for (int i = 0; i <= string.length() - 1; i++) {
+			char c = string.charAt(i);
+			if ((bits[c >>> 6] & (1L << c)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
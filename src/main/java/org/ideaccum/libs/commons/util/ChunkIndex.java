@@ -0,0 +1,475 @@
+package org.ideaccum.libs.commons.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.ideaccum.libs.commons.util.ContentChunker.Chunk;
+
+/**
+ * チャンクのハッシュコードによる索引と、重複を排除したチャンク内容の保存を行うためのインタフェースを提供します。<br>
+ * <p>
+ * ストリームを{@link org.ideaccum.libs.commons.util.ContentChunker}で分割し、索引に存在しない新規のチャンクのみをディレクトリに保存します。
+ * 保存時に返却されるチャンク情報のリスト(マニフェスト)から、{@link #restore(List, OutputStream)}で元の内容を復元することが出来ます。<br>
+ * 別環境へ転送する場合は、転送先の索引で{@link #missing(List)}により不足しているチャンクを特定し、不足チャンクのみを転送して{@link #put(Chunk, byte[], int)}で登録します。<br>
+ * 下記は内容の類似した複数のファイルを保存する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * try (ChunkIndex index = new ChunkIndex(new File("/var/store"), new ContentChunker())) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;for (File file : files) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;ChunkIndex.writeManifest(index.store(file), new File(file.getPath() + ".manifest"));<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ * }<br>
+ * </code>
+ * <p>
+ * 索引はディレクトリ直下の索引ファイルに1チャンク1行で追記され、次回利用時に読み込まれます。
+ * チャンク内容はハッシュコード先頭2文字のサブディレクトリにハッシュコードをファイル名として保存されます。<br>
+ * チャンク内容は一時ファイルへの書き込みをディスクに同期した後に移動し、移動後に索引へ追記する為、処理中に異常終了した場合でも索引に不完全なチャンクが登録されることはありません。
+ * 索引への追記内容は{@link #flush()}の時点でディスクに同期されます。<br>
+ * 索引に登録済でもチャンク内容の保存ファイルが存在しない場合やバイト長が異なる場合は、次回の保存時に再度保存されます。<br>
+ * 索引はハッシュアルゴリズムを記録し、異なるハッシュアルゴリズムの{@link org.ideaccum.libs.commons.util.ContentChunker}での利用は出来ません。<br>
+ * </p>
+ * <p>
+ * このクラスのメソッドは複数スレッドから同時に利用することが出来ます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class ChunkIndex implements Closeable {
+
+	/** 索引ファイル名 */
+	public static final String INDEX_FILENAME = "chunks.idx";
+
+	/** 索引ファイルのハッシュアルゴリズム記録行接頭辞 */
+	private static final String ALGORITHM_PREFIX = "#";
+
+	/** 索引ファイル及び、マニフェストの項目区切り文字 */
+	private static final char SEPARATOR = '\t';
+
+	/** 保存ディレクトリ */
+	private File directory;
+
+	/** チャンク分割インスタンス */
+	private ContentChunker chunker;
+
+	/** ハッシュコード毎のチャンクバイト長 */
+	private Map<String, Integer> index;
+
+	/** 索引ファイル出力ストリーム */
+	private FileOutputStream output;
+
+	/** 索引ファイル追記ライター */
+	private Writer writer;
+
+	/** 保存済チャンクの合計バイト数 */
+	private long storedBytes;
+
+	/**
+	 * コンストラクタ<br>
+	 * 保存ディレクトリが存在しない場合は作成し、索引ファイルが存在する場合は読み込みます。<br>
+	 * @param directory 保存ディレクトリ
+	 * @param chunker チャンク分割インスタンス
+	 * @throws IOException 索引ファイルの読み込みでエラーが発生した場合や、索引のハッシュアルゴリズムが一致しない場合にスローされます
+	 */
+	public ChunkIndex(File directory, ContentChunker chunker) throws IOException {
+		super();
+		if (directory == null) {
+			throw new NullPointerException("directory");
+		}
+		if (chunker == null) {
+			throw new NullPointerException("chunker");
+		}
+		this.directory = directory;
+		this.chunker = chunker;
+		this.index = new HashMap<>();
+		this.storedBytes = 0;
+		Files.createDirectories(directory.toPath());
+		File file = new File(directory, INDEX_FILENAME);
+		if (file.isFile() && file.length() > 0) {
+			load(file);
+		}
+		this.output = new FileOutputStream(file, true);
+		this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		if (file.length() == 0) {
+			writer.write(ALGORITHM_PREFIX + chunker.getAlgorithm() + "\n");
+			flush();
+		}
+	}
+
+	/**
+	 * 索引ファイルを読み込みます。<br>
+	 * 異常終了により末尾の行が不完全な場合、末尾の行は登録せずに索引ファイルから切り詰めます。<br>
+	 * @param file 索引ファイル
+	 * @throws IOException 索引ファイルの読み込みでエラーが発生した場合や、索引のハッシュアルゴリズムが一致しない場合にスローされます
+	 */
+	private void load(File file) throws IOException {
+		String last = null;
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			String line = reader.readLine();
+			if (line == null || !line.startsWith(ALGORITHM_PREFIX)) {
+				throw new IOException("Invalid index file (" + file + ")");
+			}
+			String algorithm = line.substring(ALGORITHM_PREFIX.length());
+			if (!algorithm.equalsIgnoreCase(chunker.getAlgorithm())) {
+				throw new IOException("Algorithm mismatch (" + algorithm + " != " + chunker.getAlgorithm() + ")");
+			}
+			while ((line = reader.readLine()) != null) {
+				last = parse(line) ? line : null;
+			}
+		}
+		try (RandomAccessFile access = new RandomAccessFile(file, "rw")) {
+			long position = access.length() - 1;
+			access.seek(position);
+			if (access.read() != '\n') {
+				if (last != null) {
+					unregister(last.substring(0, last.indexOf(SEPARATOR)));
+				}
+				long length = 0;
+				while (position > 0) {
+					access.seek(--position);
+					if (access.read() == '\n') {
+						length = position + 1;
+						break;
+					}
+				}
+				access.setLength(length);
+			}
+		}
+	}
+
+	/**
+	 * 索引ファイルの行を解析して索引に登録します。<br>
+	 * @param line 索引ファイルの行
+	 * @return 登録した場合にtrueを返却
+	 */
+	private boolean parse(String line) {
+		int separator = line.indexOf(SEPARATOR);
+		if (separator <= 0) {
+			return false;
+		}
+		try {
+			register(line.substring(0, separator), Integer.parseInt(line.substring(separator + 1)));
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 索引にチャンクを登録します。<br>
+	 * @param hash 16進ハッシュコード文字列
+	 * @param length チャンクのバイト長
+	 */
+	private void register(String hash, int length) {
+		Integer before = index.put(hash, length);
+		storedBytes += length - (before == null ? 0 : before);
+	}
+
+	/**
+	 * 索引からチャンクを削除します。<br>
+	 * @param hash 16進ハッシュコード文字列
+	 */
+	private void unregister(String hash) {
+		Integer before = index.remove(hash);
+		storedBytes -= before == null ? 0 : before;
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		return "directory=" + directory + ", chunks=" + index.size() + ", storedBytes=" + storedBytes + ", " + chunker;
+	}
+
+	/**
+	 * 保存ディレクトリを取得します。<br>
+	 * @return 保存ディレクトリ
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * チャンク分割インスタンスを取得します。<br>
+	 * @return チャンク分割インスタンス
+	 */
+	public ContentChunker getChunker() {
+		return chunker;
+	}
+
+	/**
+	 * 索引に登録されているチャンク数を取得します。<br>
+	 * @return チャンク数
+	 */
+	public synchronized int size() {
+		return index.size();
+	}
+
+	/**
+	 * 保存済チャンクの合計バイト数を取得します。<br>
+	 * @return 合計バイト数
+	 */
+	public synchronized long getStoredBytes() {
+		return storedBytes;
+	}
+
+	/**
+	 * 指定されたハッシュコードのチャンクが索引に登録されているか判定します。<br>
+	 * @param hash 16進ハッシュコード文字列
+	 * @return 登録されている場合にtrueを返却
+	 */
+	public synchronized boolean contains(String hash) {
+		return index.containsKey(hash);
+	}
+
+	/**
+	 * チャンク内容の保存ファイルを取得します。<br>
+	 * @param hash 16進ハッシュコード文字列
+	 * @return チャンク内容の保存ファイル
+	 */
+	public File getChunkFile(String hash) {
+		if (!hash.matches("[0-9a-fA-F]{2,}")) {
+			throw new IllegalArgumentException("Invalid hash (" + hash + ")");
+		}
+		return new File(new File(directory, hash.substring(0, 2)), hash);
+	}
+
+	/**
+	 * 入力ストリームから終端までを読み込んでチャンクに分割し、索引に存在しないチャンクを保存します。<br>
+	 * 入力ストリームのクローズは行いません。<br>
+	 * @param stream 対象入力ストリーム
+	 * @return 入力ストリームの全チャンク情報(マニフェスト)
+	 * @throws IOException 入力ストリームからの読み込み及び、チャンクの保存でエラーが発生した場合にスローされます
+	 */
+	public List<Chunk> store(InputStream stream) throws IOException {
+		final List<Chunk> chunks = new ArrayList<>();
+		try {
+			chunker.split(stream, new ContentChunker.Handler() {
+
+				@Override
+				public void chunk(Chunk chunk, byte[] data, int offset) throws IOException {
+					write(chunk, data, offset);
+					chunks.add(chunk);
+				}
+			});
+		} finally {
+			flush();
+		}
+		return chunks;
+	}
+
+	/**
+	 * ファイルをチャンクに分割し、索引に存在しないチャンクを保存します。<br>
+	 * @param file 対象ファイル
+	 * @return ファイルの全チャンク情報(マニフェスト)
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public List<Chunk> store(File file) throws IOException {
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+			return store(stream);
+		}
+	}
+
+	/**
+	 * 転送されたチャンクを索引に登録して保存します。<br>
+	 * チャンクの内容からハッシュコードを再計算し、チャンク情報のハッシュコードと一致しない場合は登録しません。<br>
+	 * @param chunk チャンク情報
+	 * @param data チャンクの内容を含むバイトデータ
+	 * @param offset バイトデータ上のチャンクの開始位置
+	 * @return チャンク内容を保存した場合にtrueを返却(保存済の場合はfalse)
+	 * @throws IOException チャンクの保存でエラーが発生した場合にスローされます
+	 */
+	public boolean put(Chunk chunk, byte[] data, int offset) throws IOException {
+		String hash = HashUtil.toDigestHash(data, offset, chunk.getLength(), chunker.getAlgorithm());
+		if (!hash.equals(chunk.getHash())) {
+			throw new IllegalArgumentException("Hash mismatch (" + chunk.getHash() + " != " + hash + ")");
+		}
+		try {
+			return write(chunk, data, offset);
+		} finally {
+			flush();
+		}
+	}
+
+	/**
+	 * 保存済でないチャンクの内容を保存し、索引に存在しない場合は索引に追記します。<br>
+	 * 索引に登録済でも保存ファイルが存在しない場合やバイト長が異なる場合は、チャンク内容を再度保存します。<br>
+	 * @param chunk チャンク情報
+	 * @param data チャンクの内容を含むバイトデータ
+	 * @param offset バイトデータ上のチャンクの開始位置
+	 * @return チャンク内容を保存した場合にtrueを返却(保存済の場合はfalse)
+	 * @throws IOException チャンクの保存でエラーが発生した場合にスローされます
+	 */
+	private synchronized boolean write(Chunk chunk, byte[] data, int offset) throws IOException {
+		String hash = chunk.getHash();
+		if (isStored(hash, chunk.getLength())) {
+			return false;
+		}
+		File file = getChunkFile(hash);
+		File parent = file.getParentFile();
+		if (!parent.isDirectory()) {
+			Files.createDirectories(parent.toPath());
+		}
+		File temp = new File(parent, hash + ".tmp");
+		try (FileOutputStream stream = new FileOutputStream(temp)) {
+			stream.write(data, offset, chunk.getLength());
+			stream.getChannel().force(true);
+		}
+		try {
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		Integer registered = index.get(hash);
+		if (registered == null || registered.intValue() != chunk.getLength()) {
+			writer.write(hash + SEPARATOR + chunk.getLength() + "\n");
+			register(hash, chunk.getLength());
+		}
+		return true;
+	}
+
+	/**
+	 * チャンクが索引に登録済であり、かつ保存ファイルが指定されたバイト長で存在するか判定します。<br>
+	 * @param hash 16進ハッシュコード文字列
+	 * @param length チャンクのバイト長
+	 * @return 保存済である場合にtrueを返却
+	 */
+	private boolean isStored(String hash, int length) {
+		Integer registered = index.get(hash);
+		if (registered == null || registered.intValue() != length) {
+			return false;
+		}
+		File file = getChunkFile(hash);
+		return file.isFile() && file.length() == length;
+	}
+
+	/**
+	 * マニフェストのチャンクのうち、保存済でないチャンクを取得します。<br>
+	 * 索引に登録済でも保存ファイルが存在しない場合やバイト長が異なる場合は、保存済でないチャンクとして返却します。<br>
+	 * 同一のハッシュコードのチャンクは最初のチャンクのみを返却します。<br>
+	 * @param chunks チャンク情報(マニフェスト)
+	 * @return 保存済でないチャンク情報(マニフェスト上の出現順)
+	 */
+	public synchronized List<Chunk> missing(List<Chunk> chunks) {
+		List<Chunk> result = new ArrayList<>();
+		Set<String> found = new HashSet<>();
+		for (Chunk chunk : chunks) {
+			if (!isStored(chunk.getHash(), chunk.getLength()) && found.add(chunk.getHash())) {
+				result.add(chunk);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * マニフェストのチャンクを順に連結して元の内容を出力ストリームに復元します。<br>
+	 * 出力ストリームのクローズは行いません。<br>
+	 * @param chunks チャンク情報(マニフェスト)
+	 * @param stream 出力ストリーム
+	 * @throws IOException チャンクが保存されていない場合や、出力ストリームへの書き込みでエラーが発生した場合にスローされます
+	 */
+	public void restore(List<Chunk> chunks, OutputStream stream) throws IOException {
+		for (Chunk chunk : chunks) {
+			File file = getChunkFile(chunk.getHash());
+			if (!file.isFile() || file.length() != chunk.getLength()) {
+				throw new IOException("Chunk not found (" + chunk.getHash() + ")");
+			}
+			Files.copy(file.toPath(), stream);
+		}
+	}
+
+	/**
+	 * 索引ファイルへの追記内容をフラッシュし、ディスクに同期します。<br>
+	 * @throws IOException 索引ファイルへの書き込みでエラーが発生した場合にスローされます
+	 */
+	public synchronized void flush() throws IOException {
+		writer.flush();
+		output.getChannel().force(false);
+	}
+
+	/**
+	 * 索引ファイルへの追記内容をディスクに同期してクローズします。<br>
+	 * @throws IOException 索引ファイルへの書き込みでエラーが発生した場合にスローされます
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!output.getChannel().isOpen()) {
+			return;
+		}
+		try {
+			flush();
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * マニフェストをファイルに出力します。<br>
+	 * マニフェストファイルは1チャンク1行で、ハッシュコードとバイト長をタブ区切りで出力します。<br>
+	 * @param chunks チャンク情報(マニフェスト)
+	 * @param file マニフェストファイル
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static void writeManifest(List<Chunk> chunks, File file) throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			for (Chunk chunk : chunks) {
+				writer.write(chunk.getHash() + SEPARATOR + chunk.getLength() + "\n");
+			}
+		}
+	}
+
+	/**
+	 * ファイルからマニフェストを読み込みます。<br>
+	 * チャンクの開始位置はマニフェスト上のバイト長の累積から算出します。<br>
+	 * @param file マニフェストファイル
+	 * @return チャンク情報(マニフェスト)
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合や、マニフェストの形式が不正な場合にスローされます
+	 */
+	public static List<Chunk> readManifest(File file) throws IOException {
+		List<Chunk> chunks = new ArrayList<>();
+		long offset = 0;
+		try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf(SEPARATOR);
+				if (separator <= 0) {
+					throw new IOException("Invalid manifest (" + line + ")");
+				}
+				int length;
+				try {
+					length = Integer.parseInt(line.substring(separator + 1));
+				} catch (NumberFormatException e) {
+					throw new IOException("Invalid manifest (" + line + ")", e);
+				}
+				chunks.add(new Chunk(offset, length, line.substring(0, separator)));
+				offset += length;
+			}
+		}
+		return chunks;
+	}
+}
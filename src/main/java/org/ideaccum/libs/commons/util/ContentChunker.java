@@ -0,0 +1,362 @@
+package org.ideaccum.libs.commons.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ストリームの内容に基づいて可変長のチャンクに分割するためのインタフェースを提供します。<br>
+ * <p>
+ * 分割位置はFastCDC(ギアハッシュによるローリングハッシュ)により内容から決定される為、ファイルの途中にデータが挿入、削除された場合でも、
+ * 変更箇所以外のチャンクは変更前と同一の内容で分割されます。
+ * 分割されたチャンク毎に{@link org.ideaccum.libs.commons.util.HashUtil}でハッシュコードを計算し、ハッシュコードにより重複するチャンクを検出することが出来ます。<br>
+ * チャンクの永続的な索引と重複排除保存は{@link org.ideaccum.libs.commons.util.ChunkIndex}を利用して下さい。<br>
+ * </p>
+ * <p>
+ * チャンクサイズは最小サイズ以上、最大サイズ以下となり、平均サイズ付近に集中するよう、平均サイズ未満では分割条件を厳しく、平均サイズ以上では緩く判定します。
+ * 最小サイズまでの範囲はローリングハッシュの計算を省略する為、分割処理自体はハッシュコードの計算よりも高速に行われます。<br>
+ * ギアハッシュのテーブルは固定のシード値から生成される為、同一のパラメータであれば実行環境によらず同一の位置で分割されます。<br>
+ * </p>
+ * <p>
+ * このクラスのインスタンスは不変であり、複数スレッドから同時に利用することが出来ます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class ContentChunker {
+
+	/** デフォルト最小チャンクサイズ */
+	public static final int DEFAULT_MIN_SIZE = 1024 * 2;
+
+	/** デフォルト平均チャンクサイズ */
+	public static final int DEFAULT_AVERAGE_SIZE = 1024 * 8;
+
+	/** デフォルト最大チャンクサイズ */
+	public static final int DEFAULT_MAX_SIZE = 1024 * 64;
+
+	/** デフォルトハッシュアルゴリズム */
+	public static final String DEFAULT_ALGORITHM = HashUtil.MURMUR3_128;
+
+	/** 読み込みバッファ最小サイズ */
+	private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+	/** ギアハッシュテーブル */
+	private static final long[] GEAR = createGear();
+
+	/** 最小チャンクサイズ */
+	private int minSize;
+
+	/** 平均チャンクサイズ */
+	private int averageSize;
+
+	/** 最大チャンクサイズ */
+	private int maxSize;
+
+	/** ハッシュアルゴリズム */
+	private String algorithm;
+
+	/** 平均サイズ未満で利用する分割判定マスク */
+	private long smallMask;
+
+	/** 平均サイズ以上で利用する分割判定マスク */
+	private long largeMask;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param minSize 最小チャンクサイズ
+	 * @param averageSize 平均チャンクサイズ
+	 * @param maxSize 最大チャンクサイズ
+	 * @param algorithm チャンクのハッシュアルゴリズム
+	 */
+	public ContentChunker(int minSize, int averageSize, int maxSize, String algorithm) {
+		super();
+		if (minSize < 64) {
+			throw new IllegalArgumentException("minSize < 64 (" + minSize + ")");
+		}
+		if (averageSize <= minSize) {
+			throw new IllegalArgumentException("averageSize <= minSize (" + averageSize + ")");
+		}
+		if (maxSize <= averageSize || maxSize > Integer.MAX_VALUE / 4) {
+			throw new IllegalArgumentException("Invalid maxSize (" + maxSize + ")");
+		}
+		HashUtil.toDigestHash(new byte[0], algorithm);
+		this.minSize = minSize;
+		this.averageSize = averageSize;
+		this.maxSize = maxSize;
+		this.algorithm = algorithm;
+		int bits = 31 - Integer.numberOfLeadingZeros(averageSize);
+		this.smallMask = -1L << (64 - Math.min(bits + 2, 63));
+		this.largeMask = -1L << (64 - Math.max(bits - 2, 1));
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * チャンクのハッシュアルゴリズムは{@link #DEFAULT_ALGORITHM}となります。<br>
+	 * @param minSize 最小チャンクサイズ
+	 * @param averageSize 平均チャンクサイズ
+	 * @param maxSize 最大チャンクサイズ
+	 */
+	public ContentChunker(int minSize, int averageSize, int maxSize) {
+		this(minSize, averageSize, maxSize, DEFAULT_ALGORITHM);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * デフォルトのチャンクサイズ、ハッシュアルゴリズムで分割します。<br>
+	 */
+	public ContentChunker() {
+		this(DEFAULT_MIN_SIZE, DEFAULT_AVERAGE_SIZE, DEFAULT_MAX_SIZE, DEFAULT_ALGORITHM);
+	}
+
+	/**
+	 * ギアハッシュテーブルを生成します。<br>
+	 * 実行環境によらず同一のテーブルとなるよう、固定のシード値からSplitMix64で生成します。<br>
+	 * @return ギアハッシュテーブル
+	 */
+	private static long[] createGear() {
+		long[] gear = new long[256];
+		long state = 0x2545F4914F6CDD1DL;
+		for (int i = 0; i <= 255; i++) {
+			long z = (state += 0x9E3779B97F4A7C15L);
+			z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+			z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+			gear[i] = z ^ (z >>> 31);
+		}
+		return gear;
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "minSize=" + minSize + ", averageSize=" + averageSize + ", maxSize=" + maxSize + ", algorithm=" + algorithm;
+	}
+
+	/**
+	 * 最小チャンクサイズを取得します。<br>
+	 * @return 最小チャンクサイズ
+	 */
+	public int getMinSize() {
+		return minSize;
+	}
+
+	/**
+	 * 平均チャンクサイズを取得します。<br>
+	 * @return 平均チャンクサイズ
+	 */
+	public int getAverageSize() {
+		return averageSize;
+	}
+
+	/**
+	 * 最大チャンクサイズを取得します。<br>
+	 * @return 最大チャンクサイズ
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * チャンクのハッシュアルゴリズムを取得します。<br>
+	 * @return チャンクのハッシュアルゴリズム
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * バイトデータの指定範囲の先頭から、最初のチャンクの長さを決定します。<br>
+	 * 指定範囲が最大チャンクサイズに満たない場合、範囲の終端をデータの終端として扱います。<br>
+	 * @param data バイトデータ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @return 最初のチャンクのバイト長
+	 */
+	public int cut(byte[] data, int offset, int length) {
+		if (length <= minSize) {
+			return length;
+		}
+		int limit = Math.min(length, maxSize);
+		int normal = Math.min(limit, averageSize);
+		long[] gear = GEAR;
+		long fingerprint = 0;
+		int i = minSize;
+		for (; i < normal; i++) {
+			fingerprint = (fingerprint << 1) + gear[data[offset + i] & 0xFF];
+			if ((fingerprint & smallMask) == 0) {
+				return i + 1;
+			}
+		}
+		for (; i < limit; i++) {
+			fingerprint = (fingerprint << 1) + gear[data[offset + i] & 0xFF];
+			if ((fingerprint & largeMask) == 0) {
+				return i + 1;
+			}
+		}
+		return limit;
+	}
+
+	/**
+	 * 入力ストリームから終端までを読み込んでチャンクに分割し、チャンク毎にハンドラに通知します。<br>
+	 * 入力ストリームのクローズは行いません。<br>
+	 * @param stream 対象入力ストリーム
+	 * @param handler チャンクハンドラ
+	 * @throws IOException 入力ストリームからの読み込み及び、ハンドラの処理でエラーが発生した場合にスローされます
+	 */
+	public void split(InputStream stream, Handler handler) throws IOException {
+		ByteBufferPool pool = ByteBufferPool.getShared();
+		byte[] buffer = pool.borrowArray(Math.max(maxSize * 4, READ_BUFFER_SIZE));
+		try {
+			int start = 0;
+			int end = 0;
+			long position = 0;
+			boolean eof = false;
+			while (true) {
+				if (!eof && end - start < maxSize) {
+					if (start > 0) {
+						System.arraycopy(buffer, start, buffer, 0, end - start);
+						end -= start;
+						start = 0;
+					}
+					while (end < buffer.length) {
+						int read = stream.read(buffer, end, buffer.length - end);
+						if (read == -1) {
+							eof = true;
+							break;
+						}
+						end += read;
+					}
+				}
+				if (start == end) {
+					break;
+				}
+				int length = cut(buffer, start, end - start);
+				Chunk chunk = new Chunk(position, length, HashUtil.toDigestHash(buffer, start, length, algorithm));
+				handler.chunk(chunk, buffer, start);
+				position += length;
+				start += length;
+			}
+		} finally {
+			pool.releaseArray(buffer);
+		}
+	}
+
+	/**
+	 * 入力ストリームから終端までを読み込んでチャンクに分割します。<br>
+	 * 入力ストリームのクローズは行いません。<br>
+	 * @param stream 対象入力ストリーム
+	 * @return チャンク情報(出現順)
+	 * @throws IOException 入力ストリームからの読み込みでエラーが発生した場合にスローされます
+	 */
+	public List<Chunk> split(InputStream stream) throws IOException {
+		final List<Chunk> chunks = new ArrayList<>();
+		split(stream, new Handler() {
+
+			@Override
+			public void chunk(Chunk chunk, byte[] data, int offset) {
+				chunks.add(chunk);
+			}
+		});
+		return chunks;
+	}
+
+	/**
+	 * ファイルをチャンクに分割します。<br>
+	 * @param file 対象ファイル
+	 * @return チャンク情報(出現順)
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public List<Chunk> split(File file) throws IOException {
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+			return split(stream);
+		}
+	}
+
+	/**
+	 * 分割されたチャンクの情報を保持するクラスです。<br>
+	 */
+	public static final class Chunk {
+
+		/** 分割元データ上の開始位置 */
+		private long offset;
+
+		/** バイト長 */
+		private int length;
+
+		/** 16進ハッシュコード文字列 */
+		private String hash;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param offset 分割元データ上の開始位置
+		 * @param length バイト長
+		 * @param hash 16進ハッシュコード文字列
+		 */
+		public Chunk(long offset, int length, String hash) {
+			super();
+			this.offset = offset;
+			this.length = length;
+			this.hash = hash;
+		}
+
+		/**
+		 * クラス情報文字列を提供します。<br>
+		 * @return クラス情報文字列
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return hash + " (offset=" + offset + ", length=" + length + ")";
+		}
+
+		/**
+		 * 分割元データ上の開始位置を取得します。<br>
+		 * @return 分割元データ上の開始位置
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * バイト長を取得します。<br>
+		 * @return バイト長
+		 */
+		public int getLength() {
+			return length;
+		}
+
+		/**
+		 * 16進ハッシュコード文字列を取得します。<br>
+		 * @return 16進ハッシュコード文字列
+		 */
+		public String getHash() {
+			return hash;
+		}
+	}
+
+	/**
+	 * 分割されたチャンクの通知を受けるためのインタフェースです。<br>
+	 */
+	public static interface Handler {
+
+		/**
+		 * 分割されたチャンクを通知します。<br>
+		 * チャンクの内容はバイトデータの開始位置からチャンクのバイト長の範囲となります。
+		 * バイトデータは通知後に再利用される為、通知後も内容を利用する場合は複製して下さい。<br>
+		 * @param chunk チャンク情報
+		 * @param data チャンクの内容を含むバイトデータ
+		 * @param offset バイトデータ上のチャンクの開始位置
+		 * @throws IOException チャンクの処理で入出力エラーが発生した場合にスローされます
+		 */
+		public void chunk(Chunk chunk, byte[] data, int offset) throws IOException;
+	}
+}
@@ -0,0 +1,128 @@
+package org.ideaccum.libs.commons.util;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+
+/**
+ * 非暗号学的ハッシュアルゴリズムを{@link java.security.MessageDigest}として実装する際の共通処理を提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.util.HashUtil}の各メソッドから暗号学的ハッシュアルゴリズムと同様に利用できるよう、{@link java.security.MessageDigest}を継承して実装します。<br>
+ * サブクラスではバイト配列に対する更新処理のみを実装し、バッファ及び、単一バイトに対する更新処理はこのクラスでバイト配列に対する更新処理に委譲します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+abstract class FastDigest extends MessageDigest {
+
+	/** ダイレクトバッファからの転送単位バイト数 */
+	private static final int TRANSFER_SIZE = 1024 * 8;
+
+	/** 単一バイト更新用バイト配列 */
+	private final byte[] single;
+
+	/** ダイレクトバッファからの転送用バイト配列 */
+	private byte[] transfer;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param algorithm アルゴリズム名
+	 */
+	FastDigest(String algorithm) {
+		super(algorithm);
+		this.single = new byte[1];
+		this.transfer = null;
+	}
+
+	/**
+	 * 単一のバイトでダイジェストを更新します。<br>
+	 * @param input 入力バイト
+	 * @see java.security.MessageDigestSpi#engineUpdate(byte)
+	 */
+	@Override
+	protected final void engineUpdate(byte input) {
+		single[0] = input;
+		engineUpdate(single, 0, 1);
+	}
+
+	/**
+	 * バッファの現在位置から上限までのバイトでダイジェストを更新します。<br>
+	 * 配列を持つバッファは配列を直接参照し、ダイレクトバッファは転送用バイト配列に分割して転送しながら更新します。<br>
+	 * @param input 入力バッファ
+	 * @see java.security.MessageDigestSpi#engineUpdate(java.nio.ByteBuffer)
+	 */
+	@Override
+	protected final void engineUpdate(ByteBuffer input) {
+		if (input.hasArray()) {
+			engineUpdate(input.array(), input.arrayOffset() + input.position(), input.remaining());
+			input.position(input.limit());
+			return;
+		}
+		if (transfer == null) {
+			transfer = new byte[TRANSFER_SIZE];
+		}
+		while (input.hasRemaining()) {
+			int length = Math.min(input.remaining(), transfer.length);
+			input.get(transfer, 0, length);
+			engineUpdate(transfer, 0, length);
+		}
+	}
+
+	/**
+	 * バイト配列の指定位置からリトルエンディアンのlong値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @return long値
+	 */
+	static long getLongLE(byte[] data, int offset) {
+		return (data[offset] & 0xFFL) //
+				| (data[offset + 1] & 0xFFL) << 8 //
+				| (data[offset + 2] & 0xFFL) << 16 //
+				| (data[offset + 3] & 0xFFL) << 24 //
+				| (data[offset + 4] & 0xFFL) << 32 //
+				| (data[offset + 5] & 0xFFL) << 40 //
+				| (data[offset + 6] & 0xFFL) << 48 //
+				| (data[offset + 7] & 0xFFL) << 56;
+	}
+
+	/**
+	 * バイト配列の指定位置からリトルエンディアンのint値を取得します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @return int値
+	 */
+	static int getIntLE(byte[] data, int offset) {
+		return (data[offset] & 0xFF) //
+				| (data[offset + 1] & 0xFF) << 8 //
+				| (data[offset + 2] & 0xFF) << 16 //
+				| (data[offset + 3] & 0xFF) << 24;
+	}
+
+	/**
+	 * バイト配列の指定範囲が配列の範囲内であることを検証します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 */
+	static void checkRange(byte[] data, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > data.length - length) {
+			throw new IllegalArgumentException("Invalid range (offset=" + offset + ", length=" + length + ", size=" + data.length + ")");
+		}
+	}
+
+	/**
+	 * long値をビッグエンディアンのバイト配列として取得します。<br>
+	 * @param value long値
+	 * @param length バイト長(下位から指定バイト数を出力)
+	 * @return バイト配列
+	 */
+	static byte[] toBytesBE(long value, int length) {
+		byte[] result = new byte[length];
+		for (int i = 0; i <= length - 1; i++) {
+			result[i] = (byte) (value >>> (8 * (length - 1 - i)));
+		}
+		return result;
+	}
+}
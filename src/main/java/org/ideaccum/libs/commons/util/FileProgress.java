@@ -0,0 +1,207 @@
+package org.ideaccum.libs.commons.util;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ファイルのコピー及び、削除処理の進捗情報を提供します。<br>
+ * <p>
+ * このクラスは{@link org.ideaccum.libs.commons.util.FileUtil#copy(File, File, int, boolean, Listener)}、{@link org.ideaccum.libs.commons.util.FileUtil#delete(File, java.io.FileFilter, int, Listener)}の処理中に
+ * 処理済のファイル数及び、バイト数を集計し、処理完了後に戻り値として返却されます。<br>
+ * 処理中の進捗は{@link Listener}を指定することで、ファイル毎に通知を受けることが出来ます。<br>
+ * 下記はコピー処理の進捗を出力する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * FileUtil.copy(src, dst, 8, false, new FileProgress.Listener() {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;public void progress(FileProgress progress, File file) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;System.out.println(progress.getFiles() + " files, " + (long) progress.getFilesPerSecond() + " files/s");<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ * });<br>
+ * </code>
+ * <p>
+ * 集計値は複数のワーカースレッドから更新される為、任意のスレッドから参照することが出来ます。<br>
+ * 経過時間は処理開始時点から計測され、処理完了時点で確定します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class FileProgress {
+
+	/** 計測開始時刻(ナノ秒) */
+	private final long started;
+
+	/** 計測終了時の経過時間(ナノ秒、計測終了フラグの設定前に設定) */
+	private volatile long elapsed;
+
+	/** 計測終了フラグ */
+	private volatile boolean finished;
+
+	/** 処理済ファイル数 */
+	private final AtomicLong files;
+
+	/** 処理済バイト数 */
+	private final AtomicLong bytes;
+
+	/** 処理済ディレクトリ数 */
+	private final AtomicLong dirs;
+
+	/** ハードリンクにより処理したファイル数 */
+	private final AtomicLong links;
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	FileProgress() {
+		super();
+		this.started = System.nanoTime();
+		this.elapsed = 0;
+		this.finished = false;
+		this.files = new AtomicLong();
+		this.bytes = new AtomicLong();
+		this.dirs = new AtomicLong();
+		this.links = new AtomicLong();
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "files=" + getFiles() + ", dirs=" + getDirs() + ", links=" + getLinks() + ", bytes=" + getBytes() + ", elapsed=" + getElapsedMillis() + "ms, " + (long) getFilesPerSecond() + "files/s, " + (long) getBytesPerSecond() + "bytes/s";
+	}
+
+	/**
+	 * 処理済ファイルを加算します。<br>
+	 * @param length 処理したファイルのバイト数
+	 * @param link ハードリンクにより処理した場合にtrueを指定
+	 */
+	void addFile(long length, boolean link) {
+		files.incrementAndGet();
+		bytes.addAndGet(length);
+		if (link) {
+			links.incrementAndGet();
+		}
+	}
+
+	/**
+	 * 処理済ディレクトリを加算します。<br>
+	 */
+	void addDir() {
+		dirs.incrementAndGet();
+	}
+
+	/**
+	 * 計測を終了します。<br>
+	 * 既に終了している場合は何も行いません。<br>
+	 */
+	void finish() {
+		if (!finished) {
+			elapsed = System.nanoTime() - started;
+			finished = true;
+		}
+	}
+
+	/**
+	 * 処理済ファイル数を取得します。<br>
+	 * 削除処理では削除できずにVM終了時の削除としてマークされたファイルは含まれません。<br>
+	 * @return 処理済ファイル数
+	 */
+	public long getFiles() {
+		return files.get();
+	}
+
+	/**
+	 * 処理済バイト数を取得します。<br>
+	 * 削除処理ではファイルサイズの取得を行わない為、常に0となります。<br>
+	 * @return 処理済バイト数
+	 */
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * 処理済ディレクトリ数を取得します。<br>
+	 * 削除処理では削除できずにVM終了時の削除としてマークされたディレクトリは含まれません。<br>
+	 * @return 処理済ディレクトリ数
+	 */
+	public long getDirs() {
+		return dirs.get();
+	}
+
+	/**
+	 * ハードリンクにより処理したファイル数を取得します。<br>
+	 * @return ハードリンクにより処理したファイル数
+	 */
+	public long getLinks() {
+		return links.get();
+	}
+
+	/**
+	 * 処理開始からの経過時間をミリ秒単位で取得します。<br>
+	 * @return 経過時間(ミリ秒)
+	 */
+	public long getElapsedMillis() {
+		return getElapsedNanos() / 1000000L;
+	}
+
+	/**
+	 * 処理開始からの経過時間をナノ秒単位で取得します。<br>
+	 * @return 経過時間(ナノ秒)
+	 */
+	private long getElapsedNanos() {
+		return finished ? elapsed : System.nanoTime() - started;
+	}
+
+	/**
+	 * 1秒あたりの処理ファイル数を取得します。<br>
+	 * @return 処理ファイル数(ファイル/秒)
+	 */
+	public double getFilesPerSecond() {
+		long elapsed = getElapsedNanos();
+		if (elapsed <= 0) {
+			return 0;
+		}
+		return getFiles() * 1000000000D / elapsed;
+	}
+
+	/**
+	 * 1秒あたりの処理バイト数を取得します。<br>
+	 * @return 処理バイト数(バイト/秒)
+	 */
+	public double getBytesPerSecond() {
+		long elapsed = getElapsedNanos();
+		if (elapsed <= 0) {
+			return 0;
+		}
+		return getBytes() * 1000000000D / elapsed;
+	}
+
+	/**
+	 * 処理が完了しているか判定します。<br>
+	 * @return 処理が完了し計測が終了している場合にtrueを返却
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	/**
+	 * ファイル処理毎の進捗通知を受けるためのインタフェースです。<br>
+	 * <p>
+	 * 並列処理を行う場合、通知は各ワーカースレッドから行われる為、実装クラスはスレッドセーフである必要があります。<br>
+	 * </p>
+	 */
+	public static interface Listener {
+
+		/**
+		 * ファイル又は、ディレクトリの処理完了を通知します。<br>
+		 * @param progress 進捗情報
+		 * @param file 処理したファイル又は、ディレクトリ(処理元パス)
+		 */
+		public void progress(FileProgress progress, File file);
+	}
+}
@@ -1,16 +1,19 @@
 package org.ideaccum.libs.commons.util;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
-import java.util.Iterator;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ファイルリソースに対する操作を行う際の支援的な操作メソッドを提供します。<br>
@@ -22,10 +25,16 @@ import java.util.List;
  * 更新日      更新者           更新内容
  * 2005/05/24  Kitagawa         新規作成
  * 2018/05/24  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         dirs、filesの再帰走査をFileWalkerによる走査に変更
+ * 2026/10/18  Kitagawa         ワーカー数を指定した並列コピー、並列削除を追加
+ * 2026/10/18  Kitagawa         isBinaryFileをBinaryFileDetectorによる先頭標本での判定に変更
  *-->
  */
 public final class FileUtil {
 
+	/** バイナリファイル判定 */
+	private static final BinaryFileDetector BINARY_DETECTOR = new BinaryFileDetector();
+
 	/**
 	 * コンストラクタ<br>
 	 */
@@ -108,6 +117,85 @@ public final class FileUtil {
 		}
 	}
 
+	/**
+	 * ファイルを並列に削除します。<br>
+	 * ファイルパスがディレクトリの場合は、配下のファイルを指定されたワーカー数のスレッドで並列に削除し、全てのファイルの削除完了後に下位のディレクトリから順に削除します。<br>
+	 * ネットワークストレージ上の大量の小さなファイルを削除する場合等、ファイル毎の処理待ち時間が支配的となる場合に利用します。<br>
+	 * フィルタはファイル及び、ディレクトリの双方に適用され、フィルタに合致しないディレクトリ配下は削除されません。<br>
+	 * ディレクトリを参照するシンボリックリンクは{@link #delete(File, FileFilter, boolean)}と同様に参照先の配下を削除した上で、シンボリックリンク自体を削除します。<br>
+	 * 削除できなかったリソースはVM終了時に削除するようにマークされます。<br>
+	 * @param path 削除対象ファイルパス
+	 * @param filter 削除処理時のファイルフィルタオブジェクト
+	 * @param workers ワーカースレッド数(1以下の場合は呼び出し元スレッドで削除)
+	 * @param listener 進捗通知リスナー(通知が不要な場合はnull)
+	 * @return 削除処理の進捗情報
+	 */
+	public static FileProgress delete(File path, FileFilter filter, int workers, final FileProgress.Listener listener) {
+		final FileProgress progress = new FileProgress();
+		if (path == null || !path.exists()) {
+			progress.finish();
+			return progress;
+		}
+		final List<File> dirs = new ArrayList<>();
+		final Workers executor = new Workers(workers);
+		try {
+			new FileWalker(path).setDirectoryFilter(filter).setFileFilter(filter).setIncludeDirectories(true).walk(new FileWalker.Visitor() {
+
+				public void visit(final File file, boolean directory) throws IOException {
+					if (directory) {
+						dirs.add(file);
+						return;
+					}
+					executor.submit(new Task() {
+
+						public void run() throws IOException {
+							if (deleteFile(file)) {
+								progress.addFile(0, false);
+							}
+							if (listener != null) {
+								listener.progress(progress, file);
+							}
+						}
+					});
+				}
+			});
+			executor.await();
+		} catch (IOException e) {
+			// 削除処理は入出力例外をスローしない為、割り込みによる中断のみ
+			progress.finish();
+			return progress;
+		} finally {
+			executor.shutdown();
+		}
+		for (int i = dirs.size() - 1; i >= 0; i--) {
+			File dir = dirs.get(i);
+			if (deleteFile(dir)) {
+				progress.addDir();
+			}
+			if (listener != null) {
+				listener.progress(progress, dir);
+			}
+		}
+		progress.finish();
+		return progress;
+	}
+
+	/**
+	 * ファイル又は、空のディレクトリを削除します。<br>
+	 * 削除できなかった場合はVM終了時に削除するようにマークします。<br>
+	 * @param file 削除対象ファイルパス
+	 * @return 削除できた場合にtrueを返却
+	 */
+	private static boolean deleteFile(File file) {
+		if (file.delete()) {
+			return true;
+		}
+		if (file.exists()) {
+			file.deleteOnExit();
+		}
+		return false;
+	}
+
 	/**
 	 * ファイルを削除します。<br>
 	 * ファイルパスがディレクトリの場合は、配下のリソースに対しても再帰的に削除します。<br>
@@ -245,6 +333,119 @@ public final class FileUtil {
 		}
 	}
 
+	/**
+	 * ファイルを指定されたファイルに並列にコピーします。<br>
+	 * ファイルパスがディレクトリの場合は、コピー先にディレクトリ階層を作成しながら、配下のファイルを指定されたワーカー数のスレッドで並列にコピーします。<br>
+	 * ネットワークストレージ上の大量の小さなファイルをコピーする場合等、ファイル毎の処理待ち時間が支配的となる場合に利用します。<br>
+	 * ハードリンクを指定した場合、コピー元と同一のファイルシステム上であればファイル内容を複製せずにハードリンクを作成します。
+	 * ハードリンクはコピー元とファイル内容を共有する為、いずれかへの書き込みは双方に反映される点に注意して下さい。
+	 * ハードリンクが作成できないファイルシステムの場合は通常のコピーを行います。<br>
+	 * ディレクトリを参照するシンボリックリンクは{@link #copy(File, File)}と同様に参照先を辿り、コピー先には参照先の内容を持つディレクトリとして作成します。<br>
+	 * @param src コピー元ファイルパス
+	 * @param dst コピー先ファイルパス
+	 * @param workers ワーカースレッド数(1以下の場合は呼び出し元スレッドでコピー)
+	 * @param link ハードリンクの作成を試みる場合にtrueを指定
+	 * @param listener 進捗通知リスナー(通知が不要な場合はnull)
+	 * @return コピー処理の進捗情報
+	 * @throws IOException コピー中に入出力例外が発生した場合にスローされます
+	 */
+	public static FileProgress copy(File src, File dst, int workers, final boolean link, final FileProgress.Listener listener) throws IOException {
+		final FileProgress progress = new FileProgress();
+		if (src == null) {
+			progress.finish();
+			return progress;
+		}
+		if (dst == null) {
+			dst = file("");
+		}
+		if (!src.isDirectory()) {
+			copyFile(src, dst.toPath(), link, progress, listener);
+			progress.finish();
+			return progress;
+		}
+		final Path srcRoot = src.toPath();
+		final Path dstRoot = dst.toPath();
+		final List<File> dirs = new ArrayList<>();
+		if (!dst.exists()) {
+			dirs.add(src);
+		}
+		final Workers executor = new Workers(workers);
+		try {
+			new FileWalker(src).setIncludeDirectories(true).walk(new FileWalker.Visitor() {
+
+				public void visit(final File file, boolean directory) throws IOException {
+					final Path target = dstRoot.resolve(srcRoot.relativize(file.toPath()));
+					if (directory) {
+						Files.createDirectories(target);
+						if (!srcRoot.equals(file.toPath())) {
+							dirs.add(file);
+						}
+						progress.addDir();
+						if (listener != null) {
+							listener.progress(progress, file);
+						}
+						return;
+					}
+					executor.submit(new Task() {
+
+						public void run() throws IOException {
+							copyFile(file, target, link, progress, listener);
+						}
+					});
+				}
+			});
+			executor.await();
+		} finally {
+			executor.shutdown();
+		}
+		for (int i = dirs.size() - 1; i >= 0; i--) {
+			File dir = dirs.get(i);
+			dstRoot.resolve(srcRoot.relativize(dir.toPath())).toFile().setLastModified(dir.lastModified());
+		}
+		progress.finish();
+		return progress;
+	}
+
+	/**
+	 * 単一のファイルをコピーします。<br>
+	 * @param src コピー元ファイル
+	 * @param dst コピー先ファイルパス
+	 * @param link ハードリンクの作成を試みる場合にtrueを指定
+	 * @param progress 進捗情報
+	 * @param listener 進捗通知リスナー(通知が不要な場合はnull)
+	 * @throws IOException コピー中に入出力例外が発生した場合にスローされます
+	 */
+	private static void copyFile(File src, Path dst, boolean link, FileProgress progress, FileProgress.Listener listener) throws IOException {
+		Path source = src.toPath();
+		boolean linked = false;
+		if (link) {
+			try {
+				if (Files.exists(dst)) {
+					if (Files.isSameFile(source, dst)) {
+						linked = true;
+					} else {
+						Files.delete(dst);
+					}
+				}
+				if (!linked) {
+					Files.createLink(dst, source);
+					linked = true;
+				}
+			} catch (UnsupportedOperationException | IOException e) {
+				// ハードリンクが作成できない場合は通常のコピーを行う
+			}
+		}
+		if (linked) {
+			progress.addFile(0, true);
+		} else {
+			Files.copy(source, dst, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+			progress.addFile(Files.size(dst), false);
+		}
+		if (listener != null) {
+			listener.progress(progress, src);
+		}
+	}
+
 	/**
 	 * ファイルを指定されたファイルにコピーします。<br>
 	 * ファイルパスがディレクトリの場合は、配下のリソースに対しても再帰的にコピーします。<br>
@@ -265,41 +466,52 @@ public final class FileUtil {
 	/**
 	 * 基底パス配下のディレクトリを取得します。<br>
 	 * 提供されるディレクトリ配列には基底パスとして指定されたディレクトリ自体も含まれます。<br>
+	 * 配下の大量のディレクトリを逐次処理する場合や並列に走査する場合は{@link org.ideaccum.libs.commons.util.FileWalker}を利用して下さい。<br>
 	 * @param base 基底パス
 	 * @param filter 検索フィルタ
 	 * @param hierarchical サブディレクトリも含めて対象とする場合にtrueを指定
 	 * @return 基底パス配下のディレクトリ
 	 */
-	public static File[] dirs(File base, final FileFilter filter, boolean hierarchical) {
+	public static File[] dirs(File base, FileFilter filter, boolean hierarchical) {
 		if (base == null) {
 			throw new NullPointerException("base");
 		}
-		File[] dirs = base.listFiles(new FileFilter() {
-
-			public boolean accept(File target) {
-				if (filter == null) {
-					return target.isDirectory();
-				} else {
-					return target.isDirectory() && filter.accept(target);
-				}
-			}
-		});
-		List<File> result = new LinkedList<>();
-		result.add(base);
-		if (dirs != null) {
-			result.addAll(Arrays.asList(dirs));
-			if (hierarchical) {
-				for (int i = 0; i <= dirs.length - 1; i++) {
-					for (Iterator<File> iterator = Arrays.asList(dirs(dirs[i], filter, hierarchical)).iterator(); iterator.hasNext();) {
-						File file = (File) iterator.next();
-						if (!result.contains(file)) {
-							result.add(file);
-						}
-					}
-				}
-			}
+		// ↓パフォーマンスチューニング(List.containsによる重複判定を排除しFileWalkerでの走査に変更)
+		//File[] dirs = base.listFiles(new FileFilter() {
+		//
+		//	public boolean accept(File target) {
+		//		if (filter == null) {
+		//			return target.isDirectory();
+		//		} else {
+		//			return target.isDirectory() && filter.accept(target);
+		//		}
+		//	}
+		//});
+		//List<File> result = new LinkedList<>();
+		//result.add(base);
+		//if (dirs != null) {
+		//	result.addAll(Arrays.asList(dirs));
+		//	if (hierarchical) {
+		//		for (int i = 0; i <= dirs.length - 1; i++) {
+		//			for (Iterator<File> iterator = Arrays.asList(dirs(dirs[i], filter, hierarchical)).iterator(); iterator.hasNext();) {
+		//				File file = (File) iterator.next();
+		//				if (!result.contains(file)) {
+		//					result.add(file);
+		//				}
+		//			}
+		//		}
+		//	}
+		//}
+		//return (File[]) result.toArray(new File[0]);
+		if (!base.isDirectory()) {
+			return new File[] { base };
 		}
-		return (File[]) result.toArray(new File[0]);
+		return new FileWalker(base) //
+				.setDirectoryFilter(filter) //
+				.setHierarchical(hierarchical) //
+				.setIncludeFiles(false) //
+				.setIncludeDirectories(true) //
+				.toArray();
 	}
 
 	/**
@@ -315,6 +527,7 @@ public final class FileUtil {
 
 	/**
 	 * 基底パス配下のファイルを取得します。<br>
+	 * 配下の大量のファイルを逐次処理する場合や並列に走査する場合は{@link org.ideaccum.libs.commons.util.FileWalker}を利用して下さい。<br>
 	 * @param base 基底パス
 	 * @param dirFilter 検索フィルタ(ディレクトリに対するフィルタ)
 	 * @param fileFilter 検索フィルタ(ファイルに対するフィルタ)
@@ -328,29 +541,34 @@ public final class FileUtil {
 		if (base.isFile()) {
 			return new File[] { base };
 		}
-		File[] files = base.listFiles(fileFilter);
-		if (files == null) {
-			files = new File[0];
-		}
 		if (!hierarchical) {
-			return files;
-		}
-		List<File> list = new LinkedList<>();
-		File[] dirs = dirs(base, dirFilter, true);
-		if (dirs != null) {
-			for (int i = 0; i <= dirs.length - 1; i++) {
-				File[] childs = files(dirs[i], fileFilter, false);
-				if (childs != null) {
-					for (int j = 0; j <= childs.length - 1; j++) {
-						File child = childs[j];
-						if (child.isFile() && !list.contains(child)) {
-							list.add(child);
-						}
-					}
-				}
+			File[] files = base.listFiles(fileFilter);
+			if (files == null) {
+				files = new File[0];
 			}
+			return files;
 		}
-		return (File[]) list.toArray(new File[0]);
+		// ↓パフォーマンスチューニング(List.containsによる重複判定を排除しFileWalkerでの走査に変更)
+		//List<File> list = new LinkedList<>();
+		//File[] dirs = dirs(base, dirFilter, true);
+		//if (dirs != null) {
+		//	for (int i = 0; i <= dirs.length - 1; i++) {
+		//		File[] childs = files(dirs[i], fileFilter, false);
+		//		if (childs != null) {
+		//			for (int j = 0; j <= childs.length - 1; j++) {
+		//				File child = childs[j];
+		//				if (child.isFile() && !list.contains(child)) {
+		//					list.add(child);
+		//				}
+		//			}
+		//		}
+		//	}
+		//}
+		//return (File[]) list.toArray(new File[0]);
+		return new FileWalker(base) //
+				.setDirectoryFilter(dirFilter) //
+				.setFileFilter(fileFilter) //
+				.toArray();
 	}
 
 	/**
@@ -402,36 +620,40 @@ public final class FileUtil {
 
 	/**
 	 * ファイルがバイナリファイルであるか判定します。<br>
-	 * このメソッドは\0を含む場合にバイナリファイルであると判断します。<br>
+	 * このメソッドはファイル先頭の標本({@link org.ideaccum.libs.commons.util.BinaryFileDetector#DEFAULT_SAMPLE_SIZE}バイト)が\0を含む場合や、
+	 * 制御文字の割合が高い場合、UTF-8及び、Windows-31Jのいずれのバイト列としても妥当でない場合にバイナリファイルであると判断します。<br>
+	 * 標本サイズや判定閾値を変更する場合や、ディレクトリ配下のファイルを並列に判定する場合は{@link org.ideaccum.libs.commons.util.BinaryFileDetector}を利用して下さい。<br>
 	 * @param file 判定対象ファイル
 	 * @return バイナリファイルである場合にtrueを返却
 	 */
 	public static boolean isBinaryFile(File file) {
-		if (file == null) {
-			return false;
-		}
-		//FileInputStream is = null;
-		BufferedInputStream is = null;
-		try {
-			is = new BufferedInputStream(new FileInputStream(file));
-			byte[] b = new byte[1];
-			while (is.read(b, 0, 1) > 0) {
-				if (b[0] == 0) {
-					return true;
-				}
-			}
-			return false;
-		} catch (IOException e) {
-			return true;
-		} finally {
-			if (is != null) {
-				try {
-					is.close();
-				} catch (IOException e) {
-				}
-				is = null;
-			}
-		}
+		// ↓パフォーマンスチューニング(1バイト単位での全体走査を排除し先頭標本の一括読み込みでの判定に変更)
+		//if (file == null) {
+		//	return false;
+		//}
+		////FileInputStream is = null;
+		//BufferedInputStream is = null;
+		//try {
+		//	is = new BufferedInputStream(new FileInputStream(file));
+		//	byte[] b = new byte[1];
+		//	while (is.read(b, 0, 1) > 0) {
+		//		if (b[0] == 0) {
+		//			return true;
+		//		}
+		//	}
+		//	return false;
+		//} catch (IOException e) {
+		//	return true;
+		//} finally {
+		//	if (is != null) {
+		//		try {
+		//			is.close();
+		//		} catch (IOException e) {
+		//		}
+		//		is = null;
+		//	}
+		//}
+		return BINARY_DETECTOR.isBinary(file);
 	}
 
 	/**
@@ -600,4 +822,139 @@ public final class FileUtil {
 		}
 		return file.getAbsolutePath();
 	}
+
+	/**
+	 * ワーカースレッドで実行するファイル単位の処理を定義するインタフェースです。<br>
+	 */
+	private static interface Task {
+
+		/**
+		 * 処理を実行します。<br>
+		 * @throws IOException 処理中に入出力例外が発生した場合にスローされます
+		 */
+		public void run() throws IOException;
+	}
+
+	/**
+	 * ファイル単位の処理を並列に実行するワーカークラスです。<br>
+	 * <p>
+	 * ワーカー数が1以下の場合は呼び出し元スレッドで処理を実行します。<br>
+	 * 未処理の処理数はワーカー数に応じた上限で制限され、上限に達した場合は呼び出し元スレッドが待機します。<br>
+	 * いずれかの処理で例外が発生した場合、以降の処理は実行されず、最初に発生した例外が呼び出し元にスローされます。<br>
+	 * </p>
+	 */
+	private static final class Workers {
+
+		/** ワーカー毎の未処理上限数 */
+		private static final int PENDING_PER_WORKER = 64;
+
+		/** 実行サービス */
+		private ExecutorService executor;
+
+		/** 未処理枠 */
+		private Semaphore slots;
+
+		/** 処理中に発生した例外 */
+		private volatile Exception failure;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param workers ワーカースレッド数
+		 */
+		private Workers(int workers) {
+			super();
+			if (workers > 1) {
+				this.executor = Executors.newFixedThreadPool(workers);
+				this.slots = new Semaphore(workers * PENDING_PER_WORKER);
+			}
+		}
+
+		/**
+		 * 処理を投入します。<br>
+		 * @param task 処理
+		 * @throws IOException 既に投入済の処理で入出力例外が発生している場合や、処理投入待機中に割り込みが発生した場合にスローされます
+		 */
+		private void submit(final Task task) throws IOException {
+			check();
+			if (executor == null) {
+				task.run();
+				return;
+			}
+			try {
+				slots.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			executor.execute(new Runnable() {
+
+				public void run() {
+					try {
+						if (failure == null) {
+							task.run();
+						}
+					} catch (Exception e) {
+						fail(e);
+					} finally {
+						slots.release();
+					}
+				}
+			});
+		}
+
+		/**
+		 * 投入済の全ての処理の完了を待機します。<br>
+		 * @throws IOException 処理で入出力例外が発生した場合や、待機中に割り込みが発生した場合にスローされます
+		 */
+		private void await() throws IOException {
+			if (executor != null) {
+				executor.shutdown();
+				try {
+					while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+						continue;
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException();
+				}
+			}
+			check();
+		}
+
+		/**
+		 * ワーカースレッドを終了します。<br>
+		 * 未処理の処理が残っている場合は破棄されます。<br>
+		 */
+		private void shutdown() {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+
+		/**
+		 * 処理中に発生した例外を記録します。<br>
+		 * 既に例外が記録されている場合は最初の例外を保持します。<br>
+		 * @param e 発生した例外
+		 */
+		private synchronized void fail(Exception e) {
+			if (failure == null) {
+				failure = e;
+			}
+		}
+
+		/**
+		 * 処理中に例外が発生しているかチェックします。<br>
+		 * @throws IOException 処理中に入出力例外が発生している場合にスローされます
+		 */
+		private void check() throws IOException {
+			Exception e = failure;
+			if (e instanceof IOException) {
+				throw (IOException) e;
+			} else if (e instanceof RuntimeException) {
+				throw (RuntimeException) e;
+			} else if (e != null) {
+				throw new IOException(e);
+			}
+		}
+	}
 }
@@ -0,0 +1,526 @@
+package org.ideaccum.libs.commons.util;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ディレクトリ配下のファイル及び、ディレクトリを再帰的に走査するためのインタフェースを提供します。<br>
+ * <p>
+ * {@link java.nio.file.DirectoryStream}を利用してディレクトリ単位にエントリを列挙し、イテレータから要求された時点で次のディレクトリを走査します。<br>
+ * その為、全ての走査結果を保持することなく、巨大なディレクトリ階層に対しても先頭の結果から順次処理を行うことが出来ます。<br>
+ * 並列数を2以上に設定した場合、{@link #toArray()}はサブディレクトリ毎の走査を{@link java.util.concurrent.ForkJoinPool}上で並列に実行します。<br>
+ * 走査結果がファイルであるかディレクトリであるかの判定を伴う処理を行う場合は、走査時に取得した属性を利用する{@link #walk(Visitor)}を利用することで、走査結果毎のファイル属性の再取得を回避できます。<br>
+ * 下記はディレクトリ配下の全てのファイルを順次処理する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * FileWalker walker = new FileWalker(new File("/var/data")).setFileFilter(filter);<br>
+ * for (File file : walker) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;...<br>
+ * }<br>
+ * </code>
+ * <p>
+ * 走査結果は基底ディレクトリから深さ優先の順序で提供され、各ディレクトリ内ではディレクトリ直下のエントリが、サブディレクトリ配下のエントリよりも先に提供されます。<br>
+ * この順序は並列数によらず同一です。<br>
+ * ディレクトリフィルタに合致しないディレクトリは、その配下も走査されません。<br>
+ * シンボリックリンクは参照先を辿って走査し、同一のディレクトリに複数の経路で到達する場合はそれぞれの経路で走査されます。
+ * 但し、基底ディレクトリからの経路上の上位ディレクトリを参照するディレクトリは、ディレクトリとして提供されますが配下は走査されません。<br>
+ * 読み込み権限が無い等の理由で列挙できないディレクトリ及び、属性が取得できないエントリは無視されます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class FileWalker implements Iterable<File> {
+
+	/** 基底パス */
+	private File base;
+
+	/** ディレクトリフィルタ */
+	private FileFilter dirFilter;
+
+	/** ファイルフィルタ */
+	private FileFilter fileFilter;
+
+	/** サブディレクトリ走査フラグ */
+	private boolean hierarchical;
+
+	/** ファイル提供フラグ */
+	private boolean includeFiles;
+
+	/** ディレクトリ提供フラグ */
+	private boolean includeDirectories;
+
+	/** 並列数 */
+	private int parallelism;
+
+	/**
+	 * コンストラクタ<br>
+	 * 初期状態ではサブディレクトリを含めた全てのファイルを逐次走査で提供します。<br>
+	 * @param base 基底パス
+	 */
+	public FileWalker(File base) {
+		super();
+		if (base == null) {
+			throw new NullPointerException("base");
+		}
+		this.base = base;
+		this.dirFilter = null;
+		this.fileFilter = null;
+		this.hierarchical = true;
+		this.includeFiles = true;
+		this.includeDirectories = false;
+		this.parallelism = 1;
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "base=" + base + ", hierarchical=" + hierarchical + ", includeFiles=" + includeFiles + ", includeDirectories=" + includeDirectories + ", parallelism=" + parallelism;
+	}
+
+	/**
+	 * 基底パスを取得します。<br>
+	 * @return 基底パス
+	 */
+	public File getBase() {
+		return base;
+	}
+
+	/**
+	 * ディレクトリフィルタを設定します。<br>
+	 * フィルタに合致しないディレクトリは提供されず、その配下も走査されません。基底ディレクトリ自体はフィルタの対象外です。<br>
+	 * @param dirFilter ディレクトリフィルタ(nullの場合は全てのディレクトリが対象)
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWalker setDirectoryFilter(FileFilter dirFilter) {
+		this.dirFilter = dirFilter;
+		return this;
+	}
+
+	/**
+	 * ファイルフィルタを設定します。<br>
+	 * @param fileFilter ファイルフィルタ(nullの場合は全てのファイルが対象)
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWalker setFileFilter(FileFilter fileFilter) {
+		this.fileFilter = fileFilter;
+		return this;
+	}
+
+	/**
+	 * サブディレクトリを走査するかを設定します。<br>
+	 * @param hierarchical サブディレクトリも含めて対象とする場合にtrueを指定
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWalker setHierarchical(boolean hierarchical) {
+		this.hierarchical = hierarchical;
+		return this;
+	}
+
+	/**
+	 * 走査結果としてファイルを提供するかを設定します。<br>
+	 * @param includeFiles ファイルを提供する場合にtrueを指定
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWalker setIncludeFiles(boolean includeFiles) {
+		this.includeFiles = includeFiles;
+		return this;
+	}
+
+	/**
+	 * 走査結果としてディレクトリを提供するかを設定します。<br>
+	 * ディレクトリを提供する場合、基底ディレクトリ自体も先頭の結果として提供されます。<br>
+	 * @param includeDirectories ディレクトリを提供する場合にtrueを指定
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWalker setIncludeDirectories(boolean includeDirectories) {
+		this.includeDirectories = includeDirectories;
+		return this;
+	}
+
+	/**
+	 * {@link #toArray()}での走査並列数を設定します。<br>
+	 * 1以下の場合は呼び出し元スレッドで逐次走査します。イテレータによる走査は並列数によらず逐次走査となります。<br>
+	 * @param parallelism 並列数
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWalker setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	/**
+	 * 走査結果を順次提供するイテレータを取得します。<br>
+	 * ディレクトリの走査はイテレータの要求に応じて1ディレクトリ単位で行われます。<br>
+	 * @return 走査結果イテレータ
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<File> iterator() {
+		return new WalkIterator();
+	}
+
+	/**
+	 * 走査結果をビジターに順次通知します。<br>
+	 * 走査はイテレータと同様に呼び出し元スレッドで1ディレクトリ単位で行われます。<br>
+	 * @param visitor 走査結果ビジター
+	 * @throws IOException ビジターで入出力例外が発生した場合にスローされます
+	 */
+	public void walk(Visitor visitor) throws IOException {
+		if (visitor == null) {
+			throw new NullPointerException("visitor");
+		}
+		WalkIterator iterator = new WalkIterator();
+		while (iterator.hasNext()) {
+			File file = iterator.next();
+			visitor.visit(file, iterator.isDirectory());
+		}
+	}
+
+	/**
+	 * 全ての走査結果を配列として取得します。<br>
+	 * 並列数が2以上の場合はサブディレクトリ毎の走査を並列に実行します。<br>
+	 * @return 走査結果配列
+	 */
+	public File[] toArray() {
+		if (parallelism <= 1 || !hierarchical || !base.isDirectory()) {
+			List<File> result = new ArrayList<>();
+			for (Iterator<File> iterator = iterator(); iterator.hasNext();) {
+				result.add(iterator.next());
+			}
+			return result.toArray(new File[0]);
+		}
+		Set<Path> visited = Collections.newSetFromMap(new ConcurrentHashMap<Path, Boolean>());
+		Directory root = new Directory(base.toPath(), null, null);
+		visited.add(root.normalized());
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<File> result = pool.invoke(new WalkTask(root, visited));
+			if (includeDirectories) {
+				result.add(0, base);
+			}
+			return result.toArray(new File[0]);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * ディレクトリ直下のエントリを列挙し、提供対象エントリ及び、走査対象サブディレクトリを振り分けます。<br>
+	 * 既に走査対象として登録済みのパス及び、経路上の上位ディレクトリを参照するディレクトリは走査対象サブディレクトリに含まれません。<br>
+	 * @param dir 列挙対象ディレクトリ
+	 * @param result 提供対象エントリ格納先
+	 * @param directories 提供対象エントリのディレクトリ判定フラグ格納先(不要な場合はnull)
+	 * @param subdirs 走査対象サブディレクトリ格納先
+	 * @param visited 走査対象登録済みディレクトリパスセット
+	 */
+	private void list(Directory dir, List<File> result, BitSet directories, List<Directory> subdirs, Set<Path> visited) {
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir.path)) {
+			for (Path path : stream) {
+				BasicFileAttributes attributes;
+				try {
+					attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				} catch (IOException e) {
+					continue;
+				}
+				if (attributes.isDirectory()) {
+					File file = path.toFile();
+					if (dirFilter != null && !dirFilter.accept(file)) {
+						continue;
+					}
+					Directory subdir = new Directory(path, attributes, dir);
+					if (!visited.add(subdir.normalized())) {
+						continue;
+					}
+					if (includeDirectories) {
+						if (directories != null) {
+							directories.set(result.size());
+						}
+						result.add(file);
+					}
+					if (hierarchical && !dir.isLoop(subdir.key)) {
+						subdirs.add(subdir);
+					}
+				} else if (attributes.isRegularFile()) {
+					if (!includeFiles) {
+						continue;
+					}
+					File file = path.toFile();
+					if (fileFilter != null && !fileFilter.accept(file)) {
+						continue;
+					}
+					result.add(file);
+				}
+			}
+		} catch (IOException | DirectoryIteratorException e) {
+			// 列挙できないディレクトリは無視
+		}
+	}
+
+	/**
+	 * 同一ディレクトリ判定に利用するキーを取得します。<br>
+	 * ファイルシステムがファイルキーを提供する場合はファイルキーを、提供しない場合はシンボリックリンクを解決した実パスを返却します。<br>
+	 * @param path 対象パス
+	 * @param attributes ファイル属性(未取得の場合はnull)
+	 * @return 同一ディレクトリ判定キー
+	 */
+	private static Object keyOf(Path path, BasicFileAttributes attributes) {
+		try {
+			if (attributes == null) {
+				attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			}
+			if (attributes.fileKey() != null) {
+				return attributes.fileKey();
+			}
+			return path.toRealPath();
+		} catch (IOException e) {
+			// 属性が取得できない場合はパスで判定
+		}
+		return path.toAbsolutePath().normalize();
+	}
+
+	/**
+	 * 走査対象ディレクトリを基底ディレクトリからの経路と共に保持するクラスです。<br>
+	 * <p>
+	 * シンボリックリンクによる循環の判定は、{@link java.nio.file.Files#walkFileTree(Path, java.util.Set, int, java.nio.file.FileVisitor)}と同様に経路上の上位ディレクトリのみを対象として行います。<br>
+	 * </p>
+	 */
+	private static final class Directory {
+
+		/** ディレクトリパス */
+		private Path path;
+
+		/** 同一ディレクトリ判定キー */
+		private Object key;
+
+		/** 上位ディレクトリ(基底ディレクトリの場合はnull) */
+		private Directory parent;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param path ディレクトリパス
+		 * @param attributes ファイル属性(未取得の場合はnull)
+		 * @param parent 上位ディレクトリ(基底ディレクトリの場合はnull)
+		 */
+		private Directory(Path path, BasicFileAttributes attributes, Directory parent) {
+			super();
+			this.path = path;
+			this.key = keyOf(path, attributes);
+			this.parent = parent;
+		}
+
+		/**
+		 * 重複判定に利用する正規化した絶対パスを取得します。<br>
+		 * @return 正規化した絶対パス
+		 */
+		private Path normalized() {
+			return path.toAbsolutePath().normalize();
+		}
+
+		/**
+		 * 指定された判定キーのディレクトリが自身又は、経路上の上位ディレクトリであるか判定します。<br>
+		 * @param key 同一ディレクトリ判定キー
+		 * @return 自身又は、経路上の上位ディレクトリである場合にtrueを返却
+		 */
+		private boolean isLoop(Object key) {
+			for (Directory dir = this; dir != null; dir = dir.parent) {
+				if (dir.key.equals(key)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 走査結果を逐次提供するイテレータクラスです。<br>
+	 * <p>
+	 * 走査待ちディレクトリをスタックで保持し、提供対象エントリが尽きた時点で次のディレクトリを列挙します。<br>
+	 * </p>
+	 */
+	private final class WalkIterator implements Iterator<File> {
+
+		/** 走査待ちディレクトリ */
+		private Deque<Directory> pending;
+
+		/** 走査対象登録済みディレクトリパスセット */
+		private Set<Path> visited;
+
+		/** 提供待ちエントリ */
+		private List<File> entries;
+
+		/** 提供待ちエントリのディレクトリ判定フラグ */
+		private BitSet directories;
+
+		/** 提供待ちエントリ位置 */
+		private int index;
+
+		/**
+		 * コンストラクタ<br>
+		 */
+		private WalkIterator() {
+			super();
+			this.pending = new ArrayDeque<>();
+			this.visited = new HashSet<>();
+			this.entries = new ArrayList<>();
+			this.directories = new BitSet();
+			this.index = 0;
+			if (base.isDirectory()) {
+				Directory root = new Directory(base.toPath(), null, null);
+				visited.add(root.normalized());
+				pending.push(root);
+				if (includeDirectories) {
+					directories.set(0);
+					entries.add(base);
+				}
+			} else if (base.isFile() && includeFiles) {
+				entries.add(base);
+			}
+		}
+
+		/**
+		 * 次の走査結果が存在するか判定します。<br>
+		 * @return 次の走査結果が存在する場合にtrueを返却
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			while (index >= entries.size()) {
+				if (pending.isEmpty()) {
+					return false;
+				}
+				entries.clear();
+				directories.clear();
+				index = 0;
+				List<Directory> subdirs = new ArrayList<>();
+				list(pending.pop(), entries, directories, subdirs, visited);
+				for (int i = subdirs.size() - 1; i >= 0; i--) {
+					pending.push(subdirs.get(i));
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * 次の走査結果を取得します。<br>
+		 * @return 次の走査結果
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public File next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return entries.get(index++);
+		}
+
+		/**
+		 * 直前に取得した走査結果がディレクトリであるか判定します。<br>
+		 * @return 直前に取得した走査結果がディレクトリである場合にtrueを返却
+		 */
+		private boolean isDirectory() {
+			return directories.get(index - 1);
+		}
+
+		/**
+		 * 走査結果の削除はサポートされません。<br>
+		 * @see java.util.Iterator#remove()
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * ディレクトリ単位の並列走査タスククラスです。<br>
+	 * <p>
+	 * ディレクトリ直下のエントリを列挙した後、サブディレクトリ毎のタスクを分岐し、結果を列挙順に連結します。<br>
+	 * </p>
+	 */
+	private final class WalkTask extends RecursiveTask<List<File>> {
+
+		/** シリアルバージョンUID */
+		private static final long serialVersionUID = 1L;
+
+		/** 走査対象ディレクトリ */
+		private Directory dir;
+
+		/** 走査対象登録済みディレクトリパスセット */
+		private Set<Path> visited;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param dir 走査対象ディレクトリ
+		 * @param visited 走査対象登録済みディレクトリパスセット
+		 */
+		private WalkTask(Directory dir, Set<Path> visited) {
+			super();
+			this.dir = dir;
+			this.visited = visited;
+		}
+
+		/**
+		 * ディレクトリ配下を走査します。<br>
+		 * @return 走査結果
+		 * @see java.util.concurrent.RecursiveTask#compute()
+		 */
+		@Override
+		protected List<File> compute() {
+			List<File> result = new ArrayList<>();
+			List<Directory> subdirs = new ArrayList<>();
+			list(dir, result, null, subdirs, visited);
+			if (subdirs.isEmpty()) {
+				return result;
+			}
+			List<WalkTask> tasks = new ArrayList<>(subdirs.size());
+			for (int i = 0; i <= subdirs.size() - 1; i++) {
+				tasks.add(new WalkTask(subdirs.get(i), visited));
+			}
+			invokeAll(tasks);
+			for (int i = 0; i <= tasks.size() - 1; i++) {
+				result.addAll(tasks.get(i).join());
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * 走査結果の通知を受けるためのインタフェースです。<br>
+	 */
+	public static interface Visitor {
+
+		/**
+		 * 走査結果を通知します。<br>
+		 * @param file 走査結果のファイル又は、ディレクトリ
+		 * @param directory 走査結果がディレクトリである場合にtrue
+		 * @throws IOException 処理中に入出力例外が発生した場合にスローされます
+		 */
+		public void visit(File file, boolean directory) throws IOException;
+	}
+}
@@ -0,0 +1,757 @@
+package org.ideaccum.libs.commons.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ディレクトリ配下のファイルの作成、更新、削除を監視するためのインタフェースを提供します。<br>
+ * <p>
+ * {@link java.nio.file.WatchService}によりファイルシステムからの変更通知を受ける為、ディレクトリ配下を定期的に再走査する方式と異なり、
+ * 検出処理のコストはディレクトリ配下のファイル数ではなく、変更されたファイル数に比例します。<br>
+ * サブディレクトリを監視対象とする場合、監視開始時点のサブディレクトリ及び、監視中に作成されたサブディレクトリも再帰的に監視対象として登録されます。<br>
+ * 変更通知を提供しないファイルシステムの場合や、ポーリングでの監視を指定した場合は、一定間隔でディレクトリ配下を走査し、前回走査時との差分から変更を検出します。<br>
+ * 下記は到着したファイルを順次処理する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * FileWatcher watcher = new FileWatcher(new File("/var/inbound")).setDebounce(1000).start();<br>
+ * while (true) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;FileWatcher.Event event = watcher.take();<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;if (event.getKind() == FileWatcher.Kind.CREATE) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;...<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ * }<br>
+ * </code>
+ * <p>
+ * 変更は抑止時間(デバウンス)の間、ファイル毎に集約され、最後の変更から抑止時間が経過した時点で通知されます。
+ * その為、書き込み中のファイルに対する複数の更新は、書き込みが抑止時間以上停止した時点で1件の通知となります。
+ * 作成後に更新されたファイルは作成として、作成後に削除されたファイルは通知されません。<br>
+ * 変更はリスナーが設定されている場合は監視スレッドからリスナーに、設定されていない場合はキューに格納され{@link #take()}、{@link #poll(long, TimeUnit)}で取得します。<br>
+ * ファイルシステムの通知が溢れた場合は、対象ディレクトリを{@link Kind#OVERFLOW}として通知します。この場合、利用側で対象ディレクトリの再走査を行って下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class FileWatcher implements Closeable {
+
+	/** デフォルト抑止時間(ミリ秒) */
+	public static final long DEFAULT_DEBOUNCE = 500;
+
+	/** デフォルトポーリング間隔(ミリ秒) */
+	public static final long DEFAULT_POLLING_INTERVAL = 5000;
+
+	/** 監視対象基底ディレクトリ */
+	private File base;
+
+	/** ファイルフィルタ */
+	private FileFilter filter;
+
+	/** サブディレクトリ監視フラグ */
+	private boolean hierarchical;
+
+	/** 抑止時間(ミリ秒) */
+	private long debounce;
+
+	/** ポーリング監視フラグ */
+	private boolean polling;
+
+	/** ポーリング間隔(ミリ秒) */
+	private long pollingInterval;
+
+	/** 変更通知リスナー */
+	private Listener listener;
+
+	/** 変更通知キュー */
+	private BlockingQueue<Event> queue;
+
+	/** ファイルシステム監視サービス */
+	private WatchService service;
+
+	/** 監視キー毎の監視対象ディレクトリ */
+	private Map<WatchKey, Path> keys;
+
+	/** ポーリング監視時の前回走査結果 */
+	private Map<Path, Snapshot> snapshot;
+
+	/** 通知待ち変更(登録順が通知時刻順となるよう、更新時は削除後に再登録) */
+	private Map<Path, Pending> pendings;
+
+	/** 監視スレッド */
+	private Thread thread;
+
+	/** 監視中フラグ */
+	private volatile boolean running;
+
+	/**
+	 * コンストラクタ<br>
+	 * 初期状態ではサブディレクトリを含めた全てのファイルを、ファイルシステムの変更通知により監視します。<br>
+	 * @param base 監視対象基底ディレクトリ
+	 */
+	public FileWatcher(File base) {
+		super();
+		if (base == null) {
+			throw new NullPointerException("base");
+		}
+		this.base = base;
+		this.filter = null;
+		this.hierarchical = true;
+		this.debounce = DEFAULT_DEBOUNCE;
+		this.polling = false;
+		this.pollingInterval = DEFAULT_POLLING_INTERVAL;
+		this.listener = null;
+		this.queue = new LinkedBlockingQueue<>();
+		this.keys = new HashMap<>();
+		this.snapshot = null;
+		this.pendings = new LinkedHashMap<>();
+		this.running = false;
+	}
+
+	/**
+	 * クラス情報文字列を提供します。<br>
+	 * @return クラス情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "base=" + base + ", hierarchical=" + hierarchical + ", debounce=" + debounce + ", polling=" + polling + ", pollingInterval=" + pollingInterval + ", running=" + running;
+	}
+
+	/**
+	 * 監視対象基底ディレクトリを取得します。<br>
+	 * @return 監視対象基底ディレクトリ
+	 */
+	public File getBase() {
+		return base;
+	}
+
+	/**
+	 * 通知対象とするファイルのフィルタを設定します。<br>
+	 * フィルタは変更されたファイル及び、ディレクトリに対して適用されます。削除されたファイルに対しても適用される為、ファイル属性を参照するフィルタは利用できません。<br>
+	 * @param filter ファイルフィルタ(nullの場合は全ての変更が対象)
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWatcher setFilter(FileFilter filter) {
+		checkNotRunning();
+		this.filter = filter;
+		return this;
+	}
+
+	/**
+	 * サブディレクトリを監視対象とするかを設定します。<br>
+	 * @param hierarchical サブディレクトリも含めて監視対象とする場合にtrueを指定
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWatcher setHierarchical(boolean hierarchical) {
+		checkNotRunning();
+		this.hierarchical = hierarchical;
+		return this;
+	}
+
+	/**
+	 * 変更を集約する抑止時間を設定します。<br>
+	 * @param debounce 抑止時間(ミリ秒、0の場合は集約せずに通知)
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWatcher setDebounce(long debounce) {
+		checkNotRunning();
+		if (debounce < 0) {
+			throw new IllegalArgumentException("debounce < 0 (" + debounce + ")");
+		}
+		this.debounce = debounce;
+		return this;
+	}
+
+	/**
+	 * ファイルシステムの変更通知を利用せずにポーリングで監視するかを設定します。<br>
+	 * ネットワークストレージ等、変更通知が行われないファイルシステムを監視する場合に指定します。<br>
+	 * @param polling ポーリングで監視する場合にtrueを指定
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWatcher setPolling(boolean polling) {
+		checkNotRunning();
+		this.polling = polling;
+		return this;
+	}
+
+	/**
+	 * ポーリング監視時の走査間隔を設定します。<br>
+	 * @param pollingInterval 走査間隔(ミリ秒)
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWatcher setPollingInterval(long pollingInterval) {
+		checkNotRunning();
+		if (pollingInterval <= 0) {
+			throw new IllegalArgumentException("pollingInterval <= 0 (" + pollingInterval + ")");
+		}
+		this.pollingInterval = pollingInterval;
+		return this;
+	}
+
+	/**
+	 * 変更通知リスナーを設定します。<br>
+	 * リスナーは監視スレッドから呼び出されます。リスナーが設定されている場合、変更はキューに格納されません。<br>
+	 * リスナーがスローした実行時例外は監視スレッドのキャッチされない例外のハンドラに通知され、監視は継続されます。<br>
+	 * @param listener 変更通知リスナー(nullの場合はキューに格納)
+	 * @return 自身のクラスインスタンス
+	 */
+	public FileWatcher setListener(Listener listener) {
+		checkNotRunning();
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * ポーリングにより監視しているか判定します。<br>
+	 * ファイルシステムが変更通知を提供しない為に、ポーリングでの監視に切り替えた場合もtrueを返却します。<br>
+	 * @return ポーリングにより監視している場合にtrueを返却
+	 */
+	public boolean isPolling() {
+		return polling;
+	}
+
+	/**
+	 * 監視中であるか判定します。<br>
+	 * @return 監視中である場合にtrueを返却
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * 監視を開始します。<br>
+	 * 監視はデーモンスレッドで行われ、{@link #close()}により終了します。<br>
+	 * ファイルシステムの変更通知を利用できない場合や、監視対象の登録に失敗した場合はポーリングでの監視に切り替えます。<br>
+	 * @return 自身のクラスインスタンス
+	 */
+	public synchronized FileWatcher start() {
+		if (running) {
+			throw new IllegalStateException("already started");
+		}
+		if (!base.isDirectory()) {
+			throw new IllegalArgumentException("base is not directory (" + base + ")");
+		}
+		if (!polling) {
+			try {
+				service = base.toPath().getFileSystem().newWatchService();
+				registerAll(base.toPath(), false);
+			} catch (UnsupportedOperationException | IOException e) {
+				closeService();
+				polling = true;
+			}
+		}
+		if (polling) {
+			snapshot = scan();
+		}
+		running = true;
+		thread = new Thread(new Runnable() {
+
+			public void run() {
+				watch();
+			}
+		}, "FileWatcher-" + base.getName());
+		thread.setDaemon(true);
+		thread.start();
+		return this;
+	}
+
+	/**
+	 * 監視を終了します。<br>
+	 * 抑止時間内の通知待ち変更は破棄されます。<br>
+	 * @throws IOException 監視サービスの終了時に入出力例外が発生した場合にスローされます
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		Thread current;
+		synchronized (this) {
+			if (!running) {
+				return;
+			}
+			running = false;
+			current = thread;
+			thread = null;
+		}
+		closeService();
+		current.interrupt();
+		if (current != Thread.currentThread()) {
+			try {
+				current.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * 変更通知キューから変更を取得します。<br>
+	 * 変更が通知されるまで待機します。<br>
+	 * @return 変更
+	 * @throws InterruptedException 待機中に割り込みが発生した場合にスローされます
+	 */
+	public Event take() throws InterruptedException {
+		return queue.take();
+	}
+
+	/**
+	 * 変更通知キューから変更を取得します。<br>
+	 * @param timeout 待機時間
+	 * @param unit 待機時間単位
+	 * @return 変更(待機時間内に変更が通知されなかった場合はnull)
+	 * @throws InterruptedException 待機中に割り込みが発生した場合にスローされます
+	 */
+	public Event poll(long timeout, TimeUnit unit) throws InterruptedException {
+		return queue.poll(timeout, unit);
+	}
+
+	/**
+	 * 監視中でないことをチェックします。<br>
+	 */
+	private void checkNotRunning() {
+		if (running) {
+			throw new IllegalStateException("already started");
+		}
+	}
+
+	/**
+	 * ファイルシステム監視サービスを終了します。<br>
+	 */
+	private void closeService() {
+		WatchService current = service;
+		if (current != null) {
+			try {
+				current.close();
+			} catch (IOException e) {
+				// 終了時の例外は無視
+			}
+		}
+	}
+
+	/**
+	 * 監視処理を行います。<br>
+	 * 監視スレッドから呼び出され、監視終了まで変更の検出及び、通知を繰り返します。<br>
+	 */
+	private void watch() {
+		long nextScan = System.currentTimeMillis() + pollingInterval;
+		try {
+			while (running) {
+				long now = System.currentTimeMillis();
+				long wait = polling ? nextScan - now : Long.MAX_VALUE;
+				long deadline = nextDeadline();
+				if (deadline >= 0) {
+					wait = Math.min(wait, deadline - now);
+				}
+				wait = Math.max(wait, 1);
+				if (polling) {
+					Thread.sleep(wait);
+					if (System.currentTimeMillis() >= nextScan) {
+						Map<Path, Snapshot> current = scan();
+						compare(snapshot, current);
+						snapshot = current;
+						nextScan = System.currentTimeMillis() + pollingInterval;
+					}
+				} else {
+					WatchKey key = wait == Long.MAX_VALUE ? service.take() : service.poll(wait, TimeUnit.MILLISECONDS);
+					while (key != null) {
+						process(key);
+						key = service.poll();
+					}
+				}
+				flush(System.currentTimeMillis());
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// 監視終了
+		} finally {
+			running = false;
+			closeService();
+		}
+	}
+
+	/**
+	 * 監視キーに蓄積された変更を処理します。<br>
+	 * @param key 監視キー
+	 * @throws InterruptedException キューへの格納中に割り込みが発生した場合にスローされます
+	 */
+	private void process(WatchKey key) throws InterruptedException {
+		Path dir = keys.get(key);
+		if (dir == null) {
+			key.cancel();
+			return;
+		}
+		for (WatchEvent<?> event : key.pollEvents()) {
+			WatchEvent.Kind<?> kind = event.kind();
+			if (kind == StandardWatchEventKinds.OVERFLOW) {
+				notify(new Event(Kind.OVERFLOW, dir.toFile()));
+				continue;
+			}
+			Path path = dir.resolve((Path) event.context());
+			if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+				if (hierarchical && Files.isDirectory(path)) {
+					try {
+						registerAll(path, true);
+					} catch (IOException e) {
+						// 作成直後に削除された場合等は無視
+					}
+				}
+				change(path, Kind.CREATE);
+			} else if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
+				if (!Files.isDirectory(path)) {
+					change(path, Kind.MODIFY);
+				}
+			} else if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+				change(path, Kind.DELETE);
+			}
+		}
+		if (!key.reset()) {
+			keys.remove(key);
+		}
+	}
+
+	/**
+	 * ディレクトリ及び、配下のサブディレクトリを監視対象として登録します。<br>
+	 * @param dir 登録対象ディレクトリ
+	 * @param created 監視中に作成されたディレクトリの場合にtrueを指定(登録前に作成された配下のエントリを作成として通知)
+	 * @throws IOException 登録時に入出力例外が発生した場合にスローされます
+	 */
+	private void registerAll(final Path dir, final boolean created) throws IOException {
+		if (!hierarchical) {
+			register(dir);
+			return;
+		}
+		new FileWalker(dir.toFile()).setIncludeDirectories(true).setIncludeFiles(created).walk(new FileWalker.Visitor() {
+
+			public void visit(File file, boolean directory) throws IOException {
+				Path path = file.toPath();
+				if (directory) {
+					register(path);
+				}
+				if (created && !dir.equals(path)) {
+					change(path, Kind.CREATE);
+				}
+			}
+		});
+	}
+
+	/**
+	 * ディレクトリを監視対象として登録します。<br>
+	 * @param dir 登録対象ディレクトリ
+	 * @throws IOException 登録時に入出力例外が発生した場合にスローされます
+	 */
+	private void register(Path dir) throws IOException {
+		WatchKey key = dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+		keys.put(key, dir);
+	}
+
+	/**
+	 * ポーリング監視時に監視対象ディレクトリ配下を走査します。<br>
+	 * @return 走査結果
+	 */
+	private Map<Path, Snapshot> scan() {
+		Map<Path, Snapshot> result = new HashMap<>();
+		for (File file : new FileWalker(base).setHierarchical(hierarchical).setIncludeDirectories(true)) {
+			Path path = file.toPath();
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				result.put(path, new Snapshot(attributes));
+			} catch (IOException e) {
+				// 走査中に削除されたファイルは無視
+			}
+		}
+		result.remove(base.toPath());
+		return result;
+	}
+
+	/**
+	 * ポーリング監視時の前回走査結果と今回走査結果を比較し、差分を変更として登録します。<br>
+	 * @param previous 前回走査結果
+	 * @param current 今回走査結果
+	 */
+	private void compare(Map<Path, Snapshot> previous, Map<Path, Snapshot> current) {
+		for (Map.Entry<Path, Snapshot> entry : current.entrySet()) {
+			Snapshot before = previous.get(entry.getKey());
+			if (before == null) {
+				change(entry.getKey(), Kind.CREATE);
+			} else if (!entry.getValue().directory && !before.equals(entry.getValue())) {
+				change(entry.getKey(), Kind.MODIFY);
+			}
+		}
+		for (Path path : previous.keySet()) {
+			if (!current.containsKey(path)) {
+				change(path, Kind.DELETE);
+			}
+		}
+	}
+
+	/**
+	 * 変更を通知待ち変更として登録します。<br>
+	 * 同一ファイルに対する通知待ち変更が存在する場合は集約し、抑止時間を延長します。<br>
+	 * @param path 変更されたファイル
+	 * @param kind 変更種別
+	 */
+	private void change(Path path, Kind kind) {
+		if (filter != null && !filter.accept(path.toFile())) {
+			return;
+		}
+		long deadline = System.currentTimeMillis() + debounce;
+		Pending pending = pendings.remove(path);
+		if (pending == null) {
+			pendings.put(path, new Pending(kind, deadline));
+			return;
+		}
+		Kind merged = merge(pending.kind, kind);
+		if (merged != null) {
+			pendings.put(path, new Pending(merged, deadline));
+		}
+	}
+
+	/**
+	 * 同一ファイルに対する変更種別を集約します。<br>
+	 * @param before 先行する変更種別
+	 * @param after 後続の変更種別
+	 * @return 集約した変更種別(変更が相殺された場合はnull)
+	 */
+	private static Kind merge(Kind before, Kind after) {
+		if (before == Kind.CREATE) {
+			return after == Kind.DELETE ? null : Kind.CREATE;
+		}
+		if (before == Kind.DELETE) {
+			return after == Kind.DELETE ? Kind.DELETE : Kind.MODIFY;
+		}
+		return after;
+	}
+
+	/**
+	 * 通知待ち変更のうち最も早い通知時刻を取得します。<br>
+	 * 通知待ち変更は通知時刻順に保持されている為、先頭の変更の通知時刻となります。<br>
+	 * @return 最も早い通知時刻(通知待ち変更が存在しない場合は-1)
+	 */
+	private long nextDeadline() {
+		if (pendings.isEmpty()) {
+			return -1;
+		}
+		return pendings.values().iterator().next().deadline;
+	}
+
+	/**
+	 * 抑止時間が経過した通知待ち変更を通知します。<br>
+	 * 通知待ち変更は通知時刻順に保持されている為、通知時刻に達していない変更が現れた時点で終了します。<br>
+	 * @param now 現在時刻
+	 * @throws InterruptedException キューへの格納中に割り込みが発生した場合にスローされます
+	 */
+	private void flush(long now) throws InterruptedException {
+		for (Iterator<Map.Entry<Path, Pending>> iterator = pendings.entrySet().iterator(); iterator.hasNext();) {
+			Map.Entry<Path, Pending> entry = iterator.next();
+			if (entry.getValue().deadline > now) {
+				break;
+			}
+			iterator.remove();
+			notify(new Event(entry.getValue().kind, entry.getKey().toFile()));
+		}
+	}
+
+	/**
+	 * 変更を通知します。<br>
+	 * リスナーが実行時例外をスローした場合は、監視スレッドのキャッチされない例外のハンドラに通知した上で監視を継続します。<br>
+	 * @param event 変更
+	 * @throws InterruptedException キューへの格納中に割り込みが発生した場合にスローされます
+	 */
+	private void notify(Event event) throws InterruptedException {
+		if (listener != null) {
+			try {
+				listener.changed(event);
+			} catch (RuntimeException e) {
+				Thread current = Thread.currentThread();
+				current.getUncaughtExceptionHandler().uncaughtException(current, e);
+			}
+		} else {
+			queue.put(event);
+		}
+	}
+
+	/**
+	 * 変更種別を列挙型で提供します。<br>
+	 */
+	public static enum Kind {
+
+		/** 作成 */
+		CREATE,
+
+		/** 更新 */
+		MODIFY,
+
+		/** 削除 */
+		DELETE,
+
+		/** 通知溢れ(対象ディレクトリの再走査が必要) */
+		OVERFLOW,
+
+		;
+	}
+
+	/**
+	 * ファイルの変更情報を保持するクラスです。<br>
+	 */
+	public static final class Event {
+
+		/** 変更種別 */
+		private Kind kind;
+
+		/** 変更されたファイル */
+		private File file;
+
+		/** 通知時刻 */
+		private long time;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param kind 変更種別
+		 * @param file 変更されたファイル
+		 */
+		private Event(Kind kind, File file) {
+			super();
+			this.kind = kind;
+			this.file = file;
+			this.time = System.currentTimeMillis();
+		}
+
+		/**
+		 * クラス情報文字列を提供します。<br>
+		 * @return クラス情報文字列
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return kind + " " + file;
+		}
+
+		/**
+		 * 変更種別を取得します。<br>
+		 * @return 変更種別
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * 変更されたファイルを取得します。<br>
+		 * 通知溢れの場合は対象ディレクトリを返却します。<br>
+		 * @return 変更されたファイル
+		 */
+		public File getFile() {
+			return file;
+		}
+
+		/**
+		 * 通知時刻を取得します。<br>
+		 * @return 通知時刻(ミリ秒)
+		 */
+		public long getTime() {
+			return time;
+		}
+	}
+
+	/**
+	 * 変更通知を受けるためのインタフェースです。<br>
+	 */
+	public static interface Listener {
+
+		/**
+		 * ファイルの変更を通知します。<br>
+		 * 実行時例外をスローした場合でも監視は継続され、例外は監視スレッドのキャッチされない例外のハンドラに通知されます。<br>
+		 * @param event 変更
+		 */
+		public void changed(Event event);
+	}
+
+	/**
+	 * 抑止時間内の通知待ち変更を保持するクラスです。<br>
+	 */
+	private static final class Pending {
+
+		/** 変更種別 */
+		private Kind kind;
+
+		/** 通知時刻 */
+		private long deadline;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param kind 変更種別
+		 * @param deadline 通知時刻
+		 */
+		private Pending(Kind kind, long deadline) {
+			super();
+			this.kind = kind;
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * ポーリング監視時のファイル状態を保持するクラスです。<br>
+	 */
+	private static final class Snapshot {
+
+		/** ディレクトリフラグ */
+		private boolean directory;
+
+		/** 最終更新時刻 */
+		private long modified;
+
+		/** ファイルサイズ */
+		private long size;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param attributes ファイル属性
+		 */
+		private Snapshot(BasicFileAttributes attributes) {
+			super();
+			this.directory = attributes.isDirectory();
+			this.modified = attributes.lastModifiedTime().toMillis();
+			this.size = attributes.size();
+		}
+
+		/**
+		 * オブジェクト同士が同一の状態であるか判定します。<br>
+		 * @param object 比較対象オブジェクト
+		 * @return 同一の状態である場合にtrueを返却
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Snapshot)) {
+				return false;
+			}
+			Snapshot other = (Snapshot) object;
+			return directory == other.directory && modified == other.modified && size == other.size;
+		}
+
+		/**
+		 * ハッシュコードを取得します。<br>
+		 * @return ハッシュコード
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return (int) (modified ^ (modified >>> 32) ^ size);
+		}
+	}
+}
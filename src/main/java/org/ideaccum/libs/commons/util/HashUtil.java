@@ -1,12 +1,24 @@
 package org.ideaccum.libs.commons.util;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.security.DigestInputStream;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.DatatypeConverter;
 
@@ -15,15 +27,49 @@ import javax.xml.bind.DatatypeConverter;
  * <p>
  * {@link java.security.MessageDigest}インスタンスを生成してハッシュ化するコードを簡略化する際などに利用することを想定して設置されました。<br>
  * </p>
+ * <p>
+ * {@link java.security.MessageDigest}インスタンスはスレッド毎、アルゴリズム毎にキャッシュして再利用します。<br>
+ * ファイルのハッシュ計算は{@link java.nio.channels.FileChannel}から大きなバッファで一括して読み込みながら行います。
+ * 複数のファイルを並列に計算する場合は{@link #calcDigestHash(File[], String, int)}を、単一の巨大なファイルをチャンク単位で並列に計算する場合は{@link #calcChunkDigestHash(File, String, long, int)}を利用して下さい。<br>
+ * </p>
+ * <p>
+ * 改竄耐性を必要としない変更検知や重複排除の用途向けに、非暗号学的ハッシュアルゴリズム{@link #XXHASH64}、{@link #MURMUR3_128}、{@link #CRC32C}を提供します。
+ * これらのアルゴリズム名は{@link java.security.MessageDigest}のアルゴリズム名と同様に、アルゴリズム名を指定する全てのメソッドで利用することが出来ます。<br>
+ * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2005/07/02  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         新規作成(SourceForge.jpからGitHubへの移行に併せて全面改訂(旧StringUtilから分割))
+ * 2026/10/18  Kitagawa         ファイルハッシュ計算時の入力バッファをByteBufferPoolから借りるように変更
+ * 2026/10/18  Kitagawa         FileChannelによる一括読み込み、スレッド毎のMessageDigestキャッシュ、複数ファイル及び、チャンク単位の並列ハッシュ計算を追加
+ * 2026/10/18  Kitagawa         非暗号学的ハッシュアルゴリズム(xxHash64、MurmurHash3 128ビット、CRC32C)を追加
+ * 2026/10/18  Kitagawa         バイトデータの範囲指定でのハッシュコード生成を追加
  *-->
  */
 public final class HashUtil {
 
+	/** xxHash64アルゴリズム名 */
+	public static final String XXHASH64 = "XXH64";
+
+	/** MurmurHash3(x64 128ビット)アルゴリズム名 */
+	public static final String MURMUR3_128 = "MURMUR3-128";
+
+	/** CRC32Cアルゴリズム名 */
+	public static final String CRC32C = "CRC32C";
+
+	/** ファイル読み込みバッファサイズ */
+	private static final int HASH_BUFFER_SIZE = 1024 * 1024;
+
+	/** スレッド毎のアルゴリズム別MessageDigestキャッシュ */
+	private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = new ThreadLocal<Map<String, MessageDigest>>() {
+
+		@Override
+		protected Map<String, MessageDigest> initialValue() {
+			return new HashMap<>();
+		}
+	};
+
 	/**
 	 * コンストラクタ<br>
 	 */
@@ -31,6 +77,36 @@ public final class HashUtil {
 		super();
 	}
 
+	/**
+	 * 呼び出しスレッドでキャッシュされたMessageDigestインスタンスを初期化して取得します。<br>
+	 * キャッシュされていない場合は生成してキャッシュします。<br>
+	 * @param algorithm アルゴリズム名
+	 * @return 初期化されたMessageDigestインスタンス
+	 */
+	private static MessageDigest getDigest(String algorithm) {
+		Map<String, MessageDigest> cache = DIGESTS.get();
+		MessageDigest digest = cache.get(algorithm);
+		if (digest == null) {
+			if (XXHASH64.equalsIgnoreCase(algorithm)) {
+				digest = new XXHash64Digest();
+			} else if (MURMUR3_128.equalsIgnoreCase(algorithm)) {
+				digest = new Murmur3Hash128Digest();
+			} else if (CRC32C.equalsIgnoreCase(algorithm)) {
+				digest = new CRC32CDigest();
+			} else {
+				try {
+					digest = MessageDigest.getInstance(algorithm);
+				} catch (NoSuchAlgorithmException e) {
+					throw new IllegalArgumentException("Unsupported Algorithm (" + algorithm + ")", e);
+				}
+			}
+			cache.put(algorithm, digest);
+		} else {
+			digest.reset();
+		}
+		return digest;
+	}
+
 	/**
 	 * バイトデータから指定アルゴリズムで生成されたハッシュコードを16進文字列で提供します。<br>
 	 * @param bytes 対象バイトデータ
@@ -38,16 +114,32 @@ public final class HashUtil {
 	 * @return 16進ハッシュコード文字列
 	 */
 	public static String toDigestHash(byte[] bytes, String algorithm) {
-		MessageDigest digest = null;
-		try {
-			digest = MessageDigest.getInstance(algorithm);
-		} catch (NoSuchAlgorithmException e) {
-			throw new IllegalArgumentException("Unsupported Algorithm (" + algorithm + ")", e);
-		}
+		// ↓パフォーマンスチューニング(呼び出し毎のMessageDigest生成を排除しスレッド毎のキャッシュを利用するように変更)
+		//MessageDigest digest = null;
+		//try {
+		//	digest = MessageDigest.getInstance(algorithm);
+		//} catch (NoSuchAlgorithmException e) {
+		//	throw new IllegalArgumentException("Unsupported Algorithm (" + algorithm + ")", e);
+		//}
+		MessageDigest digest = getDigest(algorithm);
 		digest.update(bytes == null ? new byte[0] : bytes);
 		return StringUtil.toHex(digest.digest());
 	}
 
+	/**
+	 * バイトデータの指定範囲から指定アルゴリズムで生成されたハッシュコードを16進文字列で提供します。<br>
+	 * @param bytes 対象バイトデータ
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param algorithm アルゴリズム名
+	 * @return 16進ハッシュコード文字列
+	 */
+	public static String toDigestHash(byte[] bytes, int offset, int length, String algorithm) {
+		MessageDigest digest = getDigest(algorithm);
+		digest.update(bytes, offset, length);
+		return StringUtil.toHex(digest.digest());
+	}
+
 	/**
 	 * バイトデータからMD2で生成されたハッシュコードを16進文字列で提供します。<br>
 	 * @param bytes 対象バイトデータ
@@ -102,6 +194,78 @@ public final class HashUtil {
 		return toDigestHash(bytes, "SHA-512");
 	}
 
+	/**
+	 * バッファの現在位置から上限までのバイトデータから指定アルゴリズムで生成されたハッシュコードを16進文字列で提供します。<br>
+	 * 指定されたバッファの位置は変更しません。<br>
+	 * @param buffer 対象バッファ
+	 * @param algorithm アルゴリズム名
+	 * @return 16進ハッシュコード文字列
+	 */
+	public static String toDigestHash(ByteBuffer buffer, String algorithm) {
+		MessageDigest digest = getDigest(algorithm);
+		if (buffer != null) {
+			digest.update(buffer.duplicate());
+		}
+		return StringUtil.toHex(digest.digest());
+	}
+
+	/**
+	 * バイトデータからxxHash64で生成されたハッシュコードを16進文字列で提供します。<br>
+	 * @param bytes 対象バイトデータ
+	 * @return 16進ハッシュコード文字列
+	 */
+	public static String toXXHash64(byte[] bytes) {
+		return toDigestHash(bytes, XXHASH64);
+	}
+
+	/**
+	 * バッファの現在位置から上限までのバイトデータからxxHash64で生成されたハッシュコードを16進文字列で提供します。<br>
+	 * 指定されたバッファの位置は変更しません。<br>
+	 * @param buffer 対象バッファ
+	 * @return 16進ハッシュコード文字列
+	 */
+	public static String toXXHash64(ByteBuffer buffer) {
+		return toDigestHash(buffer, XXHASH64);
+	}
+
+	/**
+	 * バイトデータからMurmurHash3(x64 128ビット)で生成されたハッシュコードを16進文字列で提供します。<br>
+	 * @param bytes 対象バイトデータ
+	 * @return 16進ハッシュコード文字列
+	 */
+	public static String toMurmur3Hash128(byte[] bytes) {
+		return toDigestHash(bytes, MURMUR3_128);
+	}
+
+	/**
+	 * バッファの現在位置から上限までのバイトデータからMurmurHash3(x64 128ビット)で生成されたハッシュコードを16進文字列で提供します。<br>
+	 * 指定されたバッファの位置は変更しません。<br>
+	 * @param buffer 対象バッファ
+	 * @return 16進ハッシュコード文字列
+	 */
+	public static String toMurmur3Hash128(ByteBuffer buffer) {
+		return toDigestHash(buffer, MURMUR3_128);
+	}
+
+	/**
+	 * バイトデータからCRC32Cで生成されたチェックサムを16進文字列で提供します。<br>
+	 * @param bytes 対象バイトデータ
+	 * @return 16進チェックサム文字列
+	 */
+	public static String toCRC32CHash(byte[] bytes) {
+		return toDigestHash(bytes, CRC32C);
+	}
+
+	/**
+	 * バッファの現在位置から上限までのバイトデータからCRC32Cで生成されたチェックサムを16進文字列で提供します。<br>
+	 * 指定されたバッファの位置は変更しません。<br>
+	 * @param buffer 対象バッファ
+	 * @return 16進チェックサム文字列
+	 */
+	public static String toCRC32CHash(ByteBuffer buffer) {
+		return toDigestHash(buffer, CRC32C);
+	}
+
 	/**
 	 * バイトデータをBASE64エンコード文字列に変換して提供します。<br>
 	 * @param bytes 対象バイトデータ
@@ -122,23 +286,204 @@ public final class HashUtil {
 	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
 	 */
 	public static String calcDigestHash(File file, String algorithm) throws IOException {
-		DigestInputStream stream = null;
+		// ↓パフォーマンスチューニング(FileChannelからの一括読み込み及び、スレッド毎にキャッシュしたMessageDigestでの計算に変更)
+		//DigestInputStream stream = null;
+		//try {
+		//	MessageDigest md = MessageDigest.getInstance(algorithm);
+		//	stream = new DigestInputStream(new BufferedInputStream(new FileInputStream(file)), md);
+		//
+		//	while (stream.read() != -1)
+		//		;
+		//
+		//	return StringUtil.toHex(md.digest());
+		//} catch (IOException e) {
+		//	throw e;
+		//} catch (NoSuchAlgorithmException e) {
+		//	throw new IllegalArgumentException("Unsupported Algorithm (" + algorithm + ")", e);
+		//} finally {
+		//	if (stream != null) {
+		//		stream.close();
+		//	}
+		//}
+		MessageDigest digest = getDigest(algorithm);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return StringUtil.toHex(digest(channel, 0, Long.MAX_VALUE, digest));
+		}
+	}
+
+	/**
+	 * 入力ストリームから終端までを読み込んでハッシュコードを計算し、16進文字列で提供します。<br>
+	 * 入力ストリームのクローズは行いません。<br>
+	 * @param stream 対象入力ストリーム
+	 * @param algorithm アルゴリズム名
+	 * @return 16進ハッシュコード文字列
+	 * @throws IOException 入力ストリームからの読み込みでエラーが発生した場合にスローされます
+	 */
+	public static String calcDigestHash(InputStream stream, String algorithm) throws IOException {
+		MessageDigest digest = getDigest(algorithm);
+		ByteBufferPool pool = ByteBufferPool.getShared();
+		byte[] buffer = pool.borrowArray(StreamUtil.TRANSFER_BUFFER_SIZE);
+		try {
+			int read;
+			while ((read = stream.read(buffer, 0, buffer.length)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		} finally {
+			pool.releaseArray(buffer);
+		}
+		return StringUtil.toHex(digest.digest());
+	}
+
+	/**
+	 * 複数のファイルからハッシュコードを計算して16進文字列で提供します。<br>
+	 * 並列数が2以上の場合は、指定された並列数のスレッドでファイル毎の計算を並列に実行します。<br>
+	 * いずれかのファイルで入出力エラーが発生した場合は、最初のファイルのエラーをスローします。<br>
+	 * @param files 対象ファイル
+	 * @param algorithm アルゴリズム名
+	 * @param parallelism 並列数
+	 * @return ファイルをキーとし、16進ハッシュコード文字列を値とするマップ(対象ファイルの指定順)
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static Map<File, String> calcDigestHash(File[] files, final String algorithm, int parallelism) throws IOException {
+		Map<File, String> result = new LinkedHashMap<>();
+		if (files == null) {
+			return result;
+		}
+		if (parallelism <= 1 || files.length <= 1) {
+			for (int i = 0; i <= files.length - 1; i++) {
+				result.put(files[i], calcDigestHash(files[i], algorithm));
+			}
+			return result;
+		}
+		getDigest(algorithm);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, files.length));
 		try {
-			MessageDigest md = MessageDigest.getInstance(algorithm);
-			stream = new DigestInputStream(new BufferedInputStream(new FileInputStream(file)), md);
+			List<Future<String>> futures = new ArrayList<>(files.length);
+			for (int i = 0; i <= files.length - 1; i++) {
+				final File file = files[i];
+				futures.add(executor.submit(new Callable<String>() {
+
+					public String call() throws IOException {
+						return calcDigestHash(file, algorithm);
+					}
+				}));
+			}
+			for (int i = 0; i <= files.length - 1; i++) {
+				result.put(files[i], await(futures.get(i)));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return result;
+	}
+
+	/**
+	 * ファイルを指定サイズのチャンクに分割し、チャンク毎のハッシュコードを計算して16進文字列で提供します。<br>
+	 * 並列数が2以上の場合は、指定された並列数のスレッドでチャンク毎の計算を位置指定読み込みにより並列に実行します。<br>
+	 * 空のファイルの場合は、空のバイトデータに対するハッシュコードを1件提供します。<br>
+	 * @param file 対象ファイル
+	 * @param algorithm アルゴリズム名
+	 * @param chunkSize チャンクサイズ(バイト)
+	 * @param parallelism 並列数
+	 * @return チャンク毎の16進ハッシュコード文字列(ファイル先頭からのチャンク順)
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static String[] calcChunkDigestHash(File file, final String algorithm, final long chunkSize, int parallelism) throws IOException {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize <= 0 (" + chunkSize + ")");
+		}
+		getDigest(algorithm);
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			long chunks = Math.max(1, (size + chunkSize - 1) / chunkSize);
+			if (chunks > Integer.MAX_VALUE - 8) {
+				throw new IllegalArgumentException("too many chunks (" + chunks + ")");
+			}
+			String[] result = new String[(int) chunks];
+			if (parallelism <= 1 || result.length <= 1) {
+				for (int i = 0; i <= result.length - 1; i++) {
+					long position = i * chunkSize;
+					result[i] = StringUtil.toHex(digest(channel, position, Math.min(size, position + chunkSize), getDigest(algorithm)));
+				}
+				return result;
+			}
+			ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, result.length));
+			try {
+				List<Future<String>> futures = new ArrayList<>(result.length);
+				for (int i = 0; i <= result.length - 1; i++) {
+					final long position = i * chunkSize;
+					futures.add(executor.submit(new Callable<String>() {
 
-			while (stream.read() != -1)
-				;
+						public String call() throws IOException {
+							return StringUtil.toHex(digest(channel, position, Math.min(size, position + chunkSize), getDigest(algorithm)));
+						}
+					}));
+				}
+				for (int i = 0; i <= result.length - 1; i++) {
+					result[i] = await(futures.get(i));
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+			return result;
+		}
+	}
 
-			return StringUtil.toHex(md.digest());
-		} catch (IOException e) {
-			throw e;
-		} catch (NoSuchAlgorithmException e) {
-			throw new IllegalArgumentException("Unsupported Algorithm (" + algorithm + ")", e);
+	/**
+	 * ファイルチャネルの指定範囲を位置指定読み込みにより読み込んでハッシュコードを計算します。<br>
+	 * ファイルチャネルの位置は変更しない為、同一のファイルチャネルに対して複数のスレッドから同時に呼び出すことが出来ます。<br>
+	 * @param channel 対象ファイルチャネル
+	 * @param position 読み込み開始位置
+	 * @param end 読み込み終了位置(この位置を含まない、終端位置を超える場合は終端まで)
+	 * @param digest 初期化されたMessageDigestインスタンス
+	 * @return ハッシュコード
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	private static byte[] digest(FileChannel channel, long position, long end, MessageDigest digest) throws IOException {
+		ByteBufferPool pool = ByteBufferPool.getShared();
+		byte[] array = pool.borrowArray(HASH_BUFFER_SIZE);
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(array);
+			while (position < end) {
+				buffer.clear();
+				if (end - position < buffer.capacity()) {
+					buffer.limit((int) (end - position));
+				}
+				int read = channel.read(buffer, position);
+				if (read < 0) {
+					break;
+				}
+				digest.update(array, 0, read);
+				position += read;
+			}
 		} finally {
-			if (stream != null) {
-				stream.close();
+			pool.releaseArray(array);
+		}
+		return digest.digest();
+	}
+
+	/**
+	 * 並列計算の結果を取得します。<br>
+	 * @param future 並列計算結果
+	 * @return 計算結果
+	 * @throws IOException 計算中に入出力エラーが発生した場合や、待機中に割り込みが発生した場合にスローされます
+	 */
+	private static <T> T await(Future<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
 			}
+			throw new IOException(cause);
 		}
 	}
 
@@ -202,6 +547,69 @@ public final class HashUtil {
 		return calcDigestHash(file, "SHA-512");
 	}
 
+	/**
+	 * ファイルのからxxHash64ハッシュコードを計算して16進文字列で提供します。<br>
+	 * @param file 対象ファイル
+	 * @return 16進ハッシュコード文字列
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static String calcXXHash64(File file) throws IOException {
+		return calcDigestHash(file, XXHASH64);
+	}
+
+	/**
+	 * 入力ストリームから終端までを読み込んでxxHash64ハッシュコードを計算し、16進文字列で提供します。<br>
+	 * 入力ストリームのクローズは行いません。<br>
+	 * @param stream 対象入力ストリーム
+	 * @return 16進ハッシュコード文字列
+	 * @throws IOException 入力ストリームからの読み込みでエラーが発生した場合にスローされます
+	 */
+	public static String calcXXHash64(InputStream stream) throws IOException {
+		return calcDigestHash(stream, XXHASH64);
+	}
+
+	/**
+	 * ファイルのからMurmurHash3(x64 128ビット)ハッシュコードを計算して16進文字列で提供します。<br>
+	 * @param file 対象ファイル
+	 * @return 16進ハッシュコード文字列
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static String calcMurmur3Hash128(File file) throws IOException {
+		return calcDigestHash(file, MURMUR3_128);
+	}
+
+	/**
+	 * 入力ストリームから終端までを読み込んでMurmurHash3(x64 128ビット)ハッシュコードを計算し、16進文字列で提供します。<br>
+	 * 入力ストリームのクローズは行いません。<br>
+	 * @param stream 対象入力ストリーム
+	 * @return 16進ハッシュコード文字列
+	 * @throws IOException 入力ストリームからの読み込みでエラーが発生した場合にスローされます
+	 */
+	public static String calcMurmur3Hash128(InputStream stream) throws IOException {
+		return calcDigestHash(stream, MURMUR3_128);
+	}
+
+	/**
+	 * ファイルのからCRC32Cチェックサムを計算して16進文字列で提供します。<br>
+	 * @param file 対象ファイル
+	 * @return 16進チェックサム文字列
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static String calcCRC32CHash(File file) throws IOException {
+		return calcDigestHash(file, CRC32C);
+	}
+
+	/**
+	 * 入力ストリームから終端までを読み込んでCRC32Cチェックサムを計算し、16進文字列で提供します。<br>
+	 * 入力ストリームのクローズは行いません。<br>
+	 * @param stream 対象入力ストリーム
+	 * @return 16進チェックサム文字列
+	 * @throws IOException 入力ストリームからの読み込みでエラーが発生した場合にスローされます
+	 */
+	public static String calcCRC32CHash(InputStream stream) throws IOException {
+		return calcDigestHash(stream, CRC32C);
+	}
+
 	/**
 	 * ファイルのからハッシュコードを計算してファイル同士のハッシュコードを比較します。<br>
 	 * @param file1 対象ファイル
@@ -279,4 +687,37 @@ public final class HashUtil {
 	public static boolean compareSHA512Hash(File file1, File file2) throws IOException {
 		return calcSHA512Hash(file1).equals(calcSHA512Hash(file2));
 	}
+
+	/**
+	 * ファイルのからxxHash64ハッシュコードを計算してファイル同士のハッシュコードを比較します。<br>
+	 * @param file1 対象ファイル
+	 * @param file2 対象ファイル
+	 * @return ファイル同士のハッシュコードが一致する場合にtrueを返却
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static boolean compareXXHash64(File file1, File file2) throws IOException {
+		return calcXXHash64(file1).equals(calcXXHash64(file2));
+	}
+
+	/**
+	 * ファイルのからMurmurHash3(x64 128ビット)ハッシュコードを計算してファイル同士のハッシュコードを比較します。<br>
+	 * @param file1 対象ファイル
+	 * @param file2 対象ファイル
+	 * @return ファイル同士のハッシュコードが一致する場合にtrueを返却
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static boolean compareMurmur3Hash128(File file1, File file2) throws IOException {
+		return calcMurmur3Hash128(file1).equals(calcMurmur3Hash128(file2));
+	}
+
+	/**
+	 * ファイルのからCRC32Cチェックサムを計算してファイル同士のチェックサムを比較します。<br>
+	 * @param file1 対象ファイル
+	 * @param file2 対象ファイル
+	 * @return ファイル同士のチェックサムが一致する場合にtrueを返却
+	 * @throws IOException ファイルリソースに対する入出力処理でエラーが発生した場合にスローされます
+	 */
+	public static boolean compareCRC32CHash(File file1, File file2) throws IOException {
+		return calcCRC32CHash(file1).equals(calcCRC32CHash(file2));
+	}
 }
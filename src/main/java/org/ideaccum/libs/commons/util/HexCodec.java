@@ -0,0 +1,252 @@
+package org.ideaccum.libs.commons.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * バイトデータと16進表記文字列の相互変換処理を提供します。<br>
+ * <p>
+ * {@link org.ideaccum.libs.commons.util.StringUtil#toHex(byte...)}や{@link org.ideaccum.libs.commons.io.HexInputStream}、{@link org.ideaccum.libs.commons.io.HexOutputStream}等で共通して利用される変換処理です。<br>
+ * 変換はバイト値毎の16進文字テーブル及び、16進文字毎の値テーブルの参照のみで行われ、変換過程において中間文字列等のオブジェクト生成は行いません。<br>
+ * 変換対象として{@code byte[]}、{@code char[]}、{@link java.lang.CharSequence}、{@link java.nio.ByteBuffer}の範囲指定を受け付けます。<br>
+ * 尚、16進表記をバイト配列又は、{@link java.nio.ByteBuffer}で扱う場合はアスキー文字のバイト値として扱います。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class HexCodec {
+
+	/** 16進文字(小文字) */
+	private static final char[] LOWER_DIGITS = "0123456789abcdef".toCharArray();
+
+	/** 16進文字(大文字) */
+	private static final char[] UPPER_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	/** バイト値毎の16進文字ペアテーブル(小文字、バイト値 * 2の位置から2文字) */
+	private static final char[] LOWER_PAIRS = new char[512];
+
+	/** バイト値毎の16進文字ペアテーブル(大文字、バイト値 * 2の位置から2文字) */
+	private static final char[] UPPER_PAIRS = new char[512];
+
+	/** 16進文字値テーブル(16進文字以外は-1) */
+	private static final byte[] VALUES = new byte[128];
+
+	static {
+		for (int i = 0; i <= 255; i++) {
+			LOWER_PAIRS[i * 2] = LOWER_DIGITS[i >>> 4];
+			LOWER_PAIRS[i * 2 + 1] = LOWER_DIGITS[i & 0xF];
+			UPPER_PAIRS[i * 2] = UPPER_DIGITS[i >>> 4];
+			UPPER_PAIRS[i * 2 + 1] = UPPER_DIGITS[i & 0xF];
+		}
+		for (int i = 0; i <= VALUES.length - 1; i++) {
+			VALUES[i] = -1;
+		}
+		for (int i = 0; i <= 15; i++) {
+			VALUES[LOWER_DIGITS[i]] = (byte) i;
+			VALUES[UPPER_DIGITS[i]] = (byte) i;
+		}
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private HexCodec() {
+		super();
+	}
+
+	/**
+	 * 16進文字の値を取得します。<br>
+	 * @param c 対象文字
+	 * @return 16進文字の値(0～15)、16進文字以外の場合は-1
+	 */
+	public static int digit(int c) {
+		return c >= 0 && c < VALUES.length ? VALUES[c] : -1;
+	}
+
+	/**
+	 * バイト配列の範囲を16進表記の文字配列に変換します。<br>
+	 * @param src 変換元バイト配列
+	 * @param off 変換元開始位置
+	 * @param len 変換バイト数
+	 * @param dst 変換先文字配列(変換バイト数 * 2の文字数が必要)
+	 * @param dstOff 変換先開始位置
+	 * @param upper 大文字で変換する場合にtrueを指定
+	 * @return 変換先に書き込まれた文字数
+	 */
+	public static int encode(byte[] src, int off, int len, char[] dst, int dstOff, boolean upper) {
+		char[] pairs = upper ? UPPER_PAIRS : LOWER_PAIRS;
+		int p = dstOff;
+		for (int i = off; i <= off + len - 1; i++) {
+			int b = (src[i] & 0xFF) << 1;
+			dst[p++] = pairs[b];
+			dst[p++] = pairs[b + 1];
+		}
+		return p - dstOff;
+	}
+
+	/**
+	 * バイト配列の範囲を16進表記のアスキー文字バイト配列に変換します。<br>
+	 * @param src 変換元バイト配列
+	 * @param off 変換元開始位置
+	 * @param len 変換バイト数
+	 * @param dst 変換先バイト配列(変換バイト数 * 2のバイト数が必要)
+	 * @param dstOff 変換先開始位置
+	 * @param upper 大文字で変換する場合にtrueを指定
+	 * @return 変換先に書き込まれたバイト数
+	 */
+	public static int encode(byte[] src, int off, int len, byte[] dst, int dstOff, boolean upper) {
+		char[] pairs = upper ? UPPER_PAIRS : LOWER_PAIRS;
+		int p = dstOff;
+		for (int i = off; i <= off + len - 1; i++) {
+			int b = (src[i] & 0xFF) << 1;
+			dst[p++] = (byte) pairs[b];
+			dst[p++] = (byte) pairs[b + 1];
+		}
+		return p - dstOff;
+	}
+
+	/**
+	 * バッファの残りのバイトを16進表記のアスキー文字バイトとして出力先バッファに変換します。<br>
+	 * 変換は変換元バッファの残りがなくなるか、出力先バッファの残りが2バイト未満となるまで行われ、双方のバッファ位置は変換した分だけ進められます。<br>
+	 * @param src 変換元バッファ
+	 * @param dst 変換先バッファ
+	 * @param upper 大文字で変換する場合にtrueを指定
+	 * @return 変換したバイト数
+	 */
+	public static int encode(ByteBuffer src, ByteBuffer dst, boolean upper) {
+		int length = Math.min(src.remaining(), dst.remaining() / 2);
+		if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+			encode(src.array(), src.arrayOffset() + src.position(), length, dst.array(), dst.arrayOffset() + dst.position(), upper);
+			src.position(src.position() + length);
+			dst.position(dst.position() + length * 2);
+		} else {
+			char[] pairs = upper ? UPPER_PAIRS : LOWER_PAIRS;
+			for (int i = 0; i <= length - 1; i++) {
+				int b = (src.get() & 0xFF) << 1;
+				dst.put((byte) pairs[b]);
+				dst.put((byte) pairs[b + 1]);
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * バイト配列の範囲を16進表記文字列に変換して提供します。<br>
+	 * @param src 変換元バイト配列
+	 * @param off 変換元開始位置
+	 * @param len 変換バイト数
+	 * @param upper 大文字で変換する場合にtrueを指定
+	 * @return 16進表記文字列
+	 */
+	public static String encodeToString(byte[] src, int off, int len, boolean upper) {
+		char[] chars = new char[len * 2];
+		encode(src, off, len, chars, 0, upper);
+		return new String(chars);
+	}
+
+	/**
+	 * 16進表記の文字配列の範囲をバイト配列に変換します。<br>
+	 * @param src 変換元文字配列
+	 * @param off 変換元開始位置
+	 * @param len 変換文字数(偶数であることが必要)
+	 * @param dst 変換先バイト配列(変換文字数 / 2のバイト数が必要)
+	 * @param dstOff 変換先開始位置
+	 * @return 変換先に書き込まれたバイト数
+	 * @throws IllegalArgumentException 変換文字数が奇数の場合や16進文字以外の文字が含まれる場合にスローされます
+	 */
+	public static int decode(char[] src, int off, int len, byte[] dst, int dstOff) {
+		checkLength(len);
+		int p = dstOff;
+		for (int i = off; i <= off + len - 1; i += 2) {
+			dst[p++] = pair(src[i], src[i + 1]);
+		}
+		return p - dstOff;
+	}
+
+	/**
+	 * 16進表記の文字シーケンスの範囲をバイト配列に変換します。<br>
+	 * @param src 変換元文字シーケンス
+	 * @param off 変換元開始位置
+	 * @param len 変換文字数(偶数であることが必要)
+	 * @param dst 変換先バイト配列(変換文字数 / 2のバイト数が必要)
+	 * @param dstOff 変換先開始位置
+	 * @return 変換先に書き込まれたバイト数
+	 * @throws IllegalArgumentException 変換文字数が奇数の場合や16進文字以外の文字が含まれる場合にスローされます
+	 */
+	public static int decode(CharSequence src, int off, int len, byte[] dst, int dstOff) {
+		checkLength(len);
+		int p = dstOff;
+		for (int i = off; i <= off + len - 1; i += 2) {
+			dst[p++] = pair(src.charAt(i), src.charAt(i + 1));
+		}
+		return p - dstOff;
+	}
+
+	/**
+	 * 16進表記のアスキー文字バイト配列の範囲をバイト配列に変換します。<br>
+	 * 変換元と変換先に同一の配列を指定し、変換先開始位置を変換元開始位置以下とすることも可能です。<br>
+	 * @param src 変換元バイト配列
+	 * @param off 変換元開始位置
+	 * @param len 変換バイト数(偶数であることが必要)
+	 * @param dst 変換先バイト配列(変換バイト数 / 2のバイト数が必要)
+	 * @param dstOff 変換先開始位置
+	 * @return 変換先に書き込まれたバイト数
+	 * @throws IllegalArgumentException 変換バイト数が奇数の場合や16進文字以外の文字が含まれる場合にスローされます
+	 */
+	public static int decode(byte[] src, int off, int len, byte[] dst, int dstOff) {
+		checkLength(len);
+		int p = dstOff;
+		for (int i = off; i <= off + len - 1; i += 2) {
+			dst[p++] = pair((char) (src[i] & 0xFF), (char) (src[i + 1] & 0xFF));
+		}
+		return p - dstOff;
+	}
+
+	/**
+	 * バッファの残りの16進表記のアスキー文字バイトをバイト値として出力先バッファに変換します。<br>
+	 * 変換は変換元バッファの残りが2バイト未満となるか、出力先バッファの残りがなくなるまで行われ、双方のバッファ位置は変換した分だけ進められます。<br>
+	 * @param src 変換元バッファ
+	 * @param dst 変換先バッファ
+	 * @return 変換先に書き込まれたバイト数
+	 * @throws IllegalArgumentException 16進文字以外の文字が含まれる場合にスローされます(バッファ位置は不正文字の直前の位置となります)
+	 */
+	public static int decode(ByteBuffer src, ByteBuffer dst) {
+		int length = Math.min(src.remaining() / 2, dst.remaining());
+		for (int i = 0; i <= length - 1; i++) {
+			int position = src.position();
+			byte b = pair((char) (src.get(position) & 0xFF), (char) (src.get(position + 1) & 0xFF));
+			src.position(position + 2);
+			dst.put(b);
+		}
+		return length;
+	}
+
+	/**
+	 * 16進文字2文字からバイト値を取得します。<br>
+	 * @param c1 上位桁文字
+	 * @param c2 下位桁文字
+	 * @return バイト値
+	 * @throws IllegalArgumentException 16進文字以外の文字が含まれる場合にスローされます
+	 */
+	private static byte pair(char c1, char c2) {
+		int h = c1 < VALUES.length ? VALUES[c1] : -1;
+		int l = c2 < VALUES.length ? VALUES[c2] : -1;
+		if ((h | l) < 0) {
+			throw new IllegalArgumentException("illegal hex string (" + c1 + c2 + ")");
+		}
+		return (byte) ((h << 4) | l);
+	}
+
+	/**
+	 * 16進表記の変換文字数が偶数であるか検証します。<br>
+	 * @param len 変換文字数
+	 * @throws IllegalArgumentException 変換文字数が奇数の場合にスローされます
+	 */
+	private static void checkLength(int len) {
+		if ((len & 1) != 0) {
+			throw new IllegalArgumentException("hex length is odd number (" + len + ")");
+		}
+	}
+}
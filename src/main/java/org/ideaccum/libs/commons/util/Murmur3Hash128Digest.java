@@ -0,0 +1,217 @@
+package org.ideaccum.libs.commons.util;
+
+/**
+ * MurmurHash3(x64 128ビット)による非暗号学的ハッシュ値の計算処理を提供します。<br>
+ * <p>
+ * ファイルの変更検知や重複排除等、改竄耐性を必要としない用途で、暗号学的ハッシュアルゴリズムよりも高速にハッシュ値を計算する場合に利用します。<br>
+ * このクラスは{@link java.security.MessageDigest}として実装されており、{@link org.ideaccum.libs.commons.util.HashUtil}ではアルゴリズム名{@link org.ideaccum.libs.commons.util.HashUtil#MURMUR3_128}で利用することが出来ます。<br>
+ * ダイジェストは2つの64ビットハッシュ値をそれぞれリトルエンディアンで連結した16バイトのバイト配列(一般的なMurmurHash3実装における128ビット値のバイト表現)となります。<br>
+ * </p>
+ * <p>
+ * このクラスのインスタンスはスレッドセーフではありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class Murmur3Hash128Digest extends FastDigest {
+
+	/** 乗算定数1 */
+	private static final long C1 = 0x87C37B91114253D5L;
+
+	/** 乗算定数2 */
+	private static final long C2 = 0x4CF5AD432745937FL;
+
+	/** ブロックバイト長 */
+	private static final int BLOCK = 16;
+
+	/** シード値 */
+	private final int seed;
+
+	/** ハッシュ値上位 */
+	private long h1;
+
+	/** ハッシュ値下位 */
+	private long h2;
+
+	/** ブロック未満の未処理バイト */
+	private final byte[] buffer;
+
+	/** 未処理バイト数 */
+	private int buffered;
+
+	/** 入力済バイト数 */
+	private long total;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param seed シード値
+	 */
+	public Murmur3Hash128Digest(int seed) {
+		super(HashUtil.MURMUR3_128);
+		this.seed = seed;
+		this.buffer = new byte[BLOCK];
+		engineReset();
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * シード値は0となります。<br>
+	 */
+	public Murmur3Hash128Digest() {
+		this(0);
+	}
+
+	/**
+	 * 64ビット値を攪拌します。<br>
+	 * @param k 対象値
+	 * @return 攪拌後の値
+	 */
+	private static long fmix(long k) {
+		k ^= k >>> 33;
+		k *= 0xFF51AFD7ED558CCDL;
+		k ^= k >>> 33;
+		k *= 0xC4CEB9FE1A85EC53L;
+		k ^= k >>> 33;
+		return k;
+	}
+
+	/**
+	 * 上位ハッシュ値に反映する値を混合します。<br>
+	 * @param k 入力値
+	 * @return 混合後の値
+	 */
+	private static long mixK1(long k) {
+		k *= C1;
+		k = Long.rotateLeft(k, 31);
+		return k * C2;
+	}
+
+	/**
+	 * 下位ハッシュ値に反映する値を混合します。<br>
+	 * @param k 入力値
+	 * @return 混合後の値
+	 */
+	private static long mixK2(long k) {
+		k *= C2;
+		k = Long.rotateLeft(k, 33);
+		return k * C1;
+	}
+
+	/**
+	 * バイト配列の指定範囲でダイジェストを更新します。<br>
+	 * @param input バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @see java.security.MessageDigestSpi#engineUpdate(byte[], int, int)
+	 */
+	@Override
+	protected void engineUpdate(byte[] input, int offset, int length) {
+		total += length;
+		if (buffered + length < BLOCK) {
+			System.arraycopy(input, offset, buffer, buffered, length);
+			buffered += length;
+			return;
+		}
+		int end = offset + length;
+		if (buffered > 0) {
+			int fill = BLOCK - buffered;
+			System.arraycopy(input, offset, buffer, buffered, fill);
+			block(buffer, 0);
+			offset += fill;
+			buffered = 0;
+		}
+		int limit = end - BLOCK;
+		while (offset <= limit) {
+			block(input, offset);
+			offset += BLOCK;
+		}
+		if (offset < end) {
+			buffered = end - offset;
+			System.arraycopy(input, offset, buffer, 0, buffered);
+		}
+	}
+
+	/**
+	 * 16バイトのブロックをハッシュ値に反映します。<br>
+	 * @param data バイト配列
+	 * @param offset ブロック開始位置
+	 */
+	private void block(byte[] data, int offset) {
+		long k1 = getLongLE(data, offset);
+		long k2 = getLongLE(data, offset + 8);
+		h1 ^= mixK1(k1);
+		h1 = Long.rotateLeft(h1, 27);
+		h1 += h2;
+		h1 = h1 * 5 + 0x52DCE729;
+		h2 ^= mixK2(k2);
+		h2 = Long.rotateLeft(h2, 31);
+		h2 += h1;
+		h2 = h2 * 5 + 0x38495AB5;
+	}
+
+	/**
+	 * ダイジェストを確定して取得します。<br>
+	 * 取得後は初期状態に戻ります。<br>
+	 * @return 2つの64ビットハッシュ値をそれぞれリトルエンディアンで連結した16バイトのバイト配列
+	 * @see java.security.MessageDigestSpi#engineDigest()
+	 */
+	@Override
+	protected byte[] engineDigest() {
+		long r1 = h1;
+		long r2 = h2;
+		long k1 = 0;
+		long k2 = 0;
+		for (int i = buffered - 1; i >= 8; i--) {
+			k2 ^= (buffer[i] & 0xFFL) << (8 * (i - 8));
+		}
+		for (int i = Math.min(buffered, 8) - 1; i >= 0; i--) {
+			k1 ^= (buffer[i] & 0xFFL) << (8 * i);
+		}
+		if (buffered > 8) {
+			r2 ^= mixK2(k2);
+		}
+		if (buffered > 0) {
+			r1 ^= mixK1(k1);
+		}
+		r1 ^= total;
+		r2 ^= total;
+		r1 += r2;
+		r2 += r1;
+		r1 = fmix(r1);
+		r2 = fmix(r2);
+		r1 += r2;
+		r2 += r1;
+		engineReset();
+		byte[] result = new byte[BLOCK];
+		for (int i = 0; i <= 7; i++) {
+			result[i] = (byte) (r1 >>> (8 * i));
+			result[i + 8] = (byte) (r2 >>> (8 * i));
+		}
+		return result;
+	}
+
+	/**
+	 * ダイジェストの長さを取得します。<br>
+	 * @return ダイジェストのバイト長
+	 * @see java.security.MessageDigestSpi#engineGetDigestLength()
+	 */
+	@Override
+	protected int engineGetDigestLength() {
+		return BLOCK;
+	}
+
+	/**
+	 * ダイジェストを初期状態に戻します。<br>
+	 * @see java.security.MessageDigestSpi#engineReset()
+	 */
+	@Override
+	protected void engineReset() {
+		h1 = seed & 0xFFFFFFFFL;
+		h2 = seed & 0xFFFFFFFFL;
+		buffered = 0;
+		total = 0;
+	}
+}
@@ -1,24 +1,42 @@
 package org.ideaccum.libs.commons.util;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.StringWriter;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
 
 /**
  * 入出力ストリーム操作を行う際の支援的な操作メソッドを提供します。<br>
  * <p>
  * システム開発時に利用するストリーム操作で利用頻度の高い操作を提供します。<br>
  * </p>
+ * <p>
+ * ストリーム間の転送({@link #pipe(InputStream, OutputStream)})では、入出力がファイルストリーム又は、ファイルチャネルの場合に{@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}による
+ * カーネル内での転送を行い、それ以外の場合は{@link org.ideaccum.libs.commons.util.ByteBufferPool}から借りた転送バッファを利用して転送します。<br>
+ * </p>
  * 
  *<!--
  * 更新日      更新者           更新内容
  * 2008/11/05  Kitagawa         新規作成
  * 2018/05/02  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
+ * 2026/10/18  Kitagawa         ファイルチャネル間の転送処理、転送バッファの再利用を追加、転送バイト数をlong値に変更
+ * 2026/10/18  Kitagawa         文字列読み込みを一括デコードに変更(改行コードを変換せずに元の内容のまま提供)
+ * 2026/10/18  Kitagawa         入出力バッファをByteBufferPoolから借りるように変更
+ * 2026/10/18  Kitagawa         位置を移動できないファイルストリームからの転送時に入出力例外が発生する不具合を修正
  *-->
  */
 public final class StreamUtil {
@@ -26,6 +44,12 @@ public final class StreamUtil {
 	/** ディフォルトストリームバッファサイズ */
 	public static final int DEFAULT_BUFFER_SIZE = 2048;
 
+	/** ディフォルト転送バッファサイズ */
+	public static final int TRANSFER_BUFFER_SIZE = 1024 * 64;
+
+	/** 文字列読み込み時の初期バッファ容量上限 */
+	private static final int STRING_PRESIZE_LIMIT = 1024 * 1024 * 64;
+
 	/**
 	 * コンストラクタ<br>
 	 */
@@ -36,27 +60,61 @@ public final class StreamUtil {
 	/**
 	 * 入力ストリームが提供するデータを別の出力ストリームに転送します。<br>
 	 * 出力ストリームにnullが指定された場合、入力ストリームが提供するデータはすべて切り捨てられます。<br>
+	 * 入力ストリームが{@link java.io.FileInputStream}の場合は、出力ストリームが{@link java.io.FileOutputStream}であればファイルチャネル間で直接転送し、
+	 * 出力ストリームがnullであれば読み込みを行わずにファイル終端まで読み飛ばします。<br>
+	 * 但し、名前付きパイプや標準入力等の位置を移動できないファイルストリームの場合は、その他の入力ストリームと同様に転送バッファを利用して転送します。<br>
+	 * 転送バッファは{@link org.ideaccum.libs.commons.util.ByteBufferPool#getShared()}から借りたバッファを利用します。<br>
 	 * @param is 入力ストリーム
 	 * @param os 出力ストリーム
 	 * @param bufferSize ストリーム処理時のバッファサイズ
 	 * @return 転送されたバイトサイズ
 	 * @throws IOException ストリーム操作時に入出力例外が発生した場合にスローされます
 	 */
-	public static int pipe(InputStream is, OutputStream os, int bufferSize) throws IOException {
+	public static long pipe(InputStream is, OutputStream os, int bufferSize) throws IOException {
 		if (is == null) {
 			return 0;
 		}
-		int total = 0;
-		while (true) {
-			byte[] data = new byte[bufferSize];
-			int readed = is.read(data);
-			if (readed == -1) {
-				break;
+		long total = 0;
+		// ↓パフォーマンスチューニング(ファイルストリーム間はファイルチャネルによる転送とし、それ以外は転送バッファを再利用するように変更)
+		//while (true) {
+		//	byte[] data = new byte[bufferSize];
+		//	int readed = is.read(data);
+		//	if (readed == -1) {
+		//		break;
+		//	}
+		//	total += readed;
+		//	if (os != null) {
+		//		os.write(data, 0, readed);
+		//	}
+		//}
+		if (is.getClass() == FileInputStream.class && isSeekable(((FileInputStream) is).getChannel())) {
+			FileChannel src = ((FileInputStream) is).getChannel();
+			if (os == null) {
+				long position = src.position();
+				long size = src.size();
+				if (position < size) {
+					src.position(size);
+					total += size - position;
+				}
+			} else if (os.getClass() == FileOutputStream.class) {
+				total += transfer(src, ((FileOutputStream) os).getChannel());
 			}
-			total += readed;
-			if (os != null) {
-				os.write(data, 0, readed);
+		}
+		ByteBufferPool pool = ByteBufferPool.getShared();
+		byte[] data = pool.borrowArray(bufferSize);
+		try {
+			while (true) {
+				int readed = is.read(data, 0, bufferSize);
+				if (readed == -1) {
+					break;
+				}
+				total += readed;
+				if (os != null) {
+					os.write(data, 0, readed);
+				}
 			}
+		} finally {
+			pool.releaseArray(data);
 		}
 		return total;
 	}
@@ -68,8 +126,104 @@ public final class StreamUtil {
 	 * @return 転送されたバイトサイズ
 	 * @throws IOException ストリーム操作時に入出力例外が発生した場合にスローされます
 	 */
-	public static int pipe(InputStream is, OutputStream os) throws IOException {
-		return pipe(is, os, DEFAULT_BUFFER_SIZE);
+	public static long pipe(InputStream is, OutputStream os) throws IOException {
+		// ↓パフォーマンスチューニング(転送時のバッファサイズを拡張)
+		//return pipe(is, os, DEFAULT_BUFFER_SIZE);
+		return pipe(is, os, TRANSFER_BUFFER_SIZE);
+	}
+
+	/**
+	 * 入力チャネルが提供するデータを別の出力チャネルに転送します。<br>
+	 * 出力チャネルにnullが指定された場合、入力チャネルが提供するデータはすべて切り捨てられます。<br>
+	 * 入力チャネル又は、出力チャネルが{@link java.nio.channels.FileChannel}の場合は、{@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}又は、
+	 * {@link java.nio.channels.FileChannel#transferFrom(ReadableByteChannel, long, long)}によって転送します。<br>
+	 * 入力チャネルがファイルチャネルの場合は現在位置からファイル終端までを転送し、転送後の入力チャネル、出力チャネルの現在位置は転送したバイト数分進められます。<br>
+	 * 尚、位置を移動できない入力ファイルチャネルの場合は、転送バッファを利用して転送します。<br>
+	 * @param src 入力チャネル
+	 * @param dst 出力チャネル
+	 * @return 転送されたバイトサイズ
+	 * @throws IOException チャネル操作時に入出力例外が発生した場合にスローされます
+	 */
+	public static long pipe(ReadableByteChannel src, WritableByteChannel dst) throws IOException {
+		if (src == null) {
+			return 0;
+		}
+		long total = 0;
+		if (src instanceof FileChannel && dst != null && isSeekable((FileChannel) src)) {
+			total += transfer((FileChannel) src, dst);
+		} else if (dst instanceof FileChannel) {
+			FileChannel channel = (FileChannel) dst;
+			while (true) {
+				long transfered = channel.transferFrom(src, channel.position(), TRANSFER_BUFFER_SIZE);
+				if (transfered <= 0) {
+					break;
+				}
+				channel.position(channel.position() + transfered);
+				total += transfered;
+			}
+			// 入力チャネルが非ブロックモードの場合や読み込み可能バイトが一時的に存在しない場合を考慮して以降は通常の転送で終端まで転送
+		}
+		ByteBufferPool pool = ByteBufferPool.getShared();
+		ByteBuffer buffer = pool.borrowDirect(TRANSFER_BUFFER_SIZE);
+		try {
+			while (true) {
+				buffer.clear();
+				int readed = src.read(buffer);
+				if (readed == -1) {
+					break;
+				}
+				total += readed;
+				if (dst != null) {
+					buffer.flip();
+					while (buffer.hasRemaining()) {
+						dst.write(buffer);
+					}
+				}
+			}
+		} finally {
+			pool.releaseBuffer(buffer);
+		}
+		return total;
+	}
+
+	/**
+	 * ファイルチャネルが位置の取得及び、移動が可能なチャネルであるか判定します。<br>
+	 * 名前付きパイプや標準入力等のファイルディスクリプタから生成されたファイルチャネルは位置の取得時に入出力例外が発生する為、falseを返却します。<br>
+	 * @param channel ファイルチャネル
+	 * @return 位置の取得及び、移動が可能なチャネルの場合にtrueを返却
+	 */
+	private static boolean isSeekable(FileChannel channel) {
+		try {
+			channel.position();
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * ファイルチャネルの現在位置からファイル終端までを出力チャネルに転送します。<br>
+	 * 転送後のファイルチャネルの現在位置は転送したバイト数分進められます。<br>
+	 * 出力チャネルが転送を受け付けなくなった場合は、その時点で終了します。<br>
+	 * @param src 入力ファイルチャネル
+	 * @param dst 出力チャネル
+	 * @return 転送されたバイトサイズ
+	 * @throws IOException チャネル操作時に入出力例外が発生した場合にスローされます
+	 */
+	private static long transfer(FileChannel src, WritableByteChannel dst) throws IOException {
+		long position = src.position();
+		long size = src.size();
+		long total = 0;
+		while (position < size) {
+			long transfered = src.transferTo(position, size - position, dst);
+			if (transfered <= 0) {
+				break;
+			}
+			position += transfered;
+			total += transfered;
+		}
+		src.position(position);
+		return total;
 	}
 
 	/**
@@ -88,25 +242,33 @@ public final class StreamUtil {
 		}
 		ByteArrayOutputStream bos = new ByteArrayOutputStream();
 		int total = 0;
-		while (true) {
-			int readsize = -1;
-			if (length > 0) {
-				readsize = length < total + bufferSize ? length - total : bufferSize;
-			} else {
-				readsize = bufferSize;
-			}
-			byte[] data = new byte[readsize];
-			int readed = is.read(data);
-			if (readed == -1) {
-				break;
-			}
-			total += readed;
-			bos.write(data, 0, readed);
-			if (length > 0) {
-				if (total >= length) {
+		// ↓パフォーマンスチューニング(読み込み毎のバッファ生成を排除しByteBufferPoolから借りたバッファを再利用)
+		ByteBufferPool pool = ByteBufferPool.getShared();
+		byte[] data = pool.borrowArray(bufferSize);
+		try {
+			while (true) {
+				int readsize = -1;
+				if (length > 0) {
+					readsize = length < total + bufferSize ? length - total : bufferSize;
+				} else {
+					readsize = bufferSize;
+				}
+				//byte[] data = new byte[readsize];
+				//int readed = is.read(data);
+				int readed = is.read(data, 0, readsize);
+				if (readed == -1) {
 					break;
 				}
+				total += readed;
+				bos.write(data, 0, readed);
+				if (length > 0) {
+					if (total >= length) {
+						break;
+					}
+				}
 			}
+		} finally {
+			pool.releaseArray(data);
 		}
 		return bos.toByteArray();
 	}
@@ -136,26 +298,103 @@ public final class StreamUtil {
 
 	/**
 	 * 入力ストリームが提供する情報を文字列として読み込みます。<br>
+	 * 入力ストリームの内容は改行コードを含めて変換されず、元の内容のまま文字列として提供されます。<br>
+	 * 読み込みは{@link java.io.InputStream#available()}(ファイルストリームの場合は残りファイルサイズ)から算出した容量で文字列バッファを確保し、
+	 * {@link java.nio.charset.CharsetDecoder}によって大きなバッファ単位で一括デコードします。<br>
+	 * 不正なバイトシーケンス及び、マップできない文字は{@link java.io.InputStreamReader}と同様に代替文字に置換されます。<br>
 	 * @param is 入力ストリームオブジェクト
 	 * @param charset 文字コード
 	 * @return Input入力ストリームから提供された文字列
 	 * @throws IOException ストリーム操作時に入出力例外が発生した場合にスローされます
 	 */
-	@SuppressWarnings("resource")
 	public static String readString(InputStream is, String charset) throws IOException {
 		if (is == null) {
 			return "";
 		}
-		BufferedReader reader = charset == null ? new BufferedReader(new InputStreamReader(is)) : new BufferedReader(new InputStreamReader(is, charset));
-		StringWriter string = new StringWriter();
-		BufferedWriter writer = new BufferedWriter(string);
-		for (String line; (line = reader.readLine()) != null;) {
-			writer.write(line);
-			writer.newLine();
-			writer.flush();
+		// ↓パフォーマンスチューニング(行単位の読み込み、書き込みを排除し一括デコードに変更、改行コードは元の内容のまま提供)
+		//BufferedReader reader = charset == null ? new BufferedReader(new InputStreamReader(is)) : new BufferedReader(new InputStreamReader(is, charset));
+		//StringWriter string = new StringWriter();
+		//BufferedWriter writer = new BufferedWriter(string);
+		//for (String line; (line = reader.readLine()) != null;) {
+		//	writer.write(line);
+		//	writer.newLine();
+		//	writer.flush();
+		//}
+		//writer.close();
+		//return string.toString();
+		CharsetDecoder decoder = toCharset(charset).newDecoder() //
+				.onMalformedInput(CodingErrorAction.REPLACE) //
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		long expected = Math.min(Math.max(is.available(), 0) * (long) Math.ceil(decoder.averageCharsPerByte()), STRING_PRESIZE_LIMIT);
+		StringBuilder builder = new StringBuilder((int) Math.max(expected, 16));
+		ByteBufferPool pool = ByteBufferPool.getShared();
+		byte[] data = pool.borrowArray(TRANSFER_BUFFER_SIZE);
+		try {
+			return decode(is, decoder, builder, data, expected);
+		} finally {
+			pool.releaseArray(data);
+		}
+	}
+
+	/**
+	 * 入力ストリームの内容をデコードして文字列バッファに追加します。<br>
+	 * @param is 入力ストリームオブジェクト
+	 * @param decoder デコーダー
+	 * @param builder 文字列バッファ
+	 * @param data 読み込みバッファ
+	 * @param expected 想定文字数
+	 * @return デコードされた文字列
+	 * @throws IOException ストリーム操作時に入出力例外が発生した場合にスローされます
+	 */
+	private static String decode(InputStream is, CharsetDecoder decoder, StringBuilder builder, byte[] data, long expected) throws IOException {
+		ByteBuffer in = ByteBuffer.wrap(data);
+		CharBuffer out = CharBuffer.allocate((int) Math.min(Math.max(expected, 256), (long) Math.ceil(data.length * decoder.maxCharsPerByte())));
+		boolean eof = false;
+		while (!eof) {
+			int readed = is.read(data, in.position(), in.remaining());
+			if (readed < 0) {
+				eof = true;
+			} else {
+				in.position(in.position() + readed);
+			}
+			in.flip();
+			while (true) {
+				CoderResult result = decoder.decode(in, out, eof);
+				builder.append(out.array(), out.arrayOffset(), out.position());
+				out.clear();
+				if (result.isUnderflow()) {
+					break;
+				} else if (!result.isOverflow()) {
+					result.throwException();
+				}
+			}
+			in.compact();
+		}
+		while (decoder.flush(out).isOverflow()) {
+			builder.append(out.array(), out.arrayOffset(), out.position());
+			out.clear();
+		}
+		builder.append(out.array(), out.arrayOffset(), out.position());
+		return builder.toString();
+	}
+
+	/**
+	 * 文字コード名に対応するキャラクタセットを取得します。<br>
+	 * @param charset 文字コード名(nullの場合はプラットフォームのディフォルトキャラクタセット)
+	 * @return キャラクタセット
+	 * @throws UnsupportedEncodingException サポートされていない文字コード名の場合にスローされます
+	 */
+	private static Charset toCharset(String charset) throws UnsupportedEncodingException {
+		if (charset == null) {
+			return Charset.defaultCharset();
+		}
+		try {
+			return Charset.forName(charset);
+		} catch (IllegalCharsetNameException e) {
+			throw new UnsupportedEncodingException(charset);
+		} catch (UnsupportedCharsetException e) {
+			throw new UnsupportedEncodingException(charset);
 		}
-		writer.close();
-		return string.toString();
 	}
 
 	/**
@@ -1,7 +1,6 @@
 package org.ideaccum.libs.commons.util;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
 import java.net.URLDecoder;
@@ -22,6 +21,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.ideaccum.libs.commons.toys.StringBelt;
+import org.ideaccum.libs.commons.util.charset.HostStringEncoder;
+import org.ideaccum.libs.commons.util.charset.KEIS83Charset;
 
 /**
  * 文字列操作を行う際の支援的な操作メソッドを提供します。<br>
@@ -38,6 +39,13 @@ import org.ideaccum.libs.commons.toys.StringBelt;
  * 2019/03/18  Kitagawa         formatJapaneseZipCodeメソッドを旧AddressUtilから移行
  * 2019/03/26  Kitagawa         encodeRomanNumerals、decodeRomanNumeralsメソッドを旧NumberUtilから移行
  * 2019/04/29  Kitagawa         replaceメソッド処理はJDK1.5より提供される{@link java.lang.String#replace(CharSequence, CharSequence)}に委譲するように変更
+ * 2026/10/18  Kitagawa         substrb、charAtb、indexbOf、paddingb、insertbメソッドを文字単位バイト長テーブルによる1回走査の処理に変更
+ * 2026/10/18  Kitagawa         文字種判定メソッドに許容文字集合({@link org.ideaccum.libs.commons.util.CharClass})指定のメソッドを追加、文字配列複製を伴わない判定処理に変更
+ * 2026/10/18  Kitagawa         native2ascii、ascii2nativeメソッドを入力文字列の複製を伴わない1回走査の処理に変更
+ * 2026/10/18  Kitagawa         toHex、toBytesByHexメソッドを{@link org.ideaccum.libs.commons.util.HexCodec}による変換に変更
+ * 2026/10/18  Kitagawa         decodeKEIS83Characterメソッドを事前構築したデコードテーブル参照に変更、encodeKEIS83Character、isKEIS83Characterメソッドを追加
+ * 2026/10/18  Kitagawa         encodeKEIS83メソッドを追加
+ * 2026/10/18  Kitagawa         KEIS83コードの数値指定でのデコード、エンコードメソッドを追加
  *-->
  */
 public final class StringUtil {
@@ -45,6 +53,9 @@ public final class StringUtil {
 	/** 空文字列 */
 	public static final String EMPTY = "";
 
+	/** システムディフォルトキャラクタセットの文字単位バイト長テーブル */
+	private static final ByteWidthTable DEFAULT_WIDTH_TABLE = ByteWidthTable.valueOf(null);
+
 	/** ヘキサ文字列 */
 	private static final String[] HEX_STRINGS = { "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "a", "b", "c", "d", "e", "f" };
 
@@ -866,6 +877,44 @@ public final class StringUtil {
 			//
 	};
 
+	/** KEIS83コード区点数(上位/下位バイト範囲:0xA1～0xFE) */
+	private static final int KEIS83_CELLS = 94;
+
+	/** KEIS83コード上位/下位バイト開始値 */
+	private static final int KEIS83_BASE = 0xA1;
+
+	/** KEIS83デコードテーブル(区点インデックス((上位バイト - 0xA1) * 94 + (下位バイト - 0xA1))→文字) */
+	private static final char[] KEIS83_CHARS;
+
+	/** KEIS83エンコードテーブル(文字→KEIS83コード、対応するコードがない場合は0) */
+	private static final char[] KEIS83_CODES;
+	static {
+		KEIS83_CHARS = new char[KEIS83_CELLS * KEIS83_CELLS];
+		KEIS83_CODES = new char[Character.MAX_VALUE + 1];
+		try {
+			byte[] bs = new byte[2];
+			for (int index = 0; index <= KEIS83_CHARS.length - 1; index++) {
+				bs[0] = (byte) KEIS83_SJIS_MAP_UPPER[index / KEIS83_SJIS_MAP_LOWER.length];
+				bs[1] = (byte) KEIS83_SJIS_MAP_LOWER[index % KEIS83_SJIS_MAP_LOWER.length];
+				char c = new String(bs, "Shift_JIS").charAt(0);
+				// UnicodeチルダとWindows-31Jチルダ置換
+				if (c == '〜') {
+					c = '～';
+				}
+				KEIS83_CHARS[index] = c;
+				if (c != '\uFFFD' && KEIS83_CODES[c] == 0) {
+					KEIS83_CODES[c] = (char) (((index / KEIS83_CELLS + KEIS83_BASE) << 8) | (index % KEIS83_CELLS + KEIS83_BASE));
+				}
+			}
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+		KEIS83_CODES['　'] = 0xA1A1;
+		if (KEIS83_CODES['〜'] == 0) {
+			KEIS83_CODES['〜'] = KEIS83_CODES['～'];
+		}
+	}
+
 	/**
 	 * EBCDICコードタイプ列挙型クラス<br>
 	 * 
@@ -986,11 +1035,13 @@ public final class StringUtil {
 		if (bs == null) {
 			return EMPTY;
 		}
-		StringBuilder builder = new StringBuilder();
-		for (int i = 0; i < bs.length; i++) {
-			builder.append(toHex(bs[i]));
-		}
-		return builder.toString();
+		// ↓パフォーマンスチューニング(バイト値毎の文字列生成を排除)
+		//StringBuilder builder = new StringBuilder();
+		//for (int i = 0; i < bs.length; i++) {
+		//	builder.append(toHex(bs[i]));
+		//}
+		//return builder.toString();
+		return HexCodec.encodeToString(bs, 0, bs.length, false);
 	}
 
 	/**
@@ -1004,8 +1055,13 @@ public final class StringUtil {
 			return new byte[0];
 		}
 		byte[] bytes = new byte[string.length() / 2];
-		for (int index = 0; index < bytes.length; index++) {
-			bytes[index] = (byte) Integer.parseInt(string.substring(index * 2, (index + 1) * 2), 16);
+		// ↓パフォーマンスチューニング(16進文字以外を含む場合のみ従来の数値パースで変換)
+		try {
+			HexCodec.decode(string, 0, bytes.length * 2, bytes, 0);
+		} catch (IllegalArgumentException e) {
+			for (int index = 0; index < bytes.length; index++) {
+				bytes[index] = (byte) Integer.parseInt(string.substring(index * 2, (index + 1) * 2), 16);
+			}
 		}
 		return bytes;
 	}
@@ -1850,7 +1906,9 @@ public final class StringUtil {
 		if (c == null) {
 			return true;
 		}
-		return String.valueOf(c).getBytes().length <= 1;
+		// ↓パフォーマンスチューニング(文字単位バイト長テーブルによる判定)
+		//return String.valueOf(c).getBytes().length <= 1;
+		return DEFAULT_WIDTH_TABLE.width(c) <= 1;
 	}
 
 	/**
@@ -1863,9 +1921,8 @@ public final class StringUtil {
 		if (isEmpty(string)) {
 			return true;
 		}
-		char[] cs = string.toCharArray();
-		for (int i = 0; i <= cs.length - 1; i++) {
-			if (!isAscii(cs[i])) {
+		for (int i = 0; i <= string.length() - 1; i++) {
+			if (DEFAULT_WIDTH_TABLE.width(string.charAt(i)) > 1) {
 				return false;
 			}
 		}
@@ -1950,26 +2007,7 @@ public final class StringUtil {
 	 * @return 数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isDigits(String string, char... allows) {
-		if (isEmpty(string)) {
-			return true;
-		}
-		for (char c : string.toCharArray()) {
-			if (allows != null) {
-				boolean skip = false;
-				for (char allow : allows) {
-					if (c == allow) {
-						skip = true;
-					}
-				}
-				if (skip) {
-					continue;
-				}
-			}
-			if (!(c >= '0' && c <= '9')) {
-				return false;
-			}
-		}
-		return true;
+		return isChars(string, CharClass.DIGITS, allows);
 	}
 
 	/**
@@ -1981,7 +2019,19 @@ public final class StringUtil {
 	 * @return 数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isDigits(String string, String allows) {
-		return isDigits(string, allows == null ? null : allows.toCharArray());
+		return isChars(string, CharClass.DIGITS, allows);
+	}
+
+	/**
+	 * 文字列が数字のみで構成された文字列であるか判定します。<br>
+	 * 許容文字集合に指定がない場合、このメソッドでは符号や小数点が含まれる文字列についてもfalseとして判定します。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 数字のみで構成された文字列である場合はtrueを返却
+	 */
+	public static boolean isDigits(String string, CharClass allows) {
+		return isChars(string, CharClass.DIGITS, allows);
 	}
 
 	/**
@@ -1992,26 +2042,7 @@ public final class StringUtil {
 	 * @return 大文字英字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphabetUpper(String string, char... allows) {
-		if (isEmpty(string)) {
-			return true;
-		}
-		for (char c : string.toCharArray()) {
-			if (allows != null) {
-				boolean skip = false;
-				for (char allow : allows) {
-					if (c == allow) {
-						skip = true;
-					}
-				}
-				if (skip) {
-					continue;
-				}
-			}
-			if (!(c >= 'A' && c <= 'Z')) {
-				return false;
-			}
-		}
-		return true;
+		return isChars(string, CharClass.ALPHABET_UPPER, allows);
 	}
 
 	/**
@@ -2022,7 +2053,18 @@ public final class StringUtil {
 	 * @return 大文字英字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphabetUpper(String string, String allows) {
-		return isAlphabetUpper(string, allows == null ? null : allows.toCharArray());
+		return isChars(string, CharClass.ALPHABET_UPPER, allows);
+	}
+
+	/**
+	 * 文字列が大文字英字のみで構成された文字列であるか判定します。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 大文字英字のみで構成された文字列である場合はtrueを返却
+	 */
+	public static boolean isAlphabetUpper(String string, CharClass allows) {
+		return isChars(string, CharClass.ALPHABET_UPPER, allows);
 	}
 
 	/**
@@ -2033,26 +2075,7 @@ public final class StringUtil {
 	 * @return 小文字英字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphabetLower(String string, char... allows) {
-		if (isEmpty(string)) {
-			return true;
-		}
-		for (char c : string.toCharArray()) {
-			if (allows != null) {
-				boolean skip = false;
-				for (char allow : allows) {
-					if (c == allow) {
-						skip = true;
-					}
-				}
-				if (skip) {
-					continue;
-				}
-			}
-			if (!(c >= 'a' && c <= 'z')) {
-				return false;
-			}
-		}
-		return true;
+		return isChars(string, CharClass.ALPHABET_LOWER, allows);
 	}
 
 	/**
@@ -2063,7 +2086,18 @@ public final class StringUtil {
 	 * @return 小文字英字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphabetLower(String string, String allows) {
-		return isAlphabetLower(string, allows == null ? null : allows.toCharArray());
+		return isChars(string, CharClass.ALPHABET_LOWER, allows);
+	}
+
+	/**
+	 * 文字列が小文字英字のみで構成された文字列であるか判定します。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 小文字英字のみで構成された文字列である場合はtrueを返却
+	 */
+	public static boolean isAlphabetLower(String string, CharClass allows) {
+		return isChars(string, CharClass.ALPHABET_LOWER, allows);
 	}
 
 	/**
@@ -2074,7 +2108,12 @@ public final class StringUtil {
 	 * @return 英字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphabet(String string, char... allows) {
-		return isAlphabetUpper(nvl(string).toUpperCase(), allows);
+		// ↓パフォーマンスチューニング(半角範囲外の文字を含む場合のみ大文字変換後の文字列で判定)
+		//return isAlphabetUpper(nvl(string).toUpperCase(), allows);
+		if (!isAsciiRange(string)) {
+			return isAlphabetUpper(string.toUpperCase(), allows);
+		}
+		return isChars(string, CharClass.ALPHABET, allows);
 	}
 
 	/**
@@ -2085,7 +2124,21 @@ public final class StringUtil {
 	 * @return 英字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphabet(String string, String allows) {
-		return isAlphabet(string, allows == null ? null : allows.toCharArray());
+		if (!isAsciiRange(string)) {
+			return isAlphabetUpper(string.toUpperCase(), allows);
+		}
+		return isChars(string, CharClass.ALPHABET, allows);
+	}
+
+	/**
+	 * 文字列が英字のみで構成された文字列であるか判定します。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 英字のみで構成された文字列である場合はtrueを返却
+	 */
+	public static boolean isAlphabet(String string, CharClass allows) {
+		return isChars(string, CharClass.ALPHABET, allows);
 	}
 
 	/**
@@ -2096,26 +2149,7 @@ public final class StringUtil {
 	 * @return 大文字英数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphaDigitsUpper(String string, char... allows) {
-		if (isEmpty(string)) {
-			return true;
-		}
-		for (char c : string.toCharArray()) {
-			if (allows != null) {
-				boolean skip = false;
-				for (char allow : allows) {
-					if (c == allow) {
-						skip = true;
-					}
-				}
-				if (skip) {
-					continue;
-				}
-			}
-			if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
-				return false;
-			}
-		}
-		return true;
+		return isChars(string, CharClass.ALPHA_DIGITS_UPPER, allows);
 	}
 
 	/**
@@ -2126,7 +2160,18 @@ public final class StringUtil {
 	 * @return 大文字英数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphaDigitsUpper(String string, String allows) {
-		return isAlphaDigitsUpper(string, allows == null ? null : allows.toCharArray());
+		return isChars(string, CharClass.ALPHA_DIGITS_UPPER, allows);
+	}
+
+	/**
+	 * 文字列が大文字英数字のみで構成された文字列であるか判定します。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 大文字英数字のみで構成された文字列である場合はtrueを返却
+	 */
+	public static boolean isAlphaDigitsUpper(String string, CharClass allows) {
+		return isChars(string, CharClass.ALPHA_DIGITS_UPPER, allows);
 	}
 
 	/**
@@ -2137,26 +2182,7 @@ public final class StringUtil {
 	 * @return 小文字英数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphaDigitsLower(String string, char... allows) {
-		if (isEmpty(string)) {
-			return true;
-		}
-		for (char c : string.toCharArray()) {
-			if (allows != null) {
-				boolean skip = false;
-				for (char allow : allows) {
-					if (c == allow) {
-						skip = true;
-					}
-				}
-				if (skip) {
-					continue;
-				}
-			}
-			if (!((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'))) {
-				return false;
-			}
-		}
-		return true;
+		return isChars(string, CharClass.ALPHA_DIGITS_LOWER, allows);
 	}
 
 	/**
@@ -2167,7 +2193,18 @@ public final class StringUtil {
 	 * @return 小文字英数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphaDigitsLower(String string, String allows) {
-		return isAlphaDigitsLower(string, allows == null ? null : allows.toCharArray());
+		return isChars(string, CharClass.ALPHA_DIGITS_LOWER, allows);
+	}
+
+	/**
+	 * 文字列が小文字英数字のみで構成された文字列であるか判定します。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 小文字英数字のみで構成された文字列である場合はtrueを返却
+	 */
+	public static boolean isAlphaDigitsLower(String string, CharClass allows) {
+		return isChars(string, CharClass.ALPHA_DIGITS_LOWER, allows);
 	}
 
 	/**
@@ -2178,7 +2215,12 @@ public final class StringUtil {
 	 * @return 英数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphaDigits(String string, char... allows) {
-		return isAlphaDigitsUpper(nvl(string).toUpperCase(), allows);
+		// ↓パフォーマンスチューニング(半角範囲外の文字を含む場合のみ大文字変換後の文字列で判定)
+		//return isAlphaDigitsUpper(nvl(string).toUpperCase(), allows);
+		if (!isAsciiRange(string)) {
+			return isAlphaDigitsUpper(string.toUpperCase(), allows);
+		}
+		return isChars(string, CharClass.ALPHA_DIGITS, allows);
 	}
 
 	/**
@@ -2189,7 +2231,21 @@ public final class StringUtil {
 	 * @return 英数字のみで構成された文字列である場合はtrueを返却
 	 */
 	public static boolean isAlphaDigits(String string, String allows) {
-		return isAlphaDigits(string, allows == null ? null : allows.toCharArray());
+		if (!isAsciiRange(string)) {
+			return isAlphaDigitsUpper(string.toUpperCase(), allows);
+		}
+		return isChars(string, CharClass.ALPHA_DIGITS, allows);
+	}
+
+	/**
+	 * 文字列が英数字のみで構成された文字列であるか判定します。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 英数字のみで構成された文字列である場合はtrueを返却
+	 */
+	public static boolean isAlphaDigits(String string, CharClass allows) {
+		return isChars(string, CharClass.ALPHA_DIGITS, allows);
 	}
 
 	/**
@@ -2201,25 +2257,7 @@ public final class StringUtil {
 	 * @return 期待する文字のみで構成された文字列である場合にtrueを返却
 	 */
 	public static boolean isExpectChars(String string, char... allows) {
-		if (isEmpty(string)) {
-			return true;
-		} else if (allows == null) {
-			return false;
-		} else {
-			for (char c : string.toCharArray()) {
-				boolean valid = false;
-				for (char allow : allows) {
-					if (c == allow) {
-						valid = true;
-						break;
-					}
-				}
-				if (!valid) {
-					return false;
-				}
-			}
-			return true;
-		}
+		return isChars(string, CharClass.EMPTY, allows);
 	}
 
 	/**
@@ -2231,7 +2269,116 @@ public final class StringUtil {
 	 * @return 期待する文字のみで構成された文字列である場合にtrueを返却
 	 */
 	public static boolean isExpectChars(String string, String allows) {
-		return isExpectChars(string, allows == null ? null : allows.toCharArray());
+		return isChars(string, CharClass.EMPTY, allows);
+	}
+
+	/**
+	 * 文字列が期待する文字のみで構成された文字列であるか判定します。<br>
+	 * 期待する文字集合が指定されなかった場合、例外はスローされませんが常に不一致として結果が返却されます。<br>
+	 * 尚、null又は、空文字列が指定された場合はtrueが返却されることに注意して下さい。<br>
+	 * @param string 対象文字列
+	 * @param allows 許容する文字集合
+	 * @return 期待する文字のみで構成された文字列である場合にtrueを返却
+	 */
+	public static boolean isExpectChars(String string, CharClass allows) {
+		return isChars(string, CharClass.EMPTY, allows);
+	}
+
+	/**
+	 * 文字列が基本文字集合又は、許容文字群の文字のみで構成された文字列であるか判定します。<br>
+	 * @param string 対象文字列
+	 * @param base 基本文字集合
+	 * @param allows 許容する文字群
+	 * @return 基本文字集合又は、許容文字群の文字のみで構成された文字列である場合はtrueを返却
+	 */
+	private static boolean isChars(String string, CharClass base, char[] allows) {
+		if (isEmpty(string)) {
+			return true;
+		}
+		for (int i = 0; i <= string.length() - 1; i++) {
+			char c = string.charAt(i);
+			if (base.contains(c)) {
+				continue;
+			}
+			if (allows == null) {
+				return false;
+			}
+			boolean valid = false;
+			for (char allow : allows) {
+				if (c == allow) {
+					valid = true;
+					break;
+				}
+			}
+			if (!valid) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 文字列が基本文字集合又は、許容文字群の文字のみで構成された文字列であるか判定します。<br>
+	 * @param string 対象文字列
+	 * @param base 基本文字集合
+	 * @param allows 許容する文字群文字列
+	 * @return 基本文字集合又は、許容文字群の文字のみで構成された文字列である場合はtrueを返却
+	 */
+	private static boolean isChars(String string, CharClass base, String allows) {
+		if (isEmpty(string)) {
+			return true;
+		}
+		for (int i = 0; i <= string.length() - 1; i++) {
+			char c = string.charAt(i);
+			if (base.contains(c)) {
+				continue;
+			}
+			if (allows == null || allows.indexOf(c) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 文字列が基本文字集合又は、許容文字集合の文字のみで構成された文字列であるか判定します。<br>
+	 * @param string 対象文字列
+	 * @param base 基本文字集合
+	 * @param allows 許容する文字集合
+	 * @return 基本文字集合又は、許容文字集合の文字のみで構成された文字列である場合はtrueを返却
+	 */
+	private static boolean isChars(String string, CharClass base, CharClass allows) {
+		if (isEmpty(string)) {
+			return true;
+		}
+		for (int i = 0; i <= string.length() - 1; i++) {
+			char c = string.charAt(i);
+			if (base.contains(c)) {
+				continue;
+			}
+			if (allows == null || !allows.contains(c)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 文字列が全て0x00～0x7Fの範囲の文字で構成されているか判定します。<br>
+	 * 英字判定において大文字変換の必要有無を判断する為に利用します。<br>
+	 * @param string 対象文字列
+	 * @return 全て0x00～0x7Fの範囲の文字で構成されている場合はtrueを返却
+	 */
+	private static boolean isAsciiRange(String string) {
+		if (string == null) {
+			return true;
+		}
+		for (int i = 0; i <= string.length() - 1; i++) {
+			if (string.charAt(i) > 0x7F) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -2488,9 +2635,8 @@ public final class StringUtil {
 		if (isEmpty(string)) {
 			return false;
 		}
-		char[] cs = string.toCharArray();
-		for (int i = 0; i <= cs.length - 1; i++) {
-			if (isAscii(cs[i])) {
+		for (int i = 0; i <= string.length() - 1; i++) {
+			if (DEFAULT_WIDTH_TABLE.width(string.charAt(i)) <= 1) {
 				return true;
 			}
 		}
@@ -2787,10 +2933,12 @@ public final class StringUtil {
 	 * @return 半角ベースでの文字列長
 	 */
 	public static int lena(String string) {
-		String buffer = nvl(string);
+		if (string == null) {
+			return 0;
+		}
 		int length = 0;
-		for (char c : buffer.toCharArray()) {
-			if (isAscii(c)) {
+		for (int i = 0; i <= string.length() - 1; i++) {
+			if (DEFAULT_WIDTH_TABLE.width(string.charAt(i)) <= 1) {
 				length += 1;
 			} else {
 				length += 2;
@@ -2971,6 +3119,69 @@ public final class StringUtil {
 	 * @return 編集を行った文字列
 	 */
 	public static String substrb(String string, int position, int length, String charset) {
+		if (isEmpty(string)) {
+			return EMPTY;
+		}
+		int[] widths = ByteWidthTable.valueOf(charset).widths(string);
+		if (widths == null) {
+			return substrbWithEncode(string, position, length, charset);
+		}
+		int total = 0;
+		for (int width : widths) {
+			total += width;
+		}
+		if (position > total - 1) {
+			return EMPTY;
+		}
+		for (int i = position; i < 0; i++) {
+			length--;
+		}
+		if (position < 0) {
+			position = 0;
+		}
+		if (length < 0) {
+			length = 0;
+		}
+		if (total < position + length) {
+			length = total - position;
+		}
+		// 開始バイト位置を含む文字までを読み飛ばし、欠落バイト分を半角スペースとする
+		int start = 0;
+		int bytes = 0;
+		while (bytes < position) {
+			bytes += widths[start++];
+		}
+		int space = bytes - position;
+		if (space >= length) {
+			return spaces(length);
+		}
+		// 取得バイト長に収まる文字までを切り出し、不足バイト分を半角スペースとする
+		int end = start;
+		bytes = space;
+		while (end <= widths.length - 1 && bytes + widths[end] <= length) {
+			bytes += widths[end++];
+		}
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i <= space - 1; i++) {
+			builder.append(' ');
+		}
+		builder.append(string, start, end);
+		for (int i = bytes; i <= length - 1; i++) {
+			builder.append(' ');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 文字列を特定位置から見た特定バイト長の範囲で切り取って提供します。<br>
+	 * このメソッドは{@link ByteWidthTable}によるバイト長算出が行えないキャラクタセットの場合に利用される、文字列のエンコードを都度行う実装です。<br>
+	 * @param string 対象文字列
+	 * @param position 開始位置
+	 * @param length 取得バイト数
+	 * @param charset キャラクタセット
+	 * @return 編集を行った文字列
+	 */
+	private static String substrbWithEncode(String string, int position, int length, String charset) {
 		if (isEmpty(string) || position > lenb(string, charset) - 1) {
 			return EMPTY;
 		}
@@ -3397,8 +3608,22 @@ public final class StringUtil {
 		if (index < 0) {
 			return '\0';
 		}
-		String result = substrb(string, index, lenb(string, charset), charset);
-		return result.length() == 0 ? '\0' : result.toCharArray()[0];
+		int[] widths = ByteWidthTable.valueOf(charset).widths(string);
+		if (widths == null) {
+			String result = substrb(string, index, lenb(string, charset), charset);
+			return result.length() == 0 ? '\0' : result.toCharArray()[0];
+		}
+		int bytes = 0;
+		for (int i = 0; i <= widths.length - 1; i++) {
+			if (bytes == index) {
+				return string.charAt(i);
+			}
+			bytes += widths[i];
+			if (bytes > index) {
+				return ' ';
+			}
+		}
+		return '\0';
 	}
 
 	/**
@@ -3589,16 +3814,30 @@ public final class StringUtil {
 	 */
 	public static String paddingb(String string, int length, char c, String charset) {
 		StringBuilder builder = new StringBuilder(nvl(string));
-		for (int nlen; (nlen = lenb(builder, charset)) < length;) {
-			int clen = lenb(c, charset);
-			if (nlen + clen > length) {
-				while (nlen < length) {
-					builder.append(" ");
-					nlen++;
+		ByteWidthTable table = ByteWidthTable.valueOf(charset);
+		int clen = table.width(c);
+		if (!table.isAvailable() || clen <= 0) {
+			for (int nlen; (nlen = lenb(builder, charset)) < length;) {
+				clen = lenb(c, charset);
+				if (nlen + clen > length) {
+					while (nlen < length) {
+						builder.append(" ");
+						nlen++;
+					}
+				} else {
+					builder.append(c);
 				}
-			} else {
-				builder.append(c);
 			}
+			return builder.toString();
+		}
+		int nlen = lenb(builder, charset);
+		while (nlen + clen <= length) {
+			builder.append(c);
+			nlen += clen;
+		}
+		while (nlen < length) {
+			builder.append(' ');
+			nlen++;
 		}
 		return builder.toString();
 	}
@@ -3633,16 +3872,36 @@ public final class StringUtil {
 			throw new NullPointerException("CharLoop");
 		}
 		StringBuilder builder = new StringBuilder(nvl(string));
-		for (int nlen; (nlen = lenb(builder, charset)) < length;) {
+		ByteWidthTable table = ByteWidthTable.valueOf(charset);
+		if (!table.isAvailable()) {
+			for (int nlen; (nlen = lenb(builder, charset)) < length;) {
+				char c = chars.next();
+				int clen = lenb(c, charset);
+				if (nlen + clen > length) {
+					while (nlen < length) {
+						builder.append(" ");
+						nlen++;
+					}
+				} else {
+					builder.append(c);
+				}
+			}
+			return builder.toString();
+		}
+		for (int nlen = lenb(builder, charset); nlen < length;) {
 			char c = chars.next();
-			int clen = lenb(c, charset);
+			int clen = table.width(c);
+			if (clen < 0) {
+				clen = lenb(c, charset);
+			}
 			if (nlen + clen > length) {
 				while (nlen < length) {
-					builder.append(" ");
+					builder.append(' ');
 					nlen++;
 				}
 			} else {
 				builder.append(c);
+				nlen += clen;
 			}
 		}
 		return builder.toString();
@@ -3764,19 +4023,39 @@ public final class StringUtil {
 	 * @return 編集後文字列
 	 */
 	public static String insertb(String string, int length, char c, String charset) {
-		StringBuilder builder = new StringBuilder(nvl(string));
-		for (int nlen; (nlen = lenb(builder, charset)) < length;) {
-			int clen = lenb(c, charset);
-			if (nlen + clen > length) {
-				while (nlen < length) {
-					builder.insert(0, " ");
-					nlen++;
+		ByteWidthTable table = ByteWidthTable.valueOf(charset);
+		int clen = table.width(c);
+		if (!table.isAvailable() || clen <= 0) {
+			StringBuilder builder = new StringBuilder(nvl(string));
+			for (int nlen; (nlen = lenb(builder, charset)) < length;) {
+				clen = lenb(c, charset);
+				if (nlen + clen > length) {
+					while (nlen < length) {
+						builder.insert(0, " ");
+						nlen++;
+					}
+				} else {
+					builder.insert(0, c);
 				}
-			} else {
-				builder.insert(0, c);
 			}
+			return builder.toString();
 		}
-		return builder.toString();
+		// 先頭に追加される文字群を先に構築して連結する(StringBuilder#insertによる都度の配列シフトを回避)
+		StringBuilder prefix = new StringBuilder();
+		int nlen = lenb(string, charset);
+		int count = 0;
+		while (nlen + clen <= length) {
+			count++;
+			nlen += clen;
+		}
+		while (nlen < length) {
+			prefix.append(' ');
+			nlen++;
+		}
+		for (int i = 0; i <= count - 1; i++) {
+			prefix.append(c);
+		}
+		return prefix.append(nvl(string)).toString();
 	}
 
 	/**
@@ -3808,21 +4087,44 @@ public final class StringUtil {
 		if (chars == null) {
 			throw new NullPointerException("CharLoop");
 		}
-		StringBuilder builder = new StringBuilder(nvl(string));
-		int index = 0;
-		for (int nlen; (nlen = lenb(builder, charset)) < length;) {
+		ByteWidthTable table = ByteWidthTable.valueOf(charset);
+		if (!table.isAvailable()) {
+			StringBuilder builder = new StringBuilder(nvl(string));
+			int index = 0;
+			for (int nlen; (nlen = lenb(builder, charset)) < length;) {
+				char c = chars.next();
+				int clen = lenb(c, charset);
+				if (nlen + clen > length) {
+					while (nlen < length) {
+						builder.insert(0, " ");
+						nlen++;
+					}
+				} else {
+					builder.insert(index++, c);
+				}
+			}
+			return builder.toString();
+		}
+		// 先頭に追加される文字群を先に構築して連結する(StringBuilder#insertによる都度の配列シフトを回避)
+		StringBuilder prefix = new StringBuilder();
+		int space = 0;
+		for (int nlen = lenb(string, charset); nlen < length;) {
 			char c = chars.next();
-			int clen = lenb(c, charset);
+			int clen = table.width(c);
+			if (clen < 0) {
+				clen = lenb(c, charset);
+			}
 			if (nlen + clen > length) {
 				while (nlen < length) {
-					builder.insert(0, " ");
+					space++;
 					nlen++;
 				}
 			} else {
-				builder.insert(index++, c);
+				prefix.append(c);
+				nlen += clen;
 			}
 		}
-		return builder.toString();
+		return new StringBuilder(spaces(space)).append(prefix).append(nvl(string)).toString();
 	}
 
 	/**
@@ -3898,83 +4200,74 @@ public final class StringUtil {
 	 * @return 変換後文字列
 	 */
 	public static String native2ascii(String value) {
-		StringBuilder result = new StringBuilder();
-		char[] chars = nvl(value).toCharArray();
-		for (int i = 0; i <= chars.length - 1; i++) {
-			if (chars[i] > '\177') {
-				result.append((char) 92);
-				result.append((char) 117);
-				String hex = Integer.toHexString(chars[i]);
-				StringBuilder buffer = new StringBuilder(hex);
-				buffer.reverse();
-				int l = 4 - buffer.length();
-				for (int i1 = 0; i1 < l; i1++) {
-					buffer.append('0');
-				}
-				for (int j1 = 0; j1 < 4; j1++) {
-					result.append(buffer.charAt(3 - j1));
+		// ↓パフォーマンスチューニング(文字単位の16進文字列生成、反転処理を排除)
+		String string = nvl(value);
+		StringBuilder result = null;
+		for (int i = 0; i <= string.length() - 1; i++) {
+			char c = string.charAt(i);
+			if (c > '\177') {
+				if (result == null) {
+					result = new StringBuilder(string.length() + 16);
+					result.append(string, 0, i);
 				}
-			} else {
-				result.append(chars[i]);
+				result.append('\\');
+				result.append('u');
+				result.append(HEX_STRINGS[(c >> 12) & 0xF]);
+				result.append(HEX_STRINGS[(c >> 8) & 0xF]);
+				result.append(HEX_STRINGS[(c >> 4) & 0xF]);
+				result.append(HEX_STRINGS[c & 0xF]);
+			} else if (result != null) {
+				result.append(c);
 			}
 		}
-		return result.toString();
+		return result == null ? string : result.toString();
 	}
 
 	/**
 	 * ユニコード表記アスキー文字列を通常の文字列に変換して提供します。<br>
+	 * 尚、文字列末尾から5文字未満の位置にあるエスケープ文字(\)以降の文字列は変換結果に含まれないことに注意して下さい。<br>
+	 * ストリームとして逐次変換を行う場合は{@link org.ideaccum.libs.commons.io.Ascii2NativeReader}を利用して下さい。<br>
 	 * @param value 変換対象文字列
 	 * @return 変換後文字列
 	 */
 	public static String ascii2native(String value) {
-		char[] sourceChars = value.toCharArray();
-		char[] trailChars = null;
-		StringReader in = new StringReader(value);
-		int k = 0;
-		int l = 0;
-		char ac1[] = new char[sourceChars.length];
-		boolean flag1 = false;
-		int j1 = 0;
-		try {
-			j1 = in.read(ac1, k, sourceChars.length - k);
-		} catch (IOException e) {
-			// ignore
-		}
-		if (j1 < 0) {
-			flag1 = true;
-			if (k == 0)
-				return "";
-		} else {
-			k += j1;
-		}
-		int k1 = 0;
-		do {
-			if (k1 >= k)
-				break;
-			char c = ac1[k1++];
-			if (c != '\\' || flag1 && k <= 5) {
-				sourceChars[l++] = c;
+		// ↓パフォーマンスチューニング(入力文字列の複製を排除した1回走査の処理に変更)
+		int index = value.indexOf('\\');
+		if (index < 0) {
+			return value;
+		}
+		int length = value.length();
+		char[] result = new char[length];
+		value.getChars(0, index, result, 0);
+		int count = index;
+		while (index < length) {
+			char c = value.charAt(index++);
+			if (c != '\\') {
+				result[count++] = c;
 				continue;
 			}
-			int l1 = k - k1;
-			if (l1 < 5) {
-				trailChars = new char[1 + l1];
-				trailChars[0] = c;
-				for (int i2 = 0; i2 < l1; i2++)
-					trailChars[1 + i2] = ac1[k1 + i2];
+			if (length - index < 5) {
 				break;
 			}
-			c = ac1[k1++];
+			c = value.charAt(index++);
 			if (c != 'u') {
-				sourceChars[l++] = '\\';
-				sourceChars[l++] = c;
+				result[count++] = '\\';
+				result[count++] = c;
 			} else {
-				char c1 = (char) Integer.parseInt(new String(ac1, k1, 4), 16);
-				sourceChars[l++] = c1;
-				k1 += 4;
+				int code = 0;
+				for (int i = index; i <= index + 3; i++) {
+					int digit = HexCodec.digit(value.charAt(i));
+					if (digit < 0) {
+						code = Integer.parseInt(value.substring(index, index + 4), 16);
+						break;
+					}
+					code = (code << 4) | digit;
+				}
+				result[count++] = (char) code;
+				index += 4;
 			}
-		} while (true);
-		return new String(sourceChars, 0, l);
+		}
+		return new String(result, 0, count);
 	}
 
 	/**
@@ -4536,7 +4829,19 @@ public final class StringUtil {
 		if (position < 0) {
 			return -1;
 		}
-		return lenb(value.substring(0, position), charset);
+		ByteWidthTable table = ByteWidthTable.valueOf(charset);
+		if (!table.isAvailable()) {
+			return lenb(value.substring(0, position), charset);
+		}
+		int bytes = 0;
+		for (int i = 0; i <= position - 1; i++) {
+			int width = table.width(value.charAt(i));
+			if (width < 0) {
+				return lenb(value.substring(0, position), charset);
+			}
+			bytes += width;
+		}
+		return bytes;
 	}
 
 	/**
@@ -4709,50 +5014,116 @@ public final class StringUtil {
 			/*
 			 * KEIS上位/下位バイト分割
 			 */
-			int keis_hi_byte = Integer.decode("0x" + hex.substring(0, 2)).intValue();
-			int keis_lo_byte = Integer.decode("0x" + hex.substring(2)).intValue();
+			//int keis_hi_byte = Integer.decode("0x" + hex.substring(0, 2)).intValue();
+			//int keis_lo_byte = Integer.decode("0x" + hex.substring(2)).intValue();
+			int h1 = HexCodec.digit(hex.charAt(0));
+			int h2 = HexCodec.digit(hex.charAt(1));
+			int l1 = HexCodec.digit(hex.charAt(2));
+			int l2 = HexCodec.digit(hex.charAt(3));
+			if ((h1 | h2 | l1 | l2) < 0) {
+				throw new IllegalArgumentException(hex);
+			}
+			int keis_hi_byte = (h1 << 4) | h2;
+			int keis_lo_byte = (l1 << 4) | l2;
 
 			/*
 			 * 上位/下位バイトの開始位置からのオフセットインデックス算出
 			 * (KEIS上位/下位バイト範囲:A1(161)～FE(254) -> 00(0)～5D(93))
 			 */
-			int index_hb = keis_hi_byte - 161;
-			int index_lb = keis_lo_byte - 161;
-			int index = (index_hb * 94) + index_lb;
-
-			// 1byte目変換
-			int rhb = 0;
-			rhb += KEIS83_SJIS_MAP_UPPER[index / KEIS83_SJIS_MAP_LOWER.length];
-
-			// 2byte目変換
-			int rlb = 0;
-			rlb += KEIS83_SJIS_MAP_LOWER[index - ((index / KEIS83_SJIS_MAP_LOWER.length) * KEIS83_SJIS_MAP_LOWER.length)];
-
-			// 文字列変換
-			byte[] bs = new byte[2];
-			bs[0] = (byte) rhb;
-			bs[1] = (byte) rlb;
-			String value = "";
-			try {
-				//value = new String(bs, "Windows-31J");
-				value = new String(bs, "Shift_JIS");
-			} catch (UnsupportedEncodingException e) {
-				throw new IllegalArgumentException(hex, e);
-			}
-
-			/*
-			 * UnicodeチルダとWindows-31Jチルダ置換
-			 */
-			if ("〜".equals(value)) {
-				value = "～";
+			int index_hb = keis_hi_byte - KEIS83_BASE;
+			int index_lb = keis_lo_byte - KEIS83_BASE;
+			int index = (index_hb * KEIS83_CELLS) + index_lb;
+
+			// ↓パフォーマンスチューニング(SJIS経由の文字列変換をデコードテーブル参照に変更)
+			//// 1byte目変換
+			//int rhb = 0;
+			//rhb += KEIS83_SJIS_MAP_UPPER[index / KEIS83_SJIS_MAP_LOWER.length];
+			//
+			//// 2byte目変換
+			//int rlb = 0;
+			//rlb += KEIS83_SJIS_MAP_LOWER[index - ((index / KEIS83_SJIS_MAP_LOWER.length) * KEIS83_SJIS_MAP_LOWER.length)];
+			//
+			//// 文字列変換
+			//byte[] bs = new byte[2];
+			//bs[0] = (byte) rhb;
+			//bs[1] = (byte) rlb;
+			//String value = "";
+			//try {
+			//	//value = new String(bs, "Windows-31J");
+			//	value = new String(bs, "Shift_JIS");
+			//} catch (UnsupportedEncodingException e) {
+			//	throw new IllegalArgumentException(hex, e);
+			//}
+			//
+			///*
+			// * UnicodeチルダとWindows-31Jチルダ置換
+			// */
+			//if ("〜".equals(value)) {
+			//	value = "～";
+			//}
+			//
+			//return value.charAt(0);
+			if (index < 0 || index > KEIS83_CHARS.length - 1) {
+				throw new IllegalArgumentException(hex);
 			}
-
-			return value.charAt(0);
+			return KEIS83_CHARS[index];
 		} catch (Throwable e) {
 			throw new IllegalArgumentException(hex, e);
 		}
 	}
 
+	/**
+	 * 文字をKEIS83文字の16進コード(大文字4桁)にエンコードして提供します。<br>
+	 * {@link #decodeKEIS83Character(String)}の逆変換となり、エンコードテーブル参照のみで変換が行われます。<br>
+	 * 全角スペースは"A1A1"、Unicodeチルダ(〜)はWindows-31Jチルダ(～)と同一のコードに変換されます。<br>
+	 * @param c 対象文字
+	 * @return KEIS83文字の16進コード表記文字列
+	 * @throws IllegalArgumentException KEIS83コードに対応する文字ではない場合にスローされます
+	 */
+	public static String encodeKEIS83Character(char c) {
+		int code = KEIS83_CODES[c];
+		if (code == 0) {
+			throw new IllegalArgumentException("'" + c + "' is not KEIS83 character");
+		}
+		return HexCodec.encodeToString(new byte[] { (byte) (code >> 8), (byte) code }, 0, 2, true);
+	}
+
+	/**
+	 * 文字がKEIS83コードにエンコード可能であるか判定します。<br>
+	 * @param c 対象文字
+	 * @return {@link #encodeKEIS83Character(char)}でエンコード可能な場合にtrueを返却
+	 */
+	public static boolean isKEIS83Character(char c) {
+		return KEIS83_CODES[c] != 0;
+	}
+
+	/**
+	 * KEIS83コードの上位/下位バイト値をデコードした文字を提供します。<br>
+	 * {@link #decodeKEIS83Character(String)}と同一のデコードテーブルを、16進コード表記文字列を介さずに参照します。<br>
+	 * @param hi 上位バイト値
+	 * @param lo 下位バイト値
+	 * @return デコードした文字(対応する文字がない場合はU+FFFD)
+	 * @throws IllegalArgumentException デコードテーブルの範囲外のコードである場合にスローされます
+	 */
+	public static char decodeKEIS83Character(int hi, int lo) {
+		int index = (hi - KEIS83_BASE) * KEIS83_CELLS + (lo - KEIS83_BASE);
+		if (index < 0 || index > KEIS83_CHARS.length - 1) {
+			throw new IllegalArgumentException("Invalid KEIS83 code (" + hi + ", " + lo + ")");
+		}
+		return KEIS83_CHARS[index];
+	}
+
+	/**
+	 * 文字をKEIS83コードの数値にエンコードして提供します。<br>
+	 * {@link #encodeKEIS83Character(char)}と同一のエンコードテーブルを参照し、16進コード表記文字列を生成せずに変換します。<br>
+	 * @param c 対象文字
+	 * @return KEIS83コード(上位バイト &lt;&lt; 8 | 下位バイト)、対応するコードがない場合は-1
+	 */
+	public static int encodeKEIS83Code(char c) {
+		int code = KEIS83_CODES[c];
+		return code == 0 ? -1 : code;
+	}
+
 	/**
 	 * KEIS83文字列の16進コードをデコードして提供します。<br>
 	 * @param hex KEIS83文字の16進コード表記文字列
@@ -4982,4 +5353,36 @@ public final class StringUtil {
 			return decodeKEIS83(hex, type, false);
 		}
 	}
+
+	/**
+	 * 文字列をKEIS83文字列の16進コード(大文字)にエンコードして提供します。<br>
+	 * {@link #decodeKEIS83(String, EBCDICType, boolean)}の逆変換となり、1バイトコードで表現可能な文字はEBCDICコードタイプの1バイトコード、それ以外の文字はKEIS83コード(外字を含む)に変換されます。<br>
+	 * シフト状態が変化する箇所にはシフトコード(シフトアウト:28、シフトイン:29)が挿入され、末尾では初期シフト状態に戻すシフトコードが出力されます。<br>
+	 * 変換できない文字は1バイトコードの代替文字(6F:?)に変換されます。<br>
+	 * nullが指定された場合は空文字列を返却します。<br>
+	 * @param value 対象文字列
+	 * @param type EBCDICコードタイプ
+	 * @param so エンコード処理時にシフトアウト状態で開始する場合にtrueを指定
+	 * @return KEIS83文字の16進コード表記文字列
+	 * @see org.ideaccum.libs.commons.util.charset.HostStringEncoder
+	 */
+	public static String encodeKEIS83(String value, EBCDICType type, boolean so) {
+		if (isEmpty(value)) {
+			return EMPTY;
+		}
+		byte[] bytes = new HostStringEncoder(new KEIS83Charset(type, so)).encode(value);
+		return HexCodec.encodeToString(bytes, 0, bytes.length, true);
+	}
+
+	/**
+	 * 文字列をKEIS83文字列の16進コード(大文字)にエンコードして提供します。<br>
+	 * エンコード処理はシフトイン状態で開始されます。<br>
+	 * @param value 対象文字列
+	 * @param type EBCDICコードタイプ
+	 * @return KEIS83文字の16進コード表記文字列
+	 * @see #encodeKEIS83(String, EBCDICType, boolean)
+	 */
+	public static String encodeKEIS83(String value, EBCDICType type) {
+		return encodeKEIS83(value, type, false);
+	}
 }
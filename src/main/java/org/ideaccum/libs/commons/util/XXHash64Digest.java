@@ -0,0 +1,291 @@
+package org.ideaccum.libs.commons.util;
+
+/**
+ * xxHash64による非暗号学的ハッシュ値の計算処理を提供します。<br>
+ * <p>
+ * ファイルの変更検知や重複排除等、改竄耐性を必要としない用途で、暗号学的ハッシュアルゴリズムよりも高速にハッシュ値を計算する場合に利用します。<br>
+ * このクラスは{@link java.security.MessageDigest}として実装されており、{@link org.ideaccum.libs.commons.util.HashUtil}ではアルゴリズム名{@link org.ideaccum.libs.commons.util.HashUtil#XXHASH64}で利用することが出来ます。<br>
+ * ダイジェストはハッシュ値をビッグエンディアンで表現した8バイトのバイト配列となります。<br>
+ * </p>
+ * <p>
+ * このクラスのインスタンスはスレッドセーフではありません。バイト配列全体のハッシュ値を計算する場合は{@link #hash(byte[], int, int, long)}を利用して下さい。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public final class XXHash64Digest extends FastDigest {
+
+	/** 素数定数1 */
+	private static final long PRIME1 = 0x9E3779B185EBCA87L;
+
+	/** 素数定数2 */
+	private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+
+	/** 素数定数3 */
+	private static final long PRIME3 = 0x165667B19E3779F9L;
+
+	/** 素数定数4 */
+	private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+
+	/** 素数定数5 */
+	private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+	/** ストライプバイト長 */
+	private static final int STRIPE = 32;
+
+	/** シード値 */
+	private final long seed;
+
+	/** 累積値1 */
+	private long v1;
+
+	/** 累積値2 */
+	private long v2;
+
+	/** 累積値3 */
+	private long v3;
+
+	/** 累積値4 */
+	private long v4;
+
+	/** ストライプ未満の未処理バイト */
+	private final byte[] buffer;
+
+	/** 未処理バイト数 */
+	private int buffered;
+
+	/** 入力済バイト数 */
+	private long total;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param seed シード値
+	 */
+	public XXHash64Digest(long seed) {
+		super(HashUtil.XXHASH64);
+		this.seed = seed;
+		this.buffer = new byte[STRIPE];
+		engineReset();
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * シード値は0となります。<br>
+	 */
+	public XXHash64Digest() {
+		this(0);
+	}
+
+	/**
+	 * バイト配列の指定範囲のハッシュ値を計算します。<br>
+	 * @param data バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @param seed シード値
+	 * @return ハッシュ値
+	 */
+	public static long hash(byte[] data, int offset, int length, long seed) {
+		checkRange(data, offset, length);
+		int end = offset + length;
+		long h;
+		if (length >= STRIPE) {
+			long a1 = seed + PRIME1 + PRIME2;
+			long a2 = seed + PRIME2;
+			long a3 = seed;
+			long a4 = seed - PRIME1;
+			int limit = end - STRIPE;
+			while (offset <= limit) {
+				a1 = round(a1, getLongLE(data, offset));
+				a2 = round(a2, getLongLE(data, offset + 8));
+				a3 = round(a3, getLongLE(data, offset + 16));
+				a4 = round(a4, getLongLE(data, offset + 24));
+				offset += STRIPE;
+			}
+			h = converge(a1, a2, a3, a4);
+		} else {
+			h = seed + PRIME5;
+		}
+		h += length;
+		return finish(h, data, offset, end);
+	}
+
+	/**
+	 * バイト配列全体のハッシュ値を計算します。<br>
+	 * シード値は0となります。<br>
+	 * @param data バイト配列
+	 * @return ハッシュ値
+	 */
+	public static long hash(byte[] data) {
+		return hash(data, 0, data.length, 0);
+	}
+
+	/**
+	 * 累積値に8バイトの入力を反映します。<br>
+	 * @param acc 累積値
+	 * @param input 入力値
+	 * @return 累積値
+	 */
+	private static long round(long acc, long input) {
+		acc += input * PRIME2;
+		acc = Long.rotateLeft(acc, 31);
+		return acc * PRIME1;
+	}
+
+	/**
+	 * 累積値をハッシュ値に合成します。<br>
+	 * @param acc ハッシュ値
+	 * @param value 累積値
+	 * @return ハッシュ値
+	 */
+	private static long merge(long acc, long value) {
+		acc ^= round(0, value);
+		return acc * PRIME1 + PRIME4;
+	}
+
+	/**
+	 * 4つの累積値を1つのハッシュ値に集約します。<br>
+	 * @param a1 累積値1
+	 * @param a2 累積値2
+	 * @param a3 累積値3
+	 * @param a4 累積値4
+	 * @return ハッシュ値
+	 */
+	private static long converge(long a1, long a2, long a3, long a4) {
+		long h = Long.rotateLeft(a1, 1) + Long.rotateLeft(a2, 7) + Long.rotateLeft(a3, 12) + Long.rotateLeft(a4, 18);
+		h = merge(h, a1);
+		h = merge(h, a2);
+		h = merge(h, a3);
+		return merge(h, a4);
+	}
+
+	/**
+	 * ストライプ未満の残りのバイトを反映し、ハッシュ値を攪拌して確定します。<br>
+	 * @param h ハッシュ値
+	 * @param data バイト配列
+	 * @param offset 残りバイトの開始位置
+	 * @param end 残りバイトの終了位置(この位置を含まない)
+	 * @return ハッシュ値
+	 */
+	private static long finish(long h, byte[] data, int offset, int end) {
+		while (offset + 8 <= end) {
+			h ^= round(0, getLongLE(data, offset));
+			h = Long.rotateLeft(h, 27) * PRIME1 + PRIME4;
+			offset += 8;
+		}
+		if (offset + 4 <= end) {
+			h ^= (getIntLE(data, offset) & 0xFFFFFFFFL) * PRIME1;
+			h = Long.rotateLeft(h, 23) * PRIME2 + PRIME3;
+			offset += 4;
+		}
+		while (offset < end) {
+			h ^= (data[offset] & 0xFFL) * PRIME5;
+			h = Long.rotateLeft(h, 11) * PRIME1;
+			offset++;
+		}
+		h ^= h >>> 33;
+		h *= PRIME2;
+		h ^= h >>> 29;
+		h *= PRIME3;
+		h ^= h >>> 32;
+		return h;
+	}
+
+	/**
+	 * バイト配列の指定範囲でダイジェストを更新します。<br>
+	 * @param input バイト配列
+	 * @param offset 開始位置
+	 * @param length バイト長
+	 * @see java.security.MessageDigestSpi#engineUpdate(byte[], int, int)
+	 */
+	@Override
+	protected void engineUpdate(byte[] input, int offset, int length) {
+		total += length;
+		if (buffered + length < STRIPE) {
+			System.arraycopy(input, offset, buffer, buffered, length);
+			buffered += length;
+			return;
+		}
+		int end = offset + length;
+		long a1 = v1;
+		long a2 = v2;
+		long a3 = v3;
+		long a4 = v4;
+		if (buffered > 0) {
+			int fill = STRIPE - buffered;
+			System.arraycopy(input, offset, buffer, buffered, fill);
+			a1 = round(a1, getLongLE(buffer, 0));
+			a2 = round(a2, getLongLE(buffer, 8));
+			a3 = round(a3, getLongLE(buffer, 16));
+			a4 = round(a4, getLongLE(buffer, 24));
+			offset += fill;
+			buffered = 0;
+		}
+		int limit = end - STRIPE;
+		while (offset <= limit) {
+			a1 = round(a1, getLongLE(input, offset));
+			a2 = round(a2, getLongLE(input, offset + 8));
+			a3 = round(a3, getLongLE(input, offset + 16));
+			a4 = round(a4, getLongLE(input, offset + 24));
+			offset += STRIPE;
+		}
+		v1 = a1;
+		v2 = a2;
+		v3 = a3;
+		v4 = a4;
+		if (offset < end) {
+			buffered = end - offset;
+			System.arraycopy(input, offset, buffer, 0, buffered);
+		}
+	}
+
+	/**
+	 * ダイジェストを確定して取得します。<br>
+	 * 取得後は初期状態に戻ります。<br>
+	 * @return ハッシュ値をビッグエンディアンで表現した8バイトのバイト配列
+	 * @see java.security.MessageDigestSpi#engineDigest()
+	 */
+	@Override
+	protected byte[] engineDigest() {
+		long value = getValue();
+		engineReset();
+		return toBytesBE(value, 8);
+	}
+
+	/**
+	 * ダイジェストの長さを取得します。<br>
+	 * @return ダイジェストのバイト長
+	 * @see java.security.MessageDigestSpi#engineGetDigestLength()
+	 */
+	@Override
+	protected int engineGetDigestLength() {
+		return 8;
+	}
+
+	/**
+	 * ダイジェストを初期状態に戻します。<br>
+	 * @see java.security.MessageDigestSpi#engineReset()
+	 */
+	@Override
+	protected void engineReset() {
+		v1 = seed + PRIME1 + PRIME2;
+		v2 = seed + PRIME2;
+		v3 = seed;
+		v4 = seed - PRIME1;
+		buffered = 0;
+		total = 0;
+	}
+
+	/**
+	 * 現在までの入力に対するハッシュ値を取得します。<br>
+	 * このメソッドは状態を変更しない為、入力を継続することが出来ます。<br>
+	 * @return ハッシュ値
+	 */
+	public long getValue() {
+		long h = total >= STRIPE ? converge(v1, v2, v3, v4) : seed + PRIME5;
+		h += total;
+		return finish(h, buffer, 0, buffered);
+	}
+}
@@ -1,6 +1,5 @@
 package org.ideaccum.libs.commons.util;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -26,6 +25,7 @@ import net.lingala.zip4j.util.Zip4jConstants;
  * 2007/05/24  Kitagawa         Zipファイル解凍インタフェースの追加
  * 2018/05/16  Kitagawa         再構築(SourceForge.jpからGitHubへの移行に併せて全面改訂)
  * 2019/04/28  Kitagawa         Zip操作ユーティリティを標準JavaAPI、Apache、Zip4jの3種類としていたが、Zip4jのみに限定
+ * 2026/10/18  Kitagawa         入出力バッファをByteBufferPoolから借りるように変更
  *-->
  */
 public final class ZipUtil {
@@ -150,11 +150,24 @@ public final class ZipUtil {
 					fos.flush();
 					fos.close();
 					zos.putNextEntry(tempFile, (ZipParameters) baseParameters.clone());
+					// ↓パフォーマンスチューニング(エントリ毎のバッファ生成を排除しByteBufferPoolから借りたバッファを利用)
+					//int count;
+					//byte[] bytes = new byte[BYTE_LENGTH];
+					//BufferedInputStream bis = new BufferedInputStream(new FileInputStream(tempFile));
+					//while ((count = bis.read(bytes, 0, BYTE_LENGTH)) != -1) {
+					//	zos.write(bytes, 0, count);
+					//}
 					int count;
-					byte[] bytes = new byte[BYTE_LENGTH];
-					BufferedInputStream bis = new BufferedInputStream(new FileInputStream(tempFile));
-					while ((count = bis.read(bytes, 0, BYTE_LENGTH)) != -1) {
-						zos.write(bytes, 0, count);
+					ByteBufferPool pool = ByteBufferPool.getShared();
+					byte[] bytes = pool.borrowArray(Math.max(BYTE_LENGTH, StreamUtil.TRANSFER_BUFFER_SIZE));
+					FileInputStream fis = new FileInputStream(tempFile);
+					try {
+						while ((count = fis.read(bytes, 0, bytes.length)) != -1) {
+							zos.write(bytes, 0, count);
+						}
+					} finally {
+						fis.close();
+						pool.releaseArray(bytes);
 					}
 					zos.closeEntry();
 				} finally {
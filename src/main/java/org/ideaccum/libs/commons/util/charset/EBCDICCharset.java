@@ -0,0 +1,186 @@
+package org.ideaccum.libs.commons.util.charset;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+import org.ideaccum.libs.commons.util.StringUtil.EBCDICType;
+
+/**
+ * EBCDIC及び、EBCDIKの1バイトコードに対するキャラクタセット実装を提供します。<br>
+ * <p>
+ * 各バイト値の変換仕様は{@link org.ideaccum.libs.commons.util.StringUtil#decodeEBCDICCharacter(String)}及び、
+ * {@link org.ideaccum.libs.commons.util.StringUtil#decodeEBCDIKCharacter(String)}に準拠します。<br>
+ * キャラクタセット名は{@link org.ideaccum.libs.commons.util.StringUtil.EBCDICType#getType()}の値("EBCDIC"、"EBCDIK")となります。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class EBCDICCharset extends Charset {
+
+	/** 代替文字コード(?) */
+	static final byte REPLACEMENT = 0x6F;
+
+	/** EBCDICコードタイプ */
+	private EBCDICType type;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param type EBCDICコードタイプ
+	 */
+	public EBCDICCharset(EBCDICType type) {
+		super(type.getType(), null);
+		this.type = type;
+	}
+
+	/**
+	 * EBCDICコードタイプを取得します。<br>
+	 * @return EBCDICコードタイプ
+	 */
+	public EBCDICType getType() {
+		return type;
+	}
+
+	/**
+	 * 指定されたキャラクタセットがこのキャラクタセットに含まれるか判定します。<br>
+	 * @param cs 対象キャラクタセット
+	 * @return このキャラクタセットに含まれる場合にtrueを返却
+	 * @see java.nio.charset.Charset#contains(java.nio.charset.Charset)
+	 */
+	@Override
+	public boolean contains(Charset cs) {
+		return cs instanceof EBCDICCharset && type.equals(((EBCDICCharset) cs).type);
+	}
+
+	/**
+	 * このキャラクタセットのデコーダーを生成します。<br>
+	 * @return デコーダー
+	 * @see java.nio.charset.Charset#newDecoder()
+	 */
+	@Override
+	public CharsetDecoder newDecoder() {
+		return new Decoder(this, type);
+	}
+
+	/**
+	 * このキャラクタセットのエンコーダーを生成します。<br>
+	 * @return エンコーダー
+	 * @see java.nio.charset.Charset#newEncoder()
+	 */
+	@Override
+	public CharsetEncoder newEncoder() {
+		return new Encoder(this, type);
+	}
+
+	/**
+	 * EBCDIC1バイトコードのデコーダークラス<br>
+	 */
+	private static class Decoder extends CharsetDecoder {
+
+		/** EBCDICコードタイプ */
+		private EBCDICType type;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param charset キャラクタセット
+		 * @param type EBCDICコードタイプ
+		 */
+		private Decoder(Charset charset, EBCDICType type) {
+			super(charset, 1.0f, 1.0f);
+			this.type = type;
+		}
+
+		/**
+		 * バイトデータを文字データにデコードします。<br>
+		 * @param in 入力バイトバッファ
+		 * @param out 出力文字バッファ
+		 * @return 処理結果
+		 * @see java.nio.charset.CharsetDecoder#decodeLoop(java.nio.ByteBuffer, java.nio.CharBuffer)
+		 */
+		@Override
+		protected CoderResult decodeLoop(ByteBuffer in, CharBuffer out) {
+			int position = in.position();
+			try {
+				while (position < in.limit()) {
+					char c = HostCodeTable.sbcs(type, in.get(position) & 0xFF);
+					if (c == '\uFFFD') {
+						return CoderResult.unmappableForLength(1);
+					}
+					if (!out.hasRemaining()) {
+						return CoderResult.OVERFLOW;
+					}
+					out.put(c);
+					position++;
+				}
+				return CoderResult.UNDERFLOW;
+			} finally {
+				in.position(position);
+			}
+		}
+	}
+
+	/**
+	 * EBCDIC1バイトコードのエンコーダークラス<br>
+	 */
+	private static class Encoder extends CharsetEncoder {
+
+		/** EBCDICコードタイプ */
+		private EBCDICType type;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param charset キャラクタセット
+		 * @param type EBCDICコードタイプ
+		 */
+		private Encoder(Charset charset, EBCDICType type) {
+			super(charset, 1.0f, 1.0f, new byte[] { REPLACEMENT });
+			this.type = type;
+		}
+
+		/**
+		 * 文字データがエンコード可能であるか判定します。<br>
+		 * @param c 対象文字
+		 * @return エンコード可能な場合にtrueを返却
+		 * @see java.nio.charset.CharsetEncoder#canEncode(char)
+		 */
+		@Override
+		public boolean canEncode(char c) {
+			return HostCodeTable.sbcsByte(type, c) >= 0;
+		}
+
+		/**
+		 * 文字データをバイトデータにエンコードします。<br>
+		 * @param in 入力文字バッファ
+		 * @param out 出力バイトバッファ
+		 * @return 処理結果
+		 * @see java.nio.charset.CharsetEncoder#encodeLoop(java.nio.CharBuffer, java.nio.ByteBuffer)
+		 */
+		@Override
+		protected CoderResult encodeLoop(CharBuffer in, ByteBuffer out) {
+			int position = in.position();
+			try {
+				while (position < in.limit()) {
+					char c = in.get(position);
+					int b = HostCodeTable.sbcsByte(type, c);
+					if (b < 0) {
+						return HostCodeTable.unmappable(in, position);
+					}
+					if (!out.hasRemaining()) {
+						return CoderResult.OVERFLOW;
+					}
+					out.put((byte) b);
+					position++;
+				}
+				return CoderResult.UNDERFLOW;
+			} finally {
+				in.position(position);
+			}
+		}
+	}
+}
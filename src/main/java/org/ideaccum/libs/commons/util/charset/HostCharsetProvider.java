@@ -0,0 +1,98 @@
+package org.ideaccum.libs.commons.util.charset;
+
+import java.nio.charset.Charset;
+import java.nio.charset.spi.CharsetProvider;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ideaccum.libs.commons.util.StringUtil.EBCDICType;
+
+/**
+ * ホスト系文字コードのキャラクタセットプロバイダーを提供します。<br>
+ * <p>
+ * META-INF/services/java.nio.charset.spi.CharsetProviderに登録されることで、以下のキャラクタセットを{@link java.nio.charset.Charset#forName(String)}から利用可能とします。<br>
+ * <ul>
+ * <li>EBCDIC</li>
+ * <li>EBCDIK</li>
+ * <li>KEIS83-EBCDIC</li>
+ * <li>KEIS83-EBCDIC-SO</li>
+ * <li>KEIS83-EBCDIK(別名:KEIS83)</li>
+ * <li>KEIS83-EBCDIK-SO</li>
+ * </ul>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class HostCharsetProvider extends CharsetProvider {
+
+	/** キャラクタセット(正規名、別名→キャラクタセット) */
+	private static final Map<String, Charset> CHARSETS;
+
+	/** 提供キャラクタセット */
+	private static final Map<String, Charset> CANONICALS;
+
+	static {
+		Map<String, Charset> charsets = new LinkedHashMap<>();
+		Map<String, Charset> canonicals = new LinkedHashMap<>();
+		for (EBCDICType type : EBCDICType.values()) {
+			register(charsets, canonicals, new EBCDICCharset(type));
+		}
+		for (EBCDICType type : EBCDICType.values()) {
+			register(charsets, canonicals, new KEIS83Charset(type, false));
+			register(charsets, canonicals, new KEIS83Charset(type, true));
+		}
+		CHARSETS = Collections.unmodifiableMap(charsets);
+		CANONICALS = Collections.unmodifiableMap(canonicals);
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	public HostCharsetProvider() {
+		super();
+	}
+
+	/**
+	 * キャラクタセットを登録します。<br>
+	 * キャラクタセット名は大文字小文字を区別せずに検索される為、大文字に変換したキーで登録します。<br>
+	 * @param charsets キャラクタセット名マップ
+	 * @param canonicals 正規名マップ
+	 * @param charset キャラクタセット
+	 */
+	private static void register(Map<String, Charset> charsets, Map<String, Charset> canonicals, Charset charset) {
+		canonicals.put(charset.name(), charset);
+		charsets.put(charset.name().toUpperCase(), charset);
+		for (String alias : charset.aliases()) {
+			charsets.put(alias.toUpperCase(), charset);
+		}
+	}
+
+	/**
+	 * 提供するキャラクタセットを取得します。<br>
+	 * @return キャラクタセットイテレーター
+	 * @see java.nio.charset.spi.CharsetProvider#charsets()
+	 */
+	@Override
+	public Iterator<Charset> charsets() {
+		return CANONICALS.values().iterator();
+	}
+
+	/**
+	 * キャラクタセット名(正規名又は、別名)からキャラクタセットを取得します。<br>
+	 * @param charsetName キャラクタセット名
+	 * @return キャラクタセット、提供していないキャラクタセット名の場合はnull
+	 * @see java.nio.charset.spi.CharsetProvider#charsetForName(java.lang.String)
+	 */
+	@Override
+	public Charset charsetForName(String charsetName) {
+		if (charsetName == null) {
+			return null;
+		}
+		return CHARSETS.get(charsetName.toUpperCase());
+	}
+}
@@ -0,0 +1,235 @@
+package org.ideaccum.libs.commons.util.charset;
+
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.ideaccum.libs.commons.util.PropertiesUtil;
+import org.ideaccum.libs.commons.util.StringUtil;
+import org.ideaccum.libs.commons.util.StringUtil.EBCDICType;
+
+/**
+ * ホスト文字コードとユニコード文字の変換テーブルを提供します。<br>
+ * <p>
+ * 1バイトコードのテーブルはクラス初期化時に{@link org.ideaccum.libs.commons.util.StringUtil#decodeEBCDICCharacter(String)}、
+ * {@link org.ideaccum.libs.commons.util.StringUtil#decodeEBCDIKCharacter(String)}の結果から一度だけ構築され、以降の変換は配列参照のみで行われます。<br>
+ * 2バイトコードは{@link org.ideaccum.libs.commons.util.StringUtil#decodeKEIS83Character(int, int)}、{@link org.ideaccum.libs.commons.util.StringUtil#encodeKEIS83Code(char)}の変換テーブルをそのまま参照します。<br>
+ * 外字については{@link org.ideaccum.libs.commons.util.StringUtil}と同一の外字定義リソースを利用し、KEIS83コードに対応しない外字文字のみを逆変換テーブルとして保持します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+final class HostCodeTable {
+
+	/** シフトアウトコード */
+	static final int SO = 0x28;
+
+	/** シフトアウトコード(代替) */
+	static final int SO_ALT = 0x38;
+
+	/** シフトインコード */
+	static final int SI = 0x29;
+
+	/** 機能キャラクタ先行コード */
+	static final int FUNCTION = 0x0A;
+
+	/** 全角スペースコード */
+	static final int DBCS_SPACE = 0xA1A1;
+
+	/** 不明なレガシー全角文字 */
+	static final char UNKNOWN_DBCS = StringUtil.UNKOWN_LERGACY_JCHAR.charAt(0);
+
+	/** KEIS83コード上位/下位バイト開始値 */
+	private static final int DBCS_BASE = 0xA1;
+
+	/** KEIS83コード区点数 */
+	private static final int DBCS_CELLS = 94;
+
+	/** 外字定義リソースパス */
+	private static final String GAIJI_RESOURCE = "/" + StringUtil.class.getPackage().getName().replace('.', '/') + "/StringUtil-EBCDIK-Gaiji.properties";
+
+	/** 1バイトコード変換テーブル(EBCDICType毎、バイト値→文字) */
+	private static final char[][] SBCS_CHARS = new char[EBCDICType.values().length][];
+
+	/** 1バイトコード逆変換テーブル(EBCDICType毎、文字→バイト値、未定義は-1) */
+	private static final short[][] SBCS_BYTES = new short[EBCDICType.values().length][];
+
+	/** 外字マップ(コード値→文字列) */
+	private static final Map<Integer, String> GAIJI;
+
+	/** 外字逆変換テーブルの文字(昇順) */
+	private static final char[] GAIJI_CHARS;
+
+	/** 外字逆変換テーブルのコード値(外字逆変換テーブルの文字と同一の順序) */
+	private static final int[] GAIJI_CODES;
+
+	static {
+		for (EBCDICType type : EBCDICType.values()) {
+			char[] chars = new char[256];
+			short[] bytes = new short[Character.MAX_VALUE + 1];
+			for (int i = 0; i <= bytes.length - 1; i++) {
+				bytes[i] = -1;
+			}
+			for (int b = 0; b <= chars.length - 1; b++) {
+				String hex = StringUtil.toHex((byte) b);
+				chars[b] = EBCDICType.EBCDIC.equals(type) ? StringUtil.decodeEBCDICCharacter(hex) : StringUtil.decodeEBCDIKCharacter(hex);
+				if (chars[b] != '\uFFFD' && bytes[chars[b]] < 0) {
+					bytes[chars[b]] = (short) b;
+				}
+			}
+			SBCS_CHARS[type.ordinal()] = chars;
+			SBCS_BYTES[type.ordinal()] = bytes;
+		}
+
+		GAIJI = new TreeMap<>();
+		try {
+			Properties properties = PropertiesUtil.load(GAIJI_RESOURCE);
+			for (Object key : properties.keySet()) {
+				GAIJI.put(Integer.parseInt((String) key, 16), properties.getProperty((String) key));
+			}
+		} catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+
+		Map<Character, Integer> codes = new TreeMap<>();
+		for (Map.Entry<Integer, String> entry : GAIJI.entrySet()) {
+			int code = entry.getKey();
+			String value = entry.getValue();
+			if (value.length() == 1 && StringUtil.encodeKEIS83Code(value.charAt(0)) < 0 && !codes.containsKey(value.charAt(0)) && value.equals(gaiji(code >> 8, code & 0xFF))) {
+				codes.put(value.charAt(0), code);
+			}
+		}
+		GAIJI_CHARS = new char[codes.size()];
+		GAIJI_CODES = new int[codes.size()];
+		int index = 0;
+		for (Map.Entry<Character, Integer> entry : codes.entrySet()) {
+			GAIJI_CHARS[index] = entry.getKey();
+			GAIJI_CODES[index] = entry.getValue();
+			index++;
+		}
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 */
+	private HostCodeTable() {
+		super();
+	}
+
+	/**
+	 * 1バイトコードを文字に変換します。<br>
+	 * @param type EBCDICコードタイプ
+	 * @param b バイト値(0x00～0xFF)
+	 * @return 変換後文字(対応する文字がない場合はU+FFFD)
+	 */
+	static char sbcs(EBCDICType type, int b) {
+		return SBCS_CHARS[type.ordinal()][b];
+	}
+
+	/**
+	 * 文字を1バイトコードに変換します。<br>
+	 * @param type EBCDICコードタイプ
+	 * @param c 対象文字
+	 * @return バイト値、対応するコードがない場合は-1
+	 */
+	static int sbcsByte(EBCDICType type, char c) {
+		return SBCS_BYTES[type.ordinal()][c];
+	}
+
+	/**
+	 * シフトイン状態において1バイトコードとして扱われるコードであるか判定します。<br>
+	 * @param b バイト値(0x00～0xFF)
+	 * @return 1バイトコードとして扱われる場合にtrueを返却
+	 */
+	static boolean isSingleByteCode(int b) {
+		return true //
+				&& !(b >= 0x00 && b <= 0x30) //
+				&& !(b == 0x41) //
+				&& !(b >= 0xB8 && b <= 0xBF) //
+				&& !(b >= 0xCA && b <= 0xCF) //
+				&& !(b >= 0xDA && b <= 0xDF) //
+				&& !(b == 0xE1) //
+				&& !(b >= 0xEA && b <= 0xEF) //
+				&& !(b >= 0xFA && b <= 0xFF) //
+		;
+	}
+
+	/**
+	 * シフトアウト状態における2バイトコードの外字文字列を取得します。<br>
+	 * 外字範囲外のコードである場合はnullを返却します。<br>
+	 * @param hi 上位バイト値(0x00～0xFF)
+	 * @param lo 下位バイト値(0x00～0xFF)
+	 * @return 外字文字列、外字定義が存在しない場合は{@link #UNKNOWN_DBCS}
+	 */
+	static String gaiji(int hi, int lo) {
+		boolean range = false //
+				|| (hi >= 0x41 && hi <= 0xA0 && lo >= 0xA1 && lo <= 0xFE) //
+				|| (hi >= 0x41 && hi <= 0xFE && lo >= 0x00 && lo <= 0x0A) //
+				|| (hi == 0xFF || lo == 0xFF) //
+		;
+		if (!range) {
+			return null;
+		}
+		// 下位バイトが0x10未満の場合は外字定義キー(4桁)と一致しない
+		String value = lo >= 0x10 ? GAIJI.get((hi << 8) | lo) : null;
+		return value == null ? String.valueOf(UNKNOWN_DBCS) : value;
+	}
+
+	/**
+	 * シフトアウト状態における2バイトコードを文字に変換します。<br>
+	 * @param hi 上位バイト値(0x00～0xFF)
+	 * @param lo 下位バイト値(0x00～0xFF)
+	 * @return 変換後文字(対応する文字がない場合はU+FFFD)、KEIS83コードとして不正な場合は0
+	 */
+	static char dbcs(int hi, int lo) {
+		int index = (hi - DBCS_BASE) * DBCS_CELLS + (lo - DBCS_BASE);
+		if (index < 0 || index > DBCS_CELLS * DBCS_CELLS - 1) {
+			return 0;
+		}
+		return StringUtil.decodeKEIS83Character(hi, lo);
+	}
+
+	/**
+	 * 文字を2バイトコードに変換します。<br>
+	 * @param c 対象文字
+	 * @return コード値(上位バイト &lt;&lt; 8 | 下位バイト)、対応するコードがない場合は-1
+	 */
+	static int dbcsCode(char c) {
+		int code = StringUtil.encodeKEIS83Code(c);
+		if (code >= 0) {
+			return code;
+		}
+		int index = Arrays.binarySearch(GAIJI_CHARS, c);
+		return index < 0 ? -1 : GAIJI_CODES[index];
+	}
+
+	/**
+	 * 変換できない文字に対するエンコード処理結果を提供します。<br>
+	 * サロゲートペアの場合は2文字分の変換不可、単独のサロゲート文字の場合は不正入力として扱います。<br>
+	 * 上位サロゲート文字が入力バッファ末尾にある場合は後続の入力を待つ為にアンダーフローを返却します。<br>
+	 * @param in 入力文字バッファ
+	 * @param position 変換できない文字の位置
+	 * @return エンコード処理結果
+	 */
+	static CoderResult unmappable(CharBuffer in, int position) {
+		char c = in.get(position);
+		if (Character.isHighSurrogate(c)) {
+			if (position + 1 >= in.limit()) {
+				return CoderResult.UNDERFLOW;
+			}
+			if (Character.isLowSurrogate(in.get(position + 1))) {
+				return CoderResult.unmappableForLength(2);
+			}
+		}
+		if (Character.isSurrogate(c)) {
+			return CoderResult.malformedForLength(1);
+		}
+		return CoderResult.unmappableForLength(1);
+	}
+}
@@ -0,0 +1,246 @@
+package org.ideaccum.libs.commons.util.charset;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+import org.ideaccum.libs.commons.util.StringUtil.EBCDICType;
+
+/**
+ * 文字列をホスト文字コード(EBCDIC、EBCDIK、KEIS83)のバイトデータに変換するエンコーダーを提供します。<br>
+ * <p>
+ * 変換は{@link org.ideaccum.libs.commons.util.charset.EBCDICCharset}、{@link org.ideaccum.libs.commons.util.charset.KEIS83Charset}と同一の変換テーブルの参照のみで行われ、
+ * 呼び出し元が指定したバイト配列に直接出力する為、変換過程においてオブジェクト生成は行いません。<br>
+ * KEIS83コードの場合は1バイトコードで表現可能な文字を優先し、シフト状態が変化する箇所にシフトコード(シフトアウト:0x28、シフトイン:0x29)を挿入します。<br>
+ * 外字定義に含まれる文字は外字コードに逆変換されます。<br>
+ * 変換できない文字は1バイトコードの代替文字(0x6F:?)として出力されます。<br>
+ * </p>
+ * <p>
+ * 固定桁長での変換では、指定バイト長に収まる文字単位で切り捨てたうえで、項目末尾で初期シフト状態に戻すシフトコードを出力し、不足するバイトを0x40(スペース)で補完します。<br>
+ * 初期シフト状態がシフトアウト状態の場合、補完は2バイト単位(0x4040:全角スペース)となり、補完バイト長が奇数の場合は最終バイトをシフトインコードとします。<br>
+ * 下記は{@link org.ideaccum.libs.commons.io.LineOutputStream}を通じて固定桁長のKEIS83項目を出力する場合の実装例です。<br>
+ * </p>
+ * <code>
+ * HostStringEncoder encoder = new HostStringEncoder(Charset.forName("KEIS83-EBCDIK"));<br>
+ * LineOutputStream stream = new LineOutputStream(out, new LineRecordLength(40));<br>
+ * encoder.write("漢字ｶﾅ", stream, 40);<br>
+ * </code>
+ * <p>
+ * 尚、このクラスのインスタンスは出力用内部バッファを保持する為、{@link #write(CharSequence, OutputStream, int)}等の出力メソッドはスレッドセーフではありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class HostStringEncoder {
+
+	/** 補完スペースコード */
+	public static final byte SPACE = 0x40;
+
+	/** EBCDICコードタイプ */
+	private EBCDICType type;
+
+	/** KEIS83コード変換 */
+	private boolean keis;
+
+	/** 初期シフトアウト状態 */
+	private boolean so;
+
+	/** 出力用内部バッファ */
+	private byte[] buffer;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param charset 変換先キャラクタセット({@link org.ideaccum.libs.commons.util.charset.EBCDICCharset}又は、{@link org.ideaccum.libs.commons.util.charset.KEIS83Charset})
+	 */
+	public HostStringEncoder(Charset charset) {
+		super();
+		if (charset instanceof KEIS83Charset) {
+			this.type = ((KEIS83Charset) charset).getType();
+			this.keis = true;
+			this.so = ((KEIS83Charset) charset).isShiftOut();
+		} else if (charset instanceof EBCDICCharset) {
+			this.type = ((EBCDICCharset) charset).getType();
+			this.keis = false;
+			this.so = false;
+		} else {
+			throw new IllegalArgumentException("unsupported charset (" + charset + ")");
+		}
+		this.buffer = new byte[256];
+	}
+
+	/**
+	 * ホスト文字コードのキャラクタセットであるか判定します。<br>
+	 * @param charset キャラクタセット
+	 * @return このクラスで変換可能なキャラクタセットである場合にtrueを返却
+	 */
+	public static boolean isSupported(Charset charset) {
+		return charset instanceof KEIS83Charset || charset instanceof EBCDICCharset;
+	}
+
+	/**
+	 * 文字列を変換した際のバイト長(シフトコードを含む)を取得します。<br>
+	 * @param value 対象文字列
+	 * @return バイト長
+	 */
+	public int length(CharSequence value) {
+		return encode(value, null, 0, Integer.MAX_VALUE, false);
+	}
+
+	/**
+	 * 文字列を変換してバイト配列に出力します。<br>
+	 * 出力先には{@link #length(CharSequence)}のバイト長が必要です。<br>
+	 * @param value 対象文字列
+	 * @param dst 出力先バイト配列
+	 * @param off 出力先開始位置
+	 * @return 出力したバイト長
+	 */
+	public int encode(CharSequence value, byte[] dst, int off) {
+		return encode(value, dst, off, Integer.MAX_VALUE, false);
+	}
+
+	/**
+	 * 文字列を固定桁長で変換してバイト配列に出力します。<br>
+	 * 指定バイト長を超える場合は文字単位で切り捨て、不足するバイトは{@link #SPACE}で補完します。<br>
+	 * @param value 対象文字列
+	 * @param dst 出力先バイト配列
+	 * @param off 出力先開始位置
+	 * @param width 固定桁長(バイト長)
+	 * @return 変換した文字数(切り捨てが発生した場合は対象文字列長未満となります)
+	 */
+	public int encode(CharSequence value, byte[] dst, int off, int width) {
+		if (width < 0) {
+			throw new IllegalArgumentException("width < 0 (" + width + ")");
+		}
+		return encode(value, dst, off, width, true);
+	}
+
+	/**
+	 * 文字列を変換したバイト配列を提供します。<br>
+	 * @param value 対象文字列
+	 * @return 変換後バイト配列
+	 */
+	public byte[] encode(CharSequence value) {
+		byte[] bytes = new byte[length(value)];
+		encode(value, bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * 文字列を変換して出力ストリームに出力します。<br>
+	 * @param value 対象文字列
+	 * @param stream 出力ストリーム
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public void write(CharSequence value, OutputStream stream) throws IOException {
+		int length = encode(value, prepare(length(value)), 0);
+		stream.write(buffer, 0, length);
+	}
+
+	/**
+	 * 文字列を固定桁長で変換して出力ストリームに出力します。<br>
+	 * @param value 対象文字列
+	 * @param stream 出力ストリーム
+	 * @param width 固定桁長(バイト長)
+	 * @return 変換した文字数(切り捨てが発生した場合は対象文字列長未満となります)
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see #encode(CharSequence, byte[], int, int)
+	 */
+	public int write(CharSequence value, OutputStream stream, int width) throws IOException {
+		int count = encode(value, prepare(width), 0, width);
+		stream.write(buffer, 0, width);
+		return count;
+	}
+
+	/**
+	 * 出力用内部バッファを指定サイズ以上で提供します。<br>
+	 * @param size 必要サイズ
+	 * @return 出力用内部バッファ
+	 */
+	private byte[] prepare(int size) {
+		if (buffer.length < size) {
+			buffer = new byte[Math.max(size, buffer.length * 2)];
+		}
+		return buffer;
+	}
+
+	/**
+	 * 文字列を変換してバイト配列に出力します。<br>
+	 * @param value 対象文字列
+	 * @param dst 出力先バイト配列(nullの場合はバイト長の算出のみを行います)
+	 * @param off 出力先開始位置
+	 * @param width 出力上限バイト長
+	 * @param padding 出力上限バイト長まで補完する場合にtrueを指定
+	 * @return 補完する場合は変換した文字数、補完しない場合は出力したバイト長
+	 */
+	private int encode(CharSequence value, byte[] dst, int off, int width, boolean padding) {
+		int length = value == null ? 0 : value.length();
+		int p = 0;
+		int i = 0;
+		boolean state = so;
+		while (i < length) {
+			char c = value.charAt(i);
+			int chars = Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)) ? 2 : 1;
+			int code = chars == 1 ? HostCodeTable.sbcsByte(type, c) : -1;
+			boolean dbcs = false;
+			if (keis && code >= 0 && !HostCodeTable.isSingleByteCode(code)) {
+				code = -1;
+			}
+			if (code < 0 && keis && chars == 1) {
+				code = HostCodeTable.dbcsCode(c);
+				dbcs = code >= 0;
+			}
+			if (code < 0) {
+				code = EBCDICCharset.REPLACEMENT;
+			}
+
+			/*
+			 * 出力バイト長(シフトコード及び、初期シフト状態への復帰コードを含む)判定
+			 */
+			int shift = state != dbcs ? 1 : 0;
+			int size = shift + (dbcs ? 2 : 1) + (dbcs != so ? 1 : 0);
+			if (width - p < size) {
+				break;
+			}
+
+			/*
+			 * 出力
+			 */
+			if (dst != null) {
+				if (shift > 0) {
+					dst[off + p] = (byte) (dbcs ? HostCodeTable.SO : HostCodeTable.SI);
+				}
+				if (dbcs) {
+					dst[off + p + shift] = (byte) (code >> 8);
+					dst[off + p + shift + 1] = (byte) code;
+				} else {
+					dst[off + p + shift] = (byte) code;
+				}
+			}
+			p += shift + (dbcs ? 2 : 1);
+			state = dbcs;
+			i += chars;
+		}
+		if (state != so) {
+			if (dst != null) {
+				dst[off + p] = (byte) (so ? HostCodeTable.SO : HostCodeTable.SI);
+			}
+			p++;
+		}
+		if (!padding) {
+			return p;
+		}
+		if (dst != null) {
+			for (int j = p; j <= width - 1; j++) {
+				dst[off + j] = SPACE;
+			}
+			if (so && ((width - p) & 1) != 0) {
+				// シフトアウト状態で2バイトコードとならない端数バイトはシフトインコードとする
+				dst[off + width - 1] = (byte) HostCodeTable.SI;
+			}
+		}
+		return i;
+	}
+}
@@ -0,0 +1,422 @@
+package org.ideaccum.libs.commons.util.charset;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+import org.ideaccum.libs.commons.util.StringUtil.EBCDICType;
+
+/**
+ * KEIS83コードに対するキャラクタセット実装を提供します。<br>
+ * <p>
+ * シフトコード(シフトアウト:0x28、0x38、シフトイン:0x29)による1バイトコード(EBCDIC又は、EBCDIK)と2バイトコード(KEIS83)の切り替えを状態として保持しながら変換を行います。<br>
+ * 変換仕様は{@link org.ideaccum.libs.commons.util.StringUtil#decodeKEIS83(String, org.ideaccum.libs.commons.util.StringUtil.EBCDICType, boolean, boolean)}に準拠し、
+ * 機能キャラクタ(0x0A41、0x0A42)で囲まれた範囲の1バイトコード変換、全角スペース、外字定義による変換が行われます。<br>
+ * 但し、16進表記文字列に対するデコード処理で制御文字を"?"として出力していた箇所や変換不能な2バイトコードを読み飛ばしていた箇所は、
+ * {@link java.nio.charset.CharsetDecoder}の不正入力、変換不可として扱われ、{@link java.nio.charset.CodingErrorAction}の指定に従って処理されます。<br>
+ * エンコード時は1バイトコードで表現可能な文字を優先して1バイトコードとし、シフト状態が変化する箇所にシフトコードを出力します。<br>
+ * また、エンコード終了時には初期シフト状態に戻すシフトコードを出力します。<br>
+ * キャラクタセット名は"KEIS83-" + {@link org.ideaccum.libs.commons.util.StringUtil.EBCDICType#getType()}となり、初期シフト状態をシフトアウトとする場合は末尾に"-SO"が付与されます。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class KEIS83Charset extends Charset {
+
+	/** EBCDICコードタイプ */
+	private EBCDICType type;
+
+	/** 初期シフトアウト状態 */
+	private boolean so;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param type 1バイトコードのEBCDICコードタイプ
+	 * @param so 初期状態をシフトアウト状態(2バイトコード)とする場合にtrueを指定
+	 */
+	public KEIS83Charset(EBCDICType type, boolean so) {
+		super("KEIS83-" + type.getType() + (so ? "-SO" : ""), EBCDICType.EBCDIK.equals(type) && !so ? new String[] { "KEIS83" } : null);
+		this.type = type;
+		this.so = so;
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * 初期シフト状態はシフトイン状態(1バイトコード)となります。<br>
+	 * @param type 1バイトコードのEBCDICコードタイプ
+	 */
+	public KEIS83Charset(EBCDICType type) {
+		this(type, false);
+	}
+
+	/**
+	 * 1バイトコードのEBCDICコードタイプを取得します。<br>
+	 * @return EBCDICコードタイプ
+	 */
+	public EBCDICType getType() {
+		return type;
+	}
+
+	/**
+	 * 初期シフト状態がシフトアウト状態であるか判定します。<br>
+	 * @return 初期シフト状態がシフトアウト状態である場合にtrueを返却
+	 */
+	public boolean isShiftOut() {
+		return so;
+	}
+
+	/**
+	 * 指定されたキャラクタセットがこのキャラクタセットに含まれるか判定します。<br>
+	 * @param cs 対象キャラクタセット
+	 * @return このキャラクタセットに含まれる場合にtrueを返却
+	 * @see java.nio.charset.Charset#contains(java.nio.charset.Charset)
+	 */
+	@Override
+	public boolean contains(Charset cs) {
+		if (cs instanceof KEIS83Charset) {
+			return type.equals(((KEIS83Charset) cs).type);
+		}
+		if (cs instanceof EBCDICCharset) {
+			return type.equals(((EBCDICCharset) cs).getType());
+		}
+		return false;
+	}
+
+	/**
+	 * このキャラクタセットのデコーダーを生成します。<br>
+	 * @return デコーダー
+	 * @see java.nio.charset.Charset#newDecoder()
+	 */
+	@Override
+	public CharsetDecoder newDecoder() {
+		return new Decoder(this, type, so);
+	}
+
+	/**
+	 * このキャラクタセットのエンコーダーを生成します。<br>
+	 * @return エンコーダー
+	 * @see java.nio.charset.Charset#newEncoder()
+	 */
+	@Override
+	public CharsetEncoder newEncoder() {
+		return new Encoder(this, type, so);
+	}
+
+	/**
+	 * KEIS83コードのデコーダークラス<br>
+	 */
+	private static class Decoder extends CharsetDecoder {
+
+		/** EBCDICコードタイプ */
+		private EBCDICType type;
+
+		/** 初期シフトアウト状態 */
+		private boolean initial;
+
+		/** シフトアウト状態 */
+		private boolean so;
+
+		/** 機能キャラクタ範囲内状態 */
+		private boolean function;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param charset キャラクタセット
+		 * @param type EBCDICコードタイプ
+		 * @param so 初期シフトアウト状態
+		 */
+		private Decoder(Charset charset, EBCDICType type, boolean so) {
+			super(charset, 1.0f, 2.0f);
+			this.type = type;
+			this.initial = so;
+			this.so = so;
+			this.function = false;
+		}
+
+		/**
+		 * デコーダーの状態を初期化します。<br>
+		 * @see java.nio.charset.CharsetDecoder#implReset()
+		 */
+		@Override
+		protected void implReset() {
+			so = initial;
+			function = false;
+		}
+
+		/**
+		 * バイトデータを文字データにデコードします。<br>
+		 * @param in 入力バイトバッファ
+		 * @param out 出力文字バッファ
+		 * @return 処理結果
+		 * @see java.nio.charset.CharsetDecoder#decodeLoop(java.nio.ByteBuffer, java.nio.CharBuffer)
+		 */
+		@Override
+		protected CoderResult decodeLoop(ByteBuffer in, CharBuffer out) {
+			int position = in.position();
+			int limit = in.limit();
+			try {
+				while (position < limit) {
+					int b0 = in.get(position) & 0xFF;
+					int b1 = position + 1 < limit ? in.get(position + 1) & 0xFF : -1;
+					if (b0 == HostCodeTable.FUNCTION && b1 < 0) {
+						return CoderResult.UNDERFLOW;
+					}
+					boolean functionCode = b0 == HostCodeTable.FUNCTION && (b1 == 0x41 || b1 == 0x42);
+
+					/*
+					 * 機能キャラクタ範囲内処理(1バイトコード変換)
+					 */
+					if (function) {
+						if (functionCode) {
+							function = false;
+							position += 2;
+							continue;
+						}
+						char c = HostCodeTable.sbcs(type, b0);
+						if (c == '\uFFFD') {
+							return CoderResult.unmappableForLength(1);
+						}
+						if (!out.hasRemaining()) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put(c);
+						position++;
+						continue;
+					}
+					if (functionCode) {
+						function = true;
+						position += 2;
+						continue;
+					}
+
+					/*
+					 * シフトコード処理
+					 */
+					if (b0 == HostCodeTable.SO || b0 == HostCodeTable.SO_ALT) {
+						so = true;
+						position++;
+						continue;
+					}
+					if (b0 == HostCodeTable.SI) {
+						so = false;
+						position++;
+						continue;
+					}
+
+					/*
+					 * シフトイン状態(1バイトコード)処理
+					 */
+					if (!so) {
+						if (!HostCodeTable.isSingleByteCode(b0)) {
+							return CoderResult.malformedForLength(1);
+						}
+						char c = HostCodeTable.sbcs(type, b0);
+						if (c == '\uFFFD') {
+							return CoderResult.unmappableForLength(1);
+						}
+						if (!out.hasRemaining()) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put(c);
+						position++;
+						continue;
+					}
+
+					/*
+					 * シフトアウト状態(2バイトコード)処理
+					 */
+					if (b1 < 0) {
+						return CoderResult.UNDERFLOW;
+					}
+					int code = (b0 << 8) | b1;
+					if (code == 0x4040 || code == HostCodeTable.DBCS_SPACE) {
+						if (!out.hasRemaining()) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put('　');
+						position += 2;
+						continue;
+					}
+					if (b0 == 0x40) {
+						// 0x40**の場合は半角スペース変換(シフト状態の変更はしない)
+						if (!out.hasRemaining()) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put(' ');
+						position++;
+						continue;
+					}
+					String gaiji = HostCodeTable.gaiji(b0, b1);
+					if (gaiji != null) {
+						if (out.remaining() < gaiji.length()) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put(gaiji);
+						position += 2;
+						continue;
+					}
+					char c = HostCodeTable.dbcs(b0, b1);
+					if (c == 0) {
+						return CoderResult.malformedForLength(2);
+					}
+					if (c == '\uFFFD') {
+						return CoderResult.unmappableForLength(2);
+					}
+					if (!out.hasRemaining()) {
+						return CoderResult.OVERFLOW;
+					}
+					out.put(c);
+					position += 2;
+				}
+				return CoderResult.UNDERFLOW;
+			} finally {
+				in.position(position);
+			}
+		}
+	}
+
+	/**
+	 * KEIS83コードのエンコーダークラス<br>
+	 */
+	private static class Encoder extends CharsetEncoder {
+
+		/** EBCDICコードタイプ */
+		private EBCDICType type;
+
+		/** 初期シフトアウト状態 */
+		private boolean initial;
+
+		/** シフトアウト状態 */
+		private boolean so;
+
+		/**
+		 * コンストラクタ<br>
+		 * @param charset キャラクタセット
+		 * @param type EBCDICコードタイプ
+		 * @param so 初期シフトアウト状態
+		 */
+		private Encoder(Charset charset, EBCDICType type, boolean so) {
+			super(charset, 2.0f, 4.0f, new byte[] { EBCDICCharset.REPLACEMENT });
+			this.type = type;
+			this.initial = so;
+			this.so = so;
+		}
+
+		/**
+		 * 代替バイトデータが利用可能であるか判定します。<br>
+		 * 代替バイトデータは変換不可文字の検出時にシフトイン状態に戻したうえで出力される為、1バイトコードとして妥当であるかのみを判定します。<br>
+		 * @param repl 代替バイトデータ
+		 * @return 利用可能な場合にtrueを返却
+		 * @see java.nio.charset.CharsetEncoder#isLegalReplacement(byte[])
+		 */
+		@Override
+		public boolean isLegalReplacement(byte[] repl) {
+			for (byte b : repl) {
+				if (!HostCodeTable.isSingleByteCode(b & 0xFF)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * エンコーダーの状態を初期化します。<br>
+		 * @see java.nio.charset.CharsetEncoder#implReset()
+		 */
+		@Override
+		protected void implReset() {
+			so = initial;
+		}
+
+		/**
+		 * エンコード終了時に初期シフト状態に戻すシフトコードを出力します。<br>
+		 * @param out 出力バイトバッファ
+		 * @return 処理結果
+		 * @see java.nio.charset.CharsetEncoder#implFlush(java.nio.ByteBuffer)
+		 */
+		@Override
+		protected CoderResult implFlush(ByteBuffer out) {
+			if (so != initial) {
+				if (!out.hasRemaining()) {
+					return CoderResult.OVERFLOW;
+				}
+				out.put((byte) (so ? HostCodeTable.SI : HostCodeTable.SO));
+				so = initial;
+			}
+			return CoderResult.UNDERFLOW;
+		}
+
+		/**
+		 * 文字データをバイトデータにエンコードします。<br>
+		 * @param in 入力文字バッファ
+		 * @param out 出力バイトバッファ
+		 * @return 処理結果
+		 * @see java.nio.charset.CharsetEncoder#encodeLoop(java.nio.CharBuffer, java.nio.ByteBuffer)
+		 */
+		@Override
+		protected CoderResult encodeLoop(CharBuffer in, ByteBuffer out) {
+			int position = in.position();
+			try {
+				while (position < in.limit()) {
+					char c = in.get(position);
+
+					/*
+					 * 1バイトコード出力
+					 */
+					int b = HostCodeTable.sbcsByte(type, c);
+					if (b >= 0 && HostCodeTable.isSingleByteCode(b)) {
+						if (out.remaining() < (so ? 2 : 1)) {
+							return CoderResult.OVERFLOW;
+						}
+						if (so) {
+							out.put((byte) HostCodeTable.SI);
+							so = false;
+						}
+						out.put((byte) b);
+						position++;
+						continue;
+					}
+
+					/*
+					 * 2バイトコード出力
+					 */
+					int code = HostCodeTable.dbcsCode(c);
+					if (code >= 0) {
+						if (out.remaining() < (so ? 2 : 3)) {
+							return CoderResult.OVERFLOW;
+						}
+						if (!so) {
+							out.put((byte) HostCodeTable.SO);
+							so = true;
+						}
+						out.put((byte) (code >> 8));
+						out.put((byte) code);
+						position++;
+						continue;
+					}
+
+					/*
+					 * 変換不可文字(代替バイトデータを1バイトコードとして出力させる為にシフトイン状態に戻す)
+					 */
+					if (so) {
+						if (!out.hasRemaining()) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put((byte) HostCodeTable.SI);
+						so = false;
+					}
+					return HostCodeTable.unmappable(in, position);
+				}
+				return CoderResult.UNDERFLOW;
+			} finally {
+				in.position(position);
+			}
+		}
+	}
+}
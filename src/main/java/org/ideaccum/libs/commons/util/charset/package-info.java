@@ -0,0 +1,14 @@
+/**
+ * ホスト系システムで利用される文字コードに対するキャラクタセット実装を提供します。<br>
+ * <p>
+ * このパッケージではEBCDIC、EBCDIK及び、KEIS83のバイトデータを{@link java.nio.ByteBuffer}、{@link java.nio.CharBuffer}上で直接変換する{@link java.nio.charset.Charset}実装を提供します。<br>
+ * 各キャラクタセットは{@link java.nio.charset.spi.CharsetProvider}として登録されている為、{@link java.nio.charset.Charset#forName(String)}や{@link java.io.InputStreamReader}からキャラクタセット名で利用することが出来ます。<br>
+ * 変換仕様は{@link org.ideaccum.libs.commons.util.StringUtil#decodeKEIS83(String, org.ideaccum.libs.commons.util.StringUtil.EBCDICType, boolean, boolean)}等の16進表記文字列に対するデコード処理に準拠します。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+package org.ideaccum.libs.commons.util.charset;
@@ -0,0 +1,132 @@
+package org.ideaccum.libs.commons.util.record;
+
+import java.io.Serializable;
+import java.nio.charset.Charset;
+
+import org.ideaccum.libs.commons.util.StringUtil;
+
+/**
+ * 固定桁長レコード上の単一項目の定義情報を管理するためのインタフェースを提供します。<br>
+ * <p>
+ * 項目定義はレコード先頭からのバイトオフセット、バイト長、項目型、キャラクタセットで構成されます。<br>
+ * このクラスのインスタンスは{@link org.ideaccum.libs.commons.util.record.RecordLayout}を通じて生成されます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ * 2026/10/18  Kitagawa         10進数項目の小数点以下桁数を追加
+ *-->
+ */
+public final class RecordField implements Serializable {
+
+	/** 項目名 */
+	private String name;
+
+	/** バイトオフセット */
+	private int offset;
+
+	/** バイト長 */
+	private int length;
+
+	/** 項目型 */
+	private RecordFieldType type;
+
+	/** キャラクタセット名 */
+	private String charset;
+
+	/** 小数点以下桁数(パック10進数、ゾーン10進数のみ) */
+	private int scale;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param name 項目名
+	 * @param offset バイトオフセット
+	 * @param length バイト長
+	 * @param type 項目型
+	 * @param charset キャラクタセット名(未指定の場合はシステムディフォルトのキャラクタセット)
+	 * @param scale 小数点以下桁数(パック10進数、ゾーン10進数のみ)
+	 */
+	RecordField(String name, int offset, int length, RecordFieldType type, String charset, int scale) {
+		super();
+		if (StringUtil.isEmpty(name)) {
+			throw new IllegalArgumentException("name is empty");
+		}
+		if (offset < 0) {
+			throw new IllegalArgumentException("offset < 0 (" + name + ")");
+		}
+		if (length <= 0) {
+			throw new IllegalArgumentException("length <= 0 (" + name + ")");
+		}
+		if (type == null) {
+			throw new NullPointerException("type");
+		}
+		if (scale < 0) {
+			throw new IllegalArgumentException("scale < 0 (" + name + ")");
+		}
+		this.name = name;
+		this.offset = offset;
+		this.length = length;
+		this.type = type;
+		this.charset = StringUtil.isEmpty(charset) ? Charset.defaultCharset().name() : Charset.forName(charset).name();
+		this.scale = scale;
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return name + "(" + offset + "," + length + "," + type + "," + charset + ")";
+	}
+
+	/**
+	 * 項目名を取得します。<br>
+	 * @return 項目名
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * バイトオフセットを取得します。<br>
+	 * @return バイトオフセット
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * バイト長を取得します。<br>
+	 * @return バイト長
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * 項目型を取得します。<br>
+	 * @return 項目型
+	 */
+	public RecordFieldType getType() {
+		return type;
+	}
+
+	/**
+	 * キャラクタセット名を取得します。<br>
+	 * @return キャラクタセット名
+	 */
+	public String getCharset() {
+		return charset;
+	}
+
+	/**
+	 * 小数点以下桁数を取得します。<br>
+	 * @return 小数点以下桁数
+	 */
+	public int getScale() {
+		return scale;
+	}
+}
@@ -0,0 +1,33 @@
+package org.ideaccum.libs.commons.util.record;
+
+/**
+ * 固定桁長レコード上の項目の型を列挙型で提供します。<br>
+ * <p>
+ * 項目の型はレコードのバイトデータから項目値を切り出す際のデコード方法及び、項目値をバイトデータとして出力する際のエンコード方法を決定します。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ * 2026/10/18  Kitagawa         パック10進数、ゾーン10進数を追加
+ *-->
+ */
+public enum RecordFieldType {
+
+	/** 文字列(左詰め、後方半角スペース補完) */
+	STRING,
+
+	/** 数値文字列(右詰め、前方半角スペース補完) */
+	NUMBER,
+
+	/** バイナリ(無変換、後方0x00補完) */
+	BINARY,
+
+	/** パック10進数(COMP-3、符号ニブルC/F:正、D/B:負) */
+	PACKED,
+
+	/** ゾーン10進数(ホスト形式、最終バイト上位ニブルC/F:正、D/B:負) */
+	ZONED,
+
+	;
+}
@@ -0,0 +1,173 @@
+package org.ideaccum.libs.commons.util.record;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 固定桁長レコードのバイトレイアウトを宣言的に定義するためのインタフェースを提供します。<br>
+ * <p>
+ * ホスト連携ファイル等の固定桁長レコードにおける各項目のバイトオフセット、バイト長、項目型、キャラクタセットを定義し、
+ * {@link #slicer(String...)}によって必要な項目のみを1回の走査で切り出す{@link org.ideaccum.libs.commons.util.record.RecordSlicer}を生成します。<br>
+ * 下記はレイアウト定義及び、項目値の取得を行う場合の実装例です。<br>
+ * </p>
+ * <code>
+ * RecordLayout layout = new RecordLayout("MS932")<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.add("code", 0, 8, RecordFieldType.STRING)<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.add("name", 8, 40, RecordFieldType.STRING)<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.add("amount", 48, 12, RecordFieldType.NUMBER);<br>
+ * RecordSlicer slicer = layout.slicer("code", "amount");<br>
+ * Object[] values = slicer.read(record, 0);<br>
+ * </code>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ * 2026/10/18  Kitagawa         10進数項目(パック10進数、ゾーン10進数)の定義メソッドを追加
+ *-->
+ */
+public class RecordLayout implements Serializable {
+
+	/** ディフォルトキャラクタセット */
+	private String charset;
+
+	/** 項目定義 */
+	private Map<String, RecordField> fields;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param charset 項目定義時にキャラクタセットが省略された場合のキャラクタセット
+	 */
+	public RecordLayout(String charset) {
+		super();
+		this.charset = charset;
+		this.fields = new LinkedHashMap<>();
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * このコンストラクタで生成されたインスタンスはキャラクタセットが省略された項目をシステムディフォルトのキャラクタセットで扱います。<br>
+	 */
+	public RecordLayout() {
+		this(null);
+	}
+
+	/**
+	 * オブジェクト情報を文字列として提供します。<br>
+	 * @return オブジェクト情報文字列
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return fields.values().toString();
+	}
+
+	/**
+	 * 項目定義を追加します。<br>
+	 * 既に同一の項目名で定義された項目が存在する場合は上書きします。<br>
+	 * @param name 項目名
+	 * @param offset レコード先頭からのバイトオフセット
+	 * @param length バイト長
+	 * @param type 項目型
+	 * @param charset キャラクタセット
+	 * @return 自身のクラスインスタンス
+	 */
+	public RecordLayout add(String name, int offset, int length, RecordFieldType type, String charset) {
+		fields.put(name, new RecordField(name, offset, length, type, charset, 0));
+		return this;
+	}
+
+	/**
+	 * 10進数項目定義を追加します。<br>
+	 * 既に同一の項目名で定義された項目が存在する場合は上書きします。<br>
+	 * 小数点以下桁数は{@link RecordFieldType#PACKED}、{@link RecordFieldType#ZONED}の項目において、レコード上の数字列に対する暗黙の小数点位置として扱われます。<br>
+	 * @param name 項目名
+	 * @param offset レコード先頭からのバイトオフセット
+	 * @param length バイト長
+	 * @param type 項目型
+	 * @param scale 小数点以下桁数
+	 * @return 自身のクラスインスタンス
+	 */
+	public RecordLayout add(String name, int offset, int length, RecordFieldType type, int scale) {
+		fields.put(name, new RecordField(name, offset, length, type, charset, scale));
+		return this;
+	}
+
+	/**
+	 * 項目定義を追加します。<br>
+	 * 項目のキャラクタセットはレイアウトのディフォルトキャラクタセットとなります。<br>
+	 * @param name 項目名
+	 * @param offset レコード先頭からのバイトオフセット
+	 * @param length バイト長
+	 * @param type 項目型
+	 * @return 自身のクラスインスタンス
+	 */
+	public RecordLayout add(String name, int offset, int length, RecordFieldType type) {
+		return add(name, offset, length, type, charset);
+	}
+
+	/**
+	 * 文字列型の項目定義を追加します。<br>
+	 * 項目のキャラクタセットはレイアウトのディフォルトキャラクタセットとなります。<br>
+	 * @param name 項目名
+	 * @param offset レコード先頭からのバイトオフセット
+	 * @param length バイト長
+	 * @return 自身のクラスインスタンス
+	 */
+	public RecordLayout add(String name, int offset, int length) {
+		return add(name, offset, length, RecordFieldType.STRING, charset);
+	}
+
+	/**
+	 * 項目定義を取得します。<br>
+	 * @param name 項目名
+	 * @return 項目定義(定義されていない場合はnull)
+	 */
+	public RecordField getField(String name) {
+		return fields.get(name);
+	}
+
+	/**
+	 * 全ての項目定義を定義順に取得します。<br>
+	 * @return 項目定義配列
+	 */
+	public RecordField[] getFields() {
+		return fields.values().toArray(new RecordField[0]);
+	}
+
+	/**
+	 * 項目定義から算出されるレコード長(改行コードを含まない)を取得します。<br>
+	 * @return レコード長
+	 */
+	public int getRecordLength() {
+		int length = 0;
+		for (RecordField field : fields.values()) {
+			length = Math.max(length, field.getOffset() + field.getLength());
+		}
+		return length;
+	}
+
+	/**
+	 * 指定された項目を切り出す為のスライサーを生成します。<br>
+	 * スライサーが提供する項目値配列は、ここで指定された項目名の順序となります。<br>
+	 * @param names 項目名(未指定の場合は全ての項目を定義順で対象とします)
+	 * @return スライサー
+	 */
+	public RecordSlicer slicer(String... names) {
+		List<RecordField> targets = new ArrayList<>();
+		if (names == null || names.length == 0) {
+			targets.addAll(fields.values());
+		} else {
+			for (String name : names) {
+				RecordField field = fields.get(name);
+				if (field == null) {
+					throw new IllegalArgumentException("field " + name + " is not defined");
+				}
+				targets.add(field);
+			}
+		}
+		return new RecordSlicer(targets.toArray(new RecordField[0]));
+	}
+}
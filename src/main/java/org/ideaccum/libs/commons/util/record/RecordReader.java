@@ -0,0 +1,293 @@
+package org.ideaccum.libs.commons.util.record;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.ideaccum.libs.commons.io.LineRecordLength;
+
+/**
+ * 固定桁長レコードのバイトストリームから項目定義に基づいて項目値をレコード単位で読み込むためのインタフェースを提供します。<br>
+ * <p>
+ * レコードのバイトデータは16進表記文字列等の中間表現を経由せず、{@link org.ideaccum.libs.commons.util.record.RecordSlicer}によって直接項目値にデコードされます。<br>
+ * ホスト連携ファイルのEBCDIK項目、KEIS83項目は項目定義のキャラクタセットとして"EBCDIK"、"KEIS83-EBCDIK-SO"等の{@link org.ideaccum.libs.commons.util.charset}パッケージのキャラクタセットを指定し、
+ * パック10進数、ゾーン10進数項目は{@link RecordFieldType#PACKED}、{@link RecordFieldType#ZONED}を指定することで、1回の走査でデコードされます。<br>
+ * 下記は改行付き固定桁長ファイルをレコード単位で読み込む場合の実装例です。<br>
+ * </p>
+ * <code>
+ * RecordLayout layout = new RecordLayout("EBCDIK")<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.add("code", 0, 8, RecordFieldType.STRING)<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.add("name", 8, 40, RecordFieldType.STRING, "KEIS83-EBCDIK-SO")<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.add("amount", 48, 6, RecordFieldType.PACKED, 2);<br>
+ * RecordReader reader = new RecordReader(new LineInputStream(stream, new LineRecordLength(54)), 54, layout.slicer());<br>
+ * Object[] values = new Object[3];<br>
+ * while (reader.read(values)) {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;...<br>
+ * }<br>
+ * </code>
+ * <p>
+ * また、ファイルを対象とする場合は{@link #read(File, LineRecordLength, RecordLayout, String[], int, RecordHandler)}によってレコード範囲毎に複数スレッドで並列にデコードすることが出来ます。<br>
+ * 尚、このクラスのインスタンスは内部バッファを保持する為、スレッドセーフではありません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class RecordReader implements Closeable {
+
+	/** 並列読み込み時の読み込み単位バイト数 */
+	private static final int CHUNK_SIZE = 1024 * 64;
+
+	/** 入力ストリーム */
+	private InputStream stream;
+
+	/** スライサー */
+	private RecordSlicer slicer;
+
+	/** レコードバッファ */
+	private byte[] buffer;
+
+	/** 読み込みレコード数 */
+	private long count;
+
+	/**
+	 * コンストラクタ<br>
+	 * 改行付き固定桁長ストリームの場合は改行コードを読み飛ばす{@link org.ideaccum.libs.commons.io.LineInputStream}を指定して下さい。<br>
+	 * @param stream 入力ストリーム
+	 * @param length レコード長(改行コードを含まない)
+	 * @param slicer スライサー
+	 */
+	public RecordReader(InputStream stream, int length, RecordSlicer slicer) {
+		super();
+		if (stream == null) {
+			throw new NullPointerException("stream");
+		}
+		if (slicer == null) {
+			throw new NullPointerException("slicer");
+		}
+		if (length <= 0) {
+			throw new IllegalArgumentException("length <= 0 (" + length + ")");
+		}
+		this.stream = stream;
+		this.slicer = slicer;
+		this.buffer = new byte[length];
+		this.count = 0;
+	}
+
+	/**
+	 * コンストラクタ<br>
+	 * レコード長はレイアウトの項目定義から算出されるレコード長となります。<br>
+	 * @param stream 入力ストリーム
+	 * @param layout レコードレイアウト
+	 * @param names 項目名(未指定の場合は全ての項目を定義順で対象とします)
+	 */
+	public RecordReader(InputStream stream, RecordLayout layout, String... names) {
+		this(stream, layout.getRecordLength(), layout.slicer(names));
+	}
+
+	/**
+	 * ストリームを閉じて、それに関連するすべてのシステム・リソースを解放します。 <br>
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		stream.close();
+	}
+
+	/**
+	 * 読み込み済みのレコード数を取得します。<br>
+	 * @return 読み込みレコード数
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * 次のレコードを読み込み、項目値を指定された項目値配列に設定します。<br>
+	 * ストリーム終端のレコードがレコード長に満たない場合は、存在するバイト範囲のみで項目値を切り出します。<br>
+	 * @param values 項目値配列
+	 * @return レコードを読み込んだ場合にtrueを返却、ストリームの終わりに達した場合はfalseを返却
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 */
+	public boolean read(Object[] values) throws IOException {
+		int size = 0;
+		while (size < buffer.length) {
+			int read = stream.read(buffer, size, buffer.length - size);
+			if (read < 0) {
+				break;
+			}
+			size += read;
+		}
+		if (size == 0) {
+			return false;
+		}
+		slicer.read(size < buffer.length ? Arrays.copyOf(buffer, size) : buffer, 0, values);
+		count++;
+		return true;
+	}
+
+	/**
+	 * 次のレコードを読み込み、項目値配列として提供します。<br>
+	 * @return 項目値配列、ストリームの終わりに達した場合はnull
+	 * @throws IOException 入出力エラーが発生した場合にスローされます
+	 * @see #read(Object[])
+	 */
+	public Object[] read() throws IOException {
+		Object[] values = new Object[slicer.getFields().length];
+		return read(values) ? values : null;
+	}
+
+	/**
+	 * 改行付き固定桁長ファイルをレコード範囲毎に複数スレッドで並列にデコードします。<br>
+	 * ファイルはスレッド数で等分したレコード範囲毎に位置指定で読み込まれ、各スレッドは個別のスライサーでデコードを行います。<br>
+	 * レコードハンドラーは複数のスレッドから同時に呼び出される為、スレッドセーフな実装とする必要があります。<br>
+	 * また、レコードハンドラーに渡される項目値配列はスレッド毎に再利用される為、呼び出し後も項目値を保持する場合は複製して下さい。<br>
+	 * ファイル終端のレコードが改行コードを持たない場合や、レコード長に満たない場合も1レコードとして扱います。<br>
+	 * @param file 対象ファイル
+	 * @param length レコード改行情報
+	 * @param layout レコードレイアウト
+	 * @param names 項目名(未指定の場合は全ての項目を定義順で対象とします)
+	 * @param threads スレッド数(0以下の場合は利用可能なプロセッサ数)
+	 * @param handler レコードハンドラー
+	 * @return 処理レコード数
+	 * @throws IOException 入出力エラーが発生した場合やレコードハンドラーで例外が発生した場合にスローされます
+	 */
+	public static long read(File file, final LineRecordLength length, final RecordLayout layout, final String[] names, int threads, final RecordHandler handler) throws IOException {
+		if (length.getRecordLength() <= 0) {
+			throw new IllegalArgumentException("record length <= 0 (" + length.getRecordLength() + ")");
+		}
+		final int stride = length.getRecordLength() + length.getLinefeedLength();
+		final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			final long size = channel.size();
+			long records = size / stride + (size % stride > 0 ? 1 : 0);
+			if (records == 0) {
+				return 0;
+			}
+			if (threads <= 0) {
+				threads = Runtime.getRuntime().availableProcessors();
+			}
+			threads = (int) Math.min(threads, records);
+
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<Long>> futures = new ArrayList<>();
+				for (int i = 0; i <= threads - 1; i++) {
+					final long from = records * i / threads;
+					final long to = records * (i + 1) / threads;
+					futures.add(executor.submit(new Callable<Long>() {
+
+						@Override
+						public Long call() throws Exception {
+							return read(channel, size, stride, from, to, layout.slicer(names), handler);
+						}
+					}));
+				}
+				long count = 0;
+				for (Future<Long> future : futures) {
+					count += future.get();
+				}
+				return count;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				} else if (cause instanceof Error) {
+					throw (Error) cause;
+				} else {
+					throw new IOException(cause);
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * ファイルチャネルのレコード範囲を位置指定で読み込みながらデコードします。<br>
+	 * @param channel ファイルチャネル
+	 * @param size ファイルサイズ
+	 * @param stride 改行コードを含むレコード長
+	 * @param from 開始レコードインデックス
+	 * @param to 終了レコードインデックス(このインデックスは含まない)
+	 * @param slicer スライサー
+	 * @param handler レコードハンドラー
+	 * @return 処理レコード数
+	 * @throws Exception 入出力エラーが発生した場合やレコードハンドラーで例外が発生した場合にスローされます
+	 */
+	private static long read(FileChannel channel, long size, int stride, long from, long to, RecordSlicer slicer, RecordHandler handler) throws Exception {
+		int chunk = Math.max(1, CHUNK_SIZE / stride);
+		ByteBuffer buffer = ByteBuffer.allocate(chunk * stride);
+		Object[] values = new Object[slicer.getFields().length];
+		long index = from;
+		while (index < to) {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new InterruptedException();
+			}
+			long position = index * stride;
+			int records = (int) Math.min(chunk, to - index);
+			buffer.clear();
+			buffer.limit((int) Math.min((long) records * stride, size - position));
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, position + buffer.position()) < 0) {
+					break;
+				}
+			}
+			byte[] data = buffer.array();
+			if (buffer.position() < data.length) {
+				// 終端レコードがレコード長に満たない場合を考慮して有効範囲のみを対象とする
+				data = Arrays.copyOf(data, buffer.position());
+			}
+			for (int i = 0; i <= records - 1; i++) {
+				slicer.read(data, i * stride, values);
+				handler.handle(index + i, values);
+			}
+			index += records;
+		}
+		return to - from;
+	}
+
+	/**
+	 * 並列デコード時にレコード毎の項目値を受け取るためのハンドラーインタフェースを提供します。<br>
+	 * <p>
+	 * このインタフェースクラスは{@link RecordReader#read(File, LineRecordLength, RecordLayout, String[], int, RecordHandler)}で利用されます。<br>
+	 * </p>
+	 *
+	 *<!--
+	 * 更新日      更新者           更新内容
+	 * 2026/10/18  Kitagawa         新規作成
+	 *-->
+	 */
+	public static interface RecordHandler {
+
+		/**
+		 * レコードの項目値を処理します。<br>
+		 * @param index ファイル先頭からのレコードインデックス(0から開始)
+		 * @param values 項目値配列(スレッド毎に再利用されます)
+		 * @throws Exception 処理中に例外が発生した場合にスローされます
+		 */
+		public void handle(long index, Object[] values) throws Exception;
+	}
+}
@@ -0,0 +1,450 @@
+package org.ideaccum.libs.commons.util.record;
+
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.ideaccum.libs.commons.io.BinaryConverter;
+import org.ideaccum.libs.commons.util.StringUtil;
+import org.ideaccum.libs.commons.util.charset.HostStringEncoder;
+
+/**
+ * 固定桁長レコードのバイトデータから項目値を切り出し、また項目値をバイトデータとして出力するインタフェースを提供します。<br>
+ * <p>
+ * このクラスのインスタンスは{@link org.ideaccum.libs.commons.util.record.RecordLayout#slicer(String...)}によって生成され、生成時に指定された項目のみを処理対象とします。<br>
+ * 項目はバイトオフセット順に整列された状態で保持され、レコードのバイトデータを文字列化することなく1回の走査で必要な項目のみをデコードします。<br>
+ * 項目値の出力は{@link org.ideaccum.libs.commons.util.StringUtil#paddingb(String, int, char, String)}と同様に、不足するバイト長を半角スペースで補完します。<br>
+ * 尚、このクラスは内部バッファを保持する為、スレッドセーフではありません。スレッド毎にインスタンスを生成して利用して下さい。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ * 2026/10/18  Kitagawa         パック10進数、ゾーン10進数の切り出し及び、出力処理を追加
+ * 2026/10/18  Kitagawa         ホスト文字コード(EBCDIC、EBCDIK、KEIS83)の文字列項目出力をシフトコードを考慮した固定桁長変換に変更
+ * 2026/10/18  Kitagawa         パック10進数、ゾーン10進数の変換処理を{@link org.ideaccum.libs.commons.io.BinaryConverter}に移行
+ *-->
+ */
+public class RecordSlicer {
+
+	/** 処理対象項目(バイトオフセット順) */
+	private RecordField[] fields;
+
+	/** 項目値配列上のインデックス(バイトオフセット順) */
+	private int[] indexes;
+
+	/** 項目キャラクタセット(バイトオフセット順) */
+	private Charset[] charsets;
+
+	/** 項目補完スペースバイト(バイトオフセット順) */
+	private byte[] spaces;
+
+	/** ホスト文字コード項目エンコーダー(バイトオフセット順、ホスト文字コード以外の項目はnull) */
+	private HostStringEncoder[] encoders;
+
+	/** 処理対象項目の終端バイト位置 */
+	private int length;
+
+	/** バイトバッファ操作用内部バッファ */
+	private byte[] buffer;
+
+	/**
+	 * コンストラクタ<br>
+	 * @param fields 処理対象項目(項目値配列の順序)
+	 */
+	RecordSlicer(final RecordField[] fields) {
+		super();
+		Integer[] order = new Integer[fields.length];
+		for (int i = 0; i <= order.length - 1; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+
+			@Override
+			public int compare(Integer i1, Integer i2) {
+				return Integer.compare(fields[i1].getOffset(), fields[i2].getOffset());
+			}
+		});
+		this.fields = new RecordField[fields.length];
+		this.indexes = new int[fields.length];
+		this.charsets = new Charset[fields.length];
+		this.spaces = new byte[fields.length];
+		this.encoders = new HostStringEncoder[fields.length];
+		this.length = 0;
+		for (int i = 0; i <= order.length - 1; i++) {
+			RecordField field = fields[order[i]];
+			this.fields[i] = field;
+			this.indexes[i] = order[i];
+			this.charsets[i] = Charset.forName(field.getCharset());
+			if (HostStringEncoder.isSupported(this.charsets[i])) {
+				this.encoders[i] = new HostStringEncoder(this.charsets[i]);
+				this.spaces[i] = HostStringEncoder.SPACE;
+			} else {
+				byte[] space = " ".getBytes(this.charsets[i]);
+				this.spaces[i] = space.length == 1 ? space[0] : 0x20;
+			}
+			this.length = Math.max(this.length, field.getOffset() + field.getLength());
+		}
+		this.buffer = new byte[this.length];
+	}
+
+	/**
+	 * 処理対象項目定義を項目値配列の順序で取得します。<br>
+	 * @return 処理対象項目定義
+	 */
+	public RecordField[] getFields() {
+		RecordField[] result = new RecordField[fields.length];
+		for (int i = 0; i <= fields.length - 1; i++) {
+			result[indexes[i]] = fields[i];
+		}
+		return result;
+	}
+
+	/**
+	 * 処理対象項目の終端バイト位置を取得します。<br>
+	 * @return 処理対象項目の終端バイト位置
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * レコードのバイトデータから項目値を切り出して指定された項目値配列に設定します。<br>
+	 * レコードのバイトデータが項目定義の範囲に満たない場合でも例外はスローせず、存在するバイト範囲のみで項目値を切り出します。<br>
+	 * 項目値は項目型に応じて下記の型で提供されます。<br>
+	 * <ul>
+	 * <li>{@link RecordFieldType#STRING}: {@link java.lang.String}(レコード上の内容をトリムせずに提供します)</li>
+	 * <li>{@link RecordFieldType#NUMBER}: {@link java.math.BigDecimal}(空白のみの場合はnull)</li>
+	 * <li>{@link RecordFieldType#BINARY}: byte[]</li>
+	 * <li>{@link RecordFieldType#PACKED}: {@link java.math.BigDecimal}(補完スペースバイトのみ又は、0x00のみの場合はnull)</li>
+	 * <li>{@link RecordFieldType#ZONED}: {@link java.math.BigDecimal}(補完スペースバイトのみ又は、0x00のみの場合はnull)</li>
+	 * </ul>
+	 * @param data レコードバイトデータ
+	 * @param offset レコードバイトデータ上のレコード開始位置
+	 * @param values 項目値配列
+	 */
+	public void read(byte[] data, int offset, Object[] values) {
+		for (int i = 0; i <= fields.length - 1; i++) {
+			RecordField field = fields[i];
+			int start = offset + field.getOffset();
+			int size = Math.max(0, Math.min(field.getLength(), data.length - start));
+			values[indexes[i]] = decode(field, charsets[i], spaces[i], data, start, size);
+		}
+	}
+
+	/**
+	 * レコードのバイトデータから項目値を切り出して提供します。<br>
+	 * @param data レコードバイトデータ
+	 * @param offset レコードバイトデータ上のレコード開始位置
+	 * @return 項目値配列
+	 * @see #read(byte[], int, Object[])
+	 */
+	public Object[] read(byte[] data, int offset) {
+		Object[] values = new Object[fields.length];
+		read(data, offset, values);
+		return values;
+	}
+
+	/**
+	 * バイトバッファの現在位置をレコード開始位置として項目値を切り出して指定された項目値配列に設定します。<br>
+	 * バイトバッファの現在位置は変更されません。<br>
+	 * @param data レコードバイトバッファ
+	 * @param values 項目値配列
+	 * @see #read(byte[], int, Object[])
+	 */
+	public void read(ByteBuffer data, Object[] values) {
+		if (data.hasArray()) {
+			byte[] array = data.array();
+			int offset = data.arrayOffset() + data.position();
+			int limit = data.arrayOffset() + data.limit();
+			if (limit == array.length) {
+				read(array, offset, values);
+				return;
+			}
+		}
+		int size = Math.min(length, data.remaining());
+		ByteBuffer source = data.duplicate();
+		source.get(buffer, 0, size);
+		if (size < length) {
+			read(Arrays.copyOf(buffer, size), 0, values);
+		} else {
+			read(buffer, 0, values);
+		}
+	}
+
+	/**
+	 * バイトバッファの現在位置をレコード開始位置として項目値を切り出して提供します。<br>
+	 * バイトバッファの現在位置は変更されません。<br>
+	 * @param data レコードバイトバッファ
+	 * @return 項目値配列
+	 * @see #read(byte[], int, Object[])
+	 */
+	public Object[] read(ByteBuffer data) {
+		Object[] values = new Object[fields.length];
+		read(data, values);
+		return values;
+	}
+
+	/**
+	 * 項目値配列の内容をレコードのバイトデータに出力します。<br>
+	 * 処理対象項目の範囲のみが更新され、項目定義が存在しない範囲のバイトデータは変更されません。<br>
+	 * 項目値は項目型に応じて下記の編集が行われます。<br>
+	 * <ul>
+	 * <li>{@link RecordFieldType#STRING}: 左詰めで出力し、不足バイトは半角スペースで補完します(バイト長を超える場合は{@link org.ideaccum.libs.commons.util.StringUtil#leftb(String, int, String)}と同様に切り捨てます)<br>
+	 * ホスト文字コードの場合は{@link org.ideaccum.libs.commons.util.charset.HostStringEncoder#encode(CharSequence, byte[], int, int)}によって変換します</li>
+	 * <li>{@link RecordFieldType#NUMBER}: 右詰めで出力し、不足バイトは半角スペースで補完します(バイト長を超える場合は例外をスローします)</li>
+	 * <li>{@link RecordFieldType#BINARY}: 左詰めで出力し、不足バイトは0x00で補完します</li>
+	 * <li>{@link RecordFieldType#PACKED}: 小数点以下桁数に合わせた数字列を符号ニブル(C:正、D:負)付きで出力します(nullの場合は補完スペースバイトで埋めます)</li>
+	 * <li>{@link RecordFieldType#ZONED}: 小数点以下桁数に合わせた数字列をゾーン(0xF)付きで出力し、負数の場合は最終バイトのゾーンをDとします(nullの場合は補完スペースバイトで埋めます)</li>
+	 * </ul>
+	 * @param values 項目値配列
+	 * @param data レコードバイトデータ
+	 * @param offset レコードバイトデータ上のレコード開始位置
+	 */
+	public void write(Object[] values, byte[] data, int offset) {
+		for (int i = 0; i <= fields.length - 1; i++) {
+			encode(fields[i], charsets[i], spaces[i], encoders[i], values[indexes[i]], data, offset + fields[i].getOffset());
+		}
+	}
+
+	/**
+	 * 項目値配列の内容をバイトバッファの現在位置をレコード開始位置として出力します。<br>
+	 * バイトバッファの現在位置は変更されません。<br>
+	 * バイトバッファの現在位置から上限までの範囲外に出力されることはありません。<br>
+	 * @param values 項目値配列
+	 * @param data レコードバイトバッファ
+	 * @throws BufferOverflowException バイトバッファの現在位置から上限までのバイト数が処理対象項目の終端バイト位置に満たない場合にスローされます
+	 * @see #write(Object[], byte[], int)
+	 */
+	public void write(Object[] values, ByteBuffer data) {
+		if (data.remaining() < length) {
+			throw new BufferOverflowException();
+		}
+		if (data.hasArray()) {
+			write(values, data.array(), data.arrayOffset() + data.position());
+			return;
+		}
+		ByteBuffer source = data.duplicate();
+		source.get(buffer, 0, length);
+		write(values, buffer, 0);
+		ByteBuffer target = data.duplicate();
+		target.put(buffer, 0, length);
+	}
+
+	/**
+	 * バイトデータ範囲を項目値にデコードします。<br>
+	 * @param field 項目定義
+	 * @param charset キャラクタセット
+	 * @param space 補完スペースバイト
+	 * @param data バイトデータ
+	 * @param offset 項目開始位置
+	 * @param length 項目バイト長
+	 * @return 項目値
+	 */
+	private static Object decode(RecordField field, Charset charset, byte space, byte[] data, int offset, int length) {
+		switch (field.getType()) {
+			case STRING:
+				return length == 0 ? StringUtil.EMPTY : new String(data, offset, length, charset);
+			case NUMBER:
+				String number = length == 0 ? StringUtil.EMPTY : new String(data, offset, length, charset).trim();
+				if (number.length() == 0) {
+					return null;
+				}
+				try {
+					return new BigDecimal(number);
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("field " + field.getName() + " is not number (" + number + ")", e);
+				}
+			case BINARY:
+				return length == 0 ? new byte[0] : Arrays.copyOfRange(data, offset, offset + length);
+			case PACKED:
+				return isBlank(data, offset, length, space) ? null : decodePacked(field, data, offset, length);
+			case ZONED:
+				return isBlank(data, offset, length, space) ? null : decodeZoned(field, data, offset, length);
+			default:
+				throw new IllegalArgumentException("unsupported type (" + field.getType() + ")");
+		}
+	}
+
+	/**
+	 * 項目値をバイトデータ範囲にエンコードします。<br>
+	 * @param field 項目定義
+	 * @param charset キャラクタセット
+	 * @param space 補完スペースバイト
+	 * @param encoder ホスト文字コードエンコーダー(ホスト文字コード以外の場合はnull)
+	 * @param value 項目値
+	 * @param data バイトデータ
+	 * @param offset 項目開始位置
+	 */
+	private static void encode(RecordField field, Charset charset, byte space, HostStringEncoder encoder, Object value, byte[] data, int offset) {
+		int length = field.getLength();
+		switch (field.getType()) {
+			case STRING: {
+				String string = value == null ? StringUtil.EMPTY : value.toString();
+				if (encoder != null) {
+					// ホスト文字コードの場合はシフトコードを含めて文字単位で切り捨て、スペース(0x40)で補完
+					encoder.encode(string, data, offset, length);
+					break;
+				}
+				byte[] bytes = string.getBytes(charset);
+				if (bytes.length > length) {
+					bytes = StringUtil.leftb(string, length, charset.name()).getBytes(charset);
+				}
+				int size = Math.min(bytes.length, length);
+				System.arraycopy(bytes, 0, data, offset, size);
+				Arrays.fill(data, offset + size, offset + length, space);
+				break;
+			}
+			case NUMBER: {
+				String string = value == null ? StringUtil.EMPTY : value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+				byte[] bytes = string.getBytes(charset);
+				if (bytes.length > length) {
+					throw new IllegalArgumentException("field " + field.getName() + " overflow (" + string + ")");
+				}
+				Arrays.fill(data, offset, offset + length - bytes.length, space);
+				System.arraycopy(bytes, 0, data, offset + length - bytes.length, bytes.length);
+				break;
+			}
+			case BINARY: {
+				if (value != null && !(value instanceof byte[])) {
+					throw new IllegalArgumentException("field " + field.getName() + " is not byte[]");
+				}
+				byte[] bytes = value == null ? new byte[0] : (byte[]) value;
+				int size = Math.min(bytes.length, length);
+				System.arraycopy(bytes, 0, data, offset, size);
+				Arrays.fill(data, offset + size, offset + length, (byte) 0x00);
+				break;
+			}
+			case PACKED: {
+				if (value == null) {
+					Arrays.fill(data, offset, offset + length, space);
+				} else {
+					encodePacked(field, toDecimal(field, value), data, offset);
+				}
+				break;
+			}
+			case ZONED: {
+				if (value == null) {
+					Arrays.fill(data, offset, offset + length, space);
+				} else {
+					encodeZoned(field, toDecimal(field, value), data, offset);
+				}
+				break;
+			}
+			default:
+				throw new IllegalArgumentException("unsupported type (" + field.getType() + ")");
+		}
+	}
+
+	/**
+	 * バイトデータ範囲が空(0バイト又は、補完スペースバイトのみ、0x00のみ)であるか判定します。<br>
+	 * @param data バイトデータ
+	 * @param offset 項目開始位置
+	 * @param length 項目バイト長
+	 * @param space 補完スペースバイト
+	 * @return 空である場合にtrueを返却
+	 */
+	private static boolean isBlank(byte[] data, int offset, int length, byte space) {
+		boolean spaces = true;
+		boolean zeros = true;
+		for (int i = offset; i <= offset + length - 1; i++) {
+			spaces &= data[i] == space;
+			zeros &= data[i] == 0x00;
+			if (!spaces && !zeros) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * パック10進数のバイトデータ範囲を10進数値にデコードします。<br>
+	 * @param field 項目定義
+	 * @param data バイトデータ
+	 * @param offset 項目開始位置
+	 * @param length 項目バイト長
+	 * @return 10進数値
+	 */
+	private static BigDecimal decodePacked(RecordField field, byte[] data, int offset, int length) {
+		try {
+			return BinaryConverter.decodePackedDecimal(data, offset, length, field.getScale());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("field " + field.getName() + " is not packed decimal (" + StringUtil.toHex(Arrays.copyOfRange(data, offset, offset + length)) + ")", e);
+		}
+	}
+
+	/**
+	 * ゾーン10進数のバイトデータ範囲を10進数値にデコードします。<br>
+	 * @param field 項目定義
+	 * @param data バイトデータ
+	 * @param offset 項目開始位置
+	 * @param length 項目バイト長
+	 * @return 10進数値
+	 */
+	private static BigDecimal decodeZoned(RecordField field, byte[] data, int offset, int length) {
+		try {
+			return BinaryConverter.decodeZonedDecimal(data, offset, length, field.getScale());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("field " + field.getName() + " is not zoned decimal (" + StringUtil.toHex(Arrays.copyOfRange(data, offset, offset + length)) + ")", e);
+		}
+	}
+
+	/**
+	 * 項目値を項目定義の小数点以下桁数の10進数値に変換します。<br>
+	 * @param field 項目定義
+	 * @param value 項目値
+	 * @return 10進数値
+	 */
+	private static BigDecimal toDecimal(RecordField field, Object value) {
+		BigDecimal decimal;
+		if (value instanceof BigDecimal) {
+			decimal = (BigDecimal) value;
+		} else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			decimal = BigDecimal.valueOf(((Number) value).longValue());
+		} else {
+			try {
+				decimal = new BigDecimal(value.toString().trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("field " + field.getName() + " is not number (" + value + ")", e);
+			}
+		}
+		try {
+			return decimal.setScale(field.getScale());
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("field " + field.getName() + " scale overflow (" + value + ")", e);
+		}
+	}
+
+	/**
+	 * 10進数値をパック10進数としてバイトデータ範囲にエンコードします。<br>
+	 * @param field 項目定義
+	 * @param value 10進数値
+	 * @param data バイトデータ
+	 * @param offset 項目開始位置
+	 */
+	private static void encodePacked(RecordField field, BigDecimal value, byte[] data, int offset) {
+		try {
+			BinaryConverter.encodePacked(value, field.getScale(), data, offset, field.getLength());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("field " + field.getName() + " overflow (" + value.toPlainString() + ")", e);
+		}
+	}
+
+	/**
+	 * 10進数値をゾーン10進数としてバイトデータ範囲にエンコードします。<br>
+	 * @param field 項目定義
+	 * @param value 10進数値
+	 * @param data バイトデータ
+	 * @param offset 項目開始位置
+	 */
+	private static void encodeZoned(RecordField field, BigDecimal value, byte[] data, int offset) {
+		try {
+			BinaryConverter.encodeZoned(value, field.getScale(), data, offset, field.getLength());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("field " + field.getName() + " overflow (" + value.toPlainString() + ")", e);
+		}
+	}
+}
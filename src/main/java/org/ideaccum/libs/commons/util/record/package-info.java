@@ -0,0 +1,15 @@
+/**
+ * 固定桁長のレコード編成データを操作するうえでの処理に特化した各種ユーティリティクラスを提供します。<br>
+ * <p>
+ * このパッケージではホスト連携ファイル等の固定桁長バイトレイアウトで構成されたレコードに対して、項目定義に基づいた項目値の切り出しや出力を行うためのクラスを提供します。<br>
+ * 利用者は{@link org.ideaccum.libs.commons.util.StringUtil#substrb(String, int, int, String)}等でレコード文字列を都度切り出すことなく、バイトデータから直接項目値を取得することが出来ます。<br>
+ * また、{@link org.ideaccum.libs.commons.util.record.RecordReader}によってホスト連携ファイル等のバイトストリームからレコード単位の項目値を直接デコードすることが出来ます。<br>
+ * </p>
+ * 
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ * 2026/10/18  Kitagawa         レコード読み込みクラスを追加
+ *-->
+ */
+package org.ideaccum.libs.commons.util.record;
@@ -0,0 +1,107 @@
+package org.ideaccum.libs.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.util.FileUtil}の並列コピー及び、並列削除処理を検証します。<br>
+ * <p>
+ * シンボリックリンクを作成できない環境ではシンボリックリンクを利用する検証は実施されません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class FileUtilTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * シンボリックリンクで参照されるディレクトリを含む階層の並列コピーを検証します。<br>
+	 * コピー先にはシンボリックリンクの経路を含む全てのパスに、参照先の内容が複製されることを検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void copySymlinkedDirectories() throws Exception {
+		File src = folder.newFolder("src");
+		FileWalkerTest.createLinkedTree(src);
+		Set<String> files = new TreeSet<>();
+		Set<String> dirs = new TreeSet<>();
+		FileWalkerTest.collect(src, files, dirs);
+		for (int workers = 1; workers <= 4; workers += 3) {
+			File dst = new File(folder.getRoot(), "dst" + workers);
+			FileProgress progress = FileUtil.copy(src, dst, workers, false, null);
+			assertTrue(progress.isFinished());
+			assertEquals(files.size(), progress.getFiles());
+			for (String dir : dirs) {
+				assertTrue(dir, new File(dst, relative(src, dir)).isDirectory());
+			}
+			for (String file : files) {
+				File copied = new File(dst, relative(src, file));
+				assertTrue(file, copied.isFile());
+				assertArrayEquals(Files.readAllBytes(Paths.get(file)), Files.readAllBytes(copied.toPath()));
+			}
+			Set<String> copiedFiles = new TreeSet<>();
+			FileWalkerTest.collect(dst, copiedFiles, new TreeSet<String>());
+			assertEquals(files.size(), copiedFiles.size());
+		}
+	}
+
+	/**
+	 * シンボリックリンクで参照されるディレクトリを含む階層の並列削除を検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void deleteSymlinkedDirectories() throws Exception {
+		for (int workers = 1; workers <= 4; workers += 3) {
+			File base = folder.newFolder("delete" + workers);
+			FileWalkerTest.createLinkedTree(base);
+			FileProgress progress = FileUtil.delete(base, null, workers, null);
+			assertTrue(progress.isFinished());
+			assertFalse(Files.exists(base.toPath()));
+		}
+	}
+
+	/**
+	 * 上位ディレクトリを参照するシンボリックリンクを含む階層の並列削除を検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void deleteSymlinkLoop() throws Exception {
+		for (int workers = 1; workers <= 4; workers += 3) {
+			File base = folder.newFolder("loop" + workers);
+			Files.createDirectories(new File(base, "a/b").toPath());
+			Files.write(new File(base, "a/b/f.txt").toPath(), new byte[1]);
+			FileWalkerTest.createLink(new File(base, "a/b/up"), Paths.get("..", ".."));
+			FileProgress progress = FileUtil.delete(base, null, workers, null);
+			assertTrue(progress.isFinished());
+			assertFalse(Files.exists(base.toPath()));
+		}
+	}
+
+	/**
+	 * 基底ディレクトリからの相対パスを取得します。<br>
+	 * @param base 基底ディレクトリ
+	 * @param path 対象パス
+	 * @return 相対パス
+	 */
+	private static String relative(File base, String path) {
+		return base.toPath().relativize(Paths.get(path)).toString();
+	}
+}
@@ -0,0 +1,170 @@
+package org.ideaccum.libs.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.util.FileWalker}の走査処理を検証します。<br>
+ * <p>
+ * シンボリックリンクを作成できない環境ではシンボリックリンクを利用する検証は実施されません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class FileWalkerTest {
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * シンボリックリンクで参照されるディレクトリを含む検証用ディレクトリ階層を作成します。<br>
+	 * <p>
+	 * base/a/a1/a11、base/b/b1の各ディレクトリにファイルを配置し、base/linka1 → a/a1、base/a/linkb → ../bのシンボリックリンクを作成します。<br>
+	 * </p>
+	 * @param base 基底ディレクトリ
+	 * @throws IOException ディレクトリ階層の作成に失敗した場合にスローされます
+	 */
+	static void createLinkedTree(File base) throws IOException {
+		String[] dirs = { "", "a", "a/a1", "a/a1/a11", "b", "b/b1" };
+		for (int i = 0; i <= dirs.length - 1; i++) {
+			File dir = new File(base, dirs[i]);
+			Files.createDirectories(dir.toPath());
+			Files.write(new File(dir, "f1.txt").toPath(), (dirs[i] + "/f1").getBytes("UTF-8"));
+			Files.write(new File(dir, "f2.txt").toPath(), (dirs[i] + "/f2").getBytes("UTF-8"));
+		}
+		createLink(new File(base, "linka1"), Paths.get("a", "a1"));
+		createLink(new File(base, "a/linkb"), Paths.get("..", "b"));
+	}
+
+	/**
+	 * シンボリックリンクを作成します。<br>
+	 * シンボリックリンクを作成できない環境の場合は検証を実施しません。<br>
+	 * @param link シンボリックリンク
+	 * @param target 参照先パス
+	 */
+	static void createLink(File link, Path target) {
+		boolean created;
+		try {
+			Files.createSymbolicLink(link.toPath(), target);
+			created = true;
+		} catch (UnsupportedOperationException | IOException | SecurityException e) {
+			created = false;
+		}
+		assumeTrue(created);
+	}
+
+	/**
+	 * {@link java.io.File#listFiles()}による再帰でディレクトリ配下のパスを収集します。<br>
+	 * シンボリックリンクは参照先を辿り、パス毎に1件として収集します。<br>
+	 * @param dir 対象ディレクトリ
+	 * @param files ファイルパス格納先
+	 * @param dirs ディレクトリパス格納先
+	 */
+	static void collect(File dir, Set<String> files, Set<String> dirs) {
+		File[] children = dir.listFiles();
+		for (int i = 0; i <= children.length - 1; i++) {
+			if (children[i].isDirectory()) {
+				dirs.add(children[i].getPath());
+				collect(children[i], files, dirs);
+			} else {
+				files.add(children[i].getPath());
+			}
+		}
+	}
+
+	/**
+	 * ファイル配列をパス文字列のセットに変換します。<br>
+	 * @param files ファイル配列
+	 * @return パス文字列セット
+	 */
+	private static Set<String> paths(File[] files) {
+		Set<String> result = new TreeSet<>();
+		for (int i = 0; i <= files.length - 1; i++) {
+			assertTrue("duplicate " + files[i], result.add(files[i].getPath()));
+		}
+		return result;
+	}
+
+	/**
+	 * シンボリックリンクで参照されるディレクトリが全ての経路で走査されることを検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void walkSymlinkedDirectories() throws Exception {
+		File base = folder.newFolder("tree");
+		createLinkedTree(base);
+		Set<String> files = new TreeSet<>();
+		Set<String> dirs = new TreeSet<>();
+		collect(base, files, dirs);
+		assertEquals(20, files.size());
+		assertTrue(dirs.contains(new File(base, "a/a1/a11").getPath()));
+		assertTrue(dirs.contains(new File(base, "a/linkb/b1").getPath()));
+
+		for (int parallelism = 1; parallelism <= 4; parallelism += 3) {
+			FileWalker walker = new FileWalker(base).setParallelism(parallelism);
+			assertEquals(files, paths(walker.toArray()));
+			walker.setIncludeFiles(false).setIncludeDirectories(true);
+			assertEquals(dirs, withoutBase(walker.toArray(), base));
+		}
+		Set<String> iterated = new TreeSet<>();
+		for (File file : new FileWalker(base)) {
+			assertTrue(iterated.add(file.getPath()));
+		}
+		assertEquals(files, iterated);
+
+		Set<String> expectedDirs = new TreeSet<>(dirs);
+		expectedDirs.add(base.getPath());
+		assertEquals(expectedDirs, paths(FileUtil.dirs(base, null, true)));
+		assertEquals(files, paths(FileUtil.files(base, null, null, true)));
+	}
+
+	/**
+	 * 基底ディレクトリを除いた走査結果のパス文字列セットを取得します。<br>
+	 * @param files 走査結果
+	 * @param base 基底ディレクトリ
+	 * @return パス文字列セット
+	 */
+	private static Set<String> withoutBase(File[] files, File base) {
+		Set<String> result = paths(files);
+		assertTrue(result.remove(base.getPath()));
+		return result;
+	}
+
+	/**
+	 * 上位ディレクトリを参照するシンボリックリンクで走査が循環しないことを検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void walkSymlinkLoop() throws Exception {
+		File base = folder.newFolder("loop");
+		Files.createDirectories(new File(base, "a/b").toPath());
+		Files.write(new File(base, "a/b/f.txt").toPath(), new byte[1]);
+		createLink(new File(base, "a/b/up"), Paths.get("..", ".."));
+		for (int parallelism = 1; parallelism <= 4; parallelism += 3) {
+			File[] result = new FileWalker(base).setIncludeDirectories(true).setParallelism(parallelism).toArray();
+			Set<String> expected = new HashSet<>(Arrays.asList(base.getPath(), new File(base, "a").getPath(), new File(base, "a/b").getPath(), new File(base, "a/b/f.txt").getPath(), new File(base, "a/b/up").getPath()));
+			assertEquals(expected, new HashSet<>(paths(result)));
+		}
+		assertFalse(new HashSet<>(paths(FileUtil.files(base, null, null, true))).contains(new File(base, "a/b/up/f.txt").getPath()));
+	}
+}
@@ -0,0 +1,180 @@
+package org.ideaccum.libs.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * {@link org.ideaccum.libs.commons.util.StreamUtil}のストリーム間転送処理を検証します。<br>
+ * <p>
+ * 位置を移動できないファイルストリームとして名前付きパイプを利用する為、mkfifoが利用できない環境では名前付きパイプを利用する検証は実施されません。<br>
+ * </p>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class StreamUtilTest {
+
+	/** 検証データバイト長 */
+	private static final int DATA_SIZE = StreamUtil.TRANSFER_BUFFER_SIZE * 3 + 123;
+
+	/** 一時ディレクトリ */
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/** 検証データ */
+	private byte[] data;
+
+	/** 名前付きパイプ書き込みスレッド */
+	private Thread writer;
+
+	/**
+	 * 検証データを準備します。<br>
+	 */
+	@Before
+	public void setUp() {
+		data = new byte[DATA_SIZE];
+		for (int i = 0; i <= data.length - 1; i++) {
+			data[i] = (byte) (i * 31 + 7);
+		}
+		writer = null;
+	}
+
+	/**
+	 * 名前付きパイプ書き込みスレッドの終了を待機します。<br>
+	 * @throws InterruptedException 待機中に割り込みが発生した場合にスローされます
+	 */
+	@After
+	public void tearDown() throws InterruptedException {
+		if (writer != null) {
+			writer.join(10000);
+		}
+	}
+
+	/**
+	 * 検証データを書き込んだ名前付きパイプを作成します。<br>
+	 * 名前付きパイプへの書き込みは読み込み側が開かれるまで待機する為、別スレッドで書き込みます。<br>
+	 * @return 名前付きパイプ
+	 * @throws Exception 名前付きパイプの作成に失敗した場合にスローされます
+	 */
+	private File createFifo() throws Exception {
+		final File fifo = new File(folder.getRoot(), "fifo");
+		int status;
+		try {
+			status = new ProcessBuilder("mkfifo", fifo.getAbsolutePath()).start().waitFor();
+		} catch (IOException e) {
+			status = -1;
+		}
+		assumeTrue(status == 0 && fifo.exists());
+		writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try (OutputStream stream = new FileOutputStream(fifo)) {
+					stream.write(data);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		writer.setDaemon(true);
+		writer.start();
+		return fifo;
+	}
+
+	/**
+	 * 名前付きパイプのファイルストリームからファイルストリームへの転送を検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void pipeFromFifoToFile() throws Exception {
+		File fifo = createFifo();
+		File output = folder.newFile("output");
+		long total;
+		try (FileInputStream is = new FileInputStream(fifo); FileOutputStream os = new FileOutputStream(output)) {
+			total = StreamUtil.pipe(is, os);
+		}
+		assertEquals(DATA_SIZE, total);
+		assertArrayEquals(data, Files.readAllBytes(output.toPath()));
+	}
+
+	/**
+	 * 名前付きパイプのファイルストリームからの読み捨てを検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void pipeFromFifoToNull() throws Exception {
+		File fifo = createFifo();
+		long total;
+		try (FileInputStream is = new FileInputStream(fifo)) {
+			total = StreamUtil.pipe(is, null);
+		}
+		assertEquals(DATA_SIZE, total);
+	}
+
+	/**
+	 * 名前付きパイプのファイルチャネルからチャネルへの転送を検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void pipeChannelFromFifo() throws Exception {
+		File fifo = createFifo();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		long total;
+		try (FileInputStream is = new FileInputStream(fifo)) {
+			total = StreamUtil.pipe(is.getChannel(), Channels.newChannel(output));
+		}
+		assertEquals(DATA_SIZE, total);
+		assertArrayEquals(data, output.toByteArray());
+	}
+
+	/**
+	 * 通常ファイルのファイルストリームからファイルストリームへの転送を検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void pipeFromFileToFile() throws Exception {
+		File input = folder.newFile("input");
+		Files.write(input.toPath(), data);
+		File output = folder.newFile("output");
+		long total;
+		try (FileInputStream is = new FileInputStream(input); FileOutputStream os = new FileOutputStream(output)) {
+			total = StreamUtil.pipe(is, os);
+		}
+		assertEquals(DATA_SIZE, total);
+		assertArrayEquals(data, Files.readAllBytes(output.toPath()));
+	}
+
+	/**
+	 * 通常ファイルのファイルストリームの途中位置からの読み捨てを検証します。<br>
+	 * @throws Exception 検証中に例外が発生した場合にスローされます
+	 */
+	@Test
+	public void pipeFromFileToNull() throws Exception {
+		File input = folder.newFile("input");
+		Files.write(input.toPath(), data);
+		long total;
+		try (FileInputStream is = new FileInputStream(input)) {
+			assertEquals(100, is.skip(100));
+			total = StreamUtil.pipe(is, null);
+			assertEquals(-1, is.read());
+		}
+		assertEquals(DATA_SIZE - 100, total);
+	}
+}
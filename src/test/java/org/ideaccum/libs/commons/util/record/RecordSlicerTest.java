@@ -0,0 +1,66 @@
+package org.ideaccum.libs.commons.util.record;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * {@link org.ideaccum.libs.commons.util.record.RecordSlicer}のバイトバッファへの出力処理を検証します。<br>
+ *
+ *<!--
+ * 更新日      更新者           更新内容
+ * 2026/10/18  Kitagawa         新規作成
+ *-->
+ */
+public class RecordSlicerTest {
+
+	/**
+	 * 検証用のレコード定義(10バイト)から項目値出力インスタンスを生成します。<br>
+	 * @return 項目値出力インスタンス
+	 */
+	private static RecordSlicer createSlicer() {
+		return new RecordLayout("UTF-8").add("code", 0, 4).add("name", 4, 6).slicer("code", "name");
+	}
+
+	/**
+	 * 配列を持つバイトバッファへの出力を検証します。<br>
+	 */
+	@Test
+	public void writeHeapBuffer() {
+		ByteBuffer data = ByteBuffer.allocate(12);
+		data.position(1);
+		createSlicer().write(new Object[] { "A001", "NAME" }, data);
+		assertEquals(1, data.position());
+		assertArrayEquals("\0A001NAME  \0".getBytes(), data.array());
+	}
+
+	/**
+	 * 上限を超えるバイトバッファへの出力で例外がスローされ、上限以降のバイトが変更されないことを検証します。<br>
+	 */
+	@Test
+	public void writeOverflow() {
+		ByteBuffer[] buffers = { ByteBuffer.allocate(16), ByteBuffer.allocateDirect(16) };
+		for (ByteBuffer data : buffers) {
+			byte[] before = new byte[16];
+			Arrays.fill(before, (byte) 0x7F);
+			data.put(before).clear();
+			data.position(2).limit(11);
+			try {
+				createSlicer().write(new Object[] { "A001", "NAME" }, data);
+				fail("BufferOverflowException expected (" + data + ")");
+			} catch (BufferOverflowException e) {
+				// 期待通り
+			}
+			byte[] after = new byte[16];
+			data.clear();
+			data.get(after);
+			assertArrayEquals(before, after);
+		}
+	}
+}